@@ -142,7 +142,7 @@ protected JdbcOperationQueryInsert translateInsert(InsertSelectStatement sqlAst)
 		visitInsertStatement( sqlAst );
 
 		return new JdbcOperationQueryInsertImpl(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getUniqueConstraintNameThatMayFail(sqlAst)
@@ -65,7 +65,7 @@ protected JdbcOperationQueryInsert translateInsert(InsertSelectStatement sqlAst)
 		visitInsertStatement( sqlAst );
 
 		return new JdbcOperationQueryInsertImpl(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				null
@@ -159,7 +159,7 @@ protected JdbcOperationQueryInsert translateInsert(InsertSelectStatement sqlAst)
 		visitInsertStatement( sqlAst );
 
 		return new JdbcOperationQueryInsertImpl(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getUniqueConstraintNameThatMayFail(sqlAst)
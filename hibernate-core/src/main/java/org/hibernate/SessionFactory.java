@@ -11,6 +11,7 @@
 import jakarta.persistence.SynchronizationType;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.TypedQueryReference;
+import jakarta.persistence.criteria.CriteriaQuery;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -19,6 +20,7 @@
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.internal.RootGraphImpl;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.stat.Statistics;
@@ -580,6 +582,49 @@ default boolean containsFetchProfileDefinition(String name) {
 	@Incubating
 	<R> TypedQueryReference<R> addNamedQuery(String name, TypedQuery<R> query);
 
+	/**
+	 * Translate the given HQL selection query to SQL, returning a
+	 * {@linkplain CompiledSelectionQuery compiled query} which may be
+	 * executed repeatedly in any session obtained from this factory.
+	 * <p>
+	 * A compiled query is always executed with the default query options:
+	 * any timeout, fetch size, read-only mode, cache mode, or lock options
+	 * set on the session are ignored. If the session has filters or fetch
+	 * profiles enabled, the query is translated again for that execution.
+	 *
+	 * @param hql the HQL query
+	 * @param resultType the Java type returned in each row of query results
+	 *
+	 * @throws QueryException if the query is not a valid HQL selection query
+	 * @throws org.hibernate.query.QueryTypeMismatchException if the result
+	 * type is incompatible with the query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<R> CompiledSelectionQuery<R> compileSelectionQuery(String hql, Class<R> resultType);
+
+	/**
+	 * Translate the given criteria query to SQL, returning a
+	 * {@linkplain CompiledSelectionQuery compiled query} which may be
+	 * executed repeatedly in any session obtained from this factory.
+	 * Every {@linkplain jakarta.persistence.criteria.CriteriaBuilder#parameter(Class)
+	 * parameter} of the criteria query must have a name.
+	 * <p>
+	 * A compiled query is always executed with the default query options:
+	 * any timeout, fetch size, read-only mode, cache mode, or lock options
+	 * set on the session are ignored. If the session has filters or fetch
+	 * profiles enabled, the query is translated again for that execution.
+	 *
+	 * @param criteria the criteria query, which is copied, so that
+	 *                 subsequent changes to it do not affect the
+	 *                 compiled query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<R> CompiledSelectionQuery<R> compileSelectionQuery(CriteriaQuery<R> criteria);
+
 	/**
 	 * The name assigned to this {@code SessionFactory}, if any.
 	 * <ul>
@@ -4,6 +4,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -25,6 +28,7 @@ public final class CollectionRemoveAction extends CollectionAction {
 
 	private final Object affectedOwner;
 	private final boolean emptySnapshot;
+	private boolean rowsRemoved;
 
 	/**
 	 * Removes a persistent collection from its loaded owner.
@@ -105,7 +109,7 @@ public CollectionRemoveAction(
 	public void execute() throws HibernateException {
 		preRemove();
 		final SharedSessionContractImplementor session = getSession();
-		if ( !emptySnapshot ) {
+		if ( !emptySnapshot && !rowsRemoved ) {
 			// an existing collection that was either nonempty or uninitialized
 			// is replaced by null or a different collection
 			// (if the collection is uninitialized, Hibernate has no way of
@@ -137,6 +141,53 @@ public void execute() throws HibernateException {
 		}
 	}
 
+	/**
+	 * Does this action need to remove the rows of the collection?
+	 */
+	public boolean isRowRemovalNeeded() {
+		return !emptySnapshot && !rowsRemoved;
+	}
+
+	/**
+	 * Remove the rows of the collections of the given actions, which all belong
+	 * to the same collection role, using as few statements as possible, so that
+	 * the actions do not remove them again when executed.
+	 * <p>
+	 * Since the rows are removed before the actions are executed, this must not
+	 * be used if there are {@link PreCollectionRemoveEventListener}s.
+	 *
+	 * @see CollectionPersister#removeAll
+	 */
+	public static void removeRowsInBulk(List<CollectionRemoveAction> actions, SharedSessionContractImplementor session) {
+		final CollectionPersister persister = actions.get( 0 ).getPersister();
+		final Object[] keys = new Object[actions.size()];
+		for ( int i = 0; i < keys.length; i++ ) {
+			final CollectionRemoveAction action = actions.get( i );
+			assert action.getPersister() == persister;
+			keys[i] = action.getKey();
+		}
+
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final List<DiagnosticEvent> events = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			events.add( eventMonitor.beginCollectionRemoveEvent() );
+		}
+		boolean success = false;
+		try {
+			persister.removeAll( keys, session );
+			success = true;
+		}
+		finally {
+			for ( int i = 0; i < keys.length; i++ ) {
+				eventMonitor.completeCollectionRemoveEvent( events.get( i ), keys[i], persister.getRole(), success, session );
+			}
+		}
+
+		for ( CollectionRemoveAction action : actions ) {
+			action.rowsRemoved = true;
+		}
+	}
+
 	private void preRemove() {
 		getEventListenerGroups().eventListenerGroup_PRE_COLLECTION_REMOVE
 				.fireLazyEventOnEachListener( this::newPreCollectionRemoveEvent,
@@ -4,6 +4,9 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.Map;
+
+import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
@@ -11,9 +14,15 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
 
+import static org.hibernate.internal.util.BackgroundWorkHelper.runInBackground;
+import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
+
 /**
  * Responsible for triggering {@linkplain QueryEngine#validateNamedQueries()
- * named query validation} when the {@link SessionFactory} is created.
+ * named query validation} when the {@link SessionFactory} is created, or
+ * in a background thread, if
+ * {@value org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_DEFERRED}
+ * is enabled.
  *
  * @implNote This was added in order to clean up the constructor of
  *           {@link org.hibernate.internal.SessionFactoryImpl}, which
@@ -34,7 +43,30 @@ public void sessionFactoryCreated(SessionFactory factory) {
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
-			queryEngine.validateNamedQueries();
+			if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingDeferred() ) {
+				runInBackground( "Hibernate named query validation", () -> checkNamedQueries( sessionFactory ) );
+			}
+			else {
+				queryEngine.validateNamedQueries();
+			}
+		}
+	}
+
+	private static void checkNamedQueries(SessionFactoryImplementor sessionFactory) {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final Map<String, HibernateException> errors;
+		try {
+			errors = queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
+		}
+		catch (RuntimeException e) {
+			if ( !sessionFactory.isClosed() ) {
+				// there is nobody to propagate the exception to
+				// on this thread, and the factory is already in use
+				QUERY_MESSAGE_LOGGER.errorf( e, "Could not validate named queries" );
+			}
+			// otherwise the factory was closed before we finished
+			return;
 		}
+		errors.forEach( QUERY_MESSAGE_LOGGER::namedQueryError );
 	}
 }
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryWorkloadEntry;
+import org.hibernate.query.sql.internal.NativeQueryImpl;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_INTERPRETATION_WORKLOAD;
+import static org.hibernate.internal.util.BackgroundWorkHelper.forEachInParallel;
+import static org.hibernate.internal.util.BackgroundWorkHelper.runInBackground;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * Responsible for warming up the {@linkplain QueryInterpretationCache query
+ * interpretation cache} with the queries recorded in the file specified by
+ * {@value org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD} when
+ * the {@link SessionFactory} is created, and for recording the queries which
+ * were actually used when it is closed. Only the interpretations of the
+ * queries are cached, not their SQL translations.
+ * <p>
+ * Each line of the file holds a query type, {@code hql} or {@code native},
+ * the name of the expected result type, which may be empty, and the query
+ * string, separated by tabs.
+ */
+class SessionFactoryObserverForQueryWarmUp implements SessionFactoryObserver {
+	private static final Logger log = QueryLogging.subLogger( "interpretation.warmup" );
+
+	private static final String HQL = "hql";
+	private static final String NATIVE = "native";
+
+	private volatile boolean closing;
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path workload = workloadFile( sessionFactory );
+		if ( workload != null && Files.isReadable( workload ) ) {
+			final List<String> lines;
+			try {
+				lines = Files.readAllLines( workload );
+			}
+			catch (IOException e) {
+				log.warnf( e, "Could not read query workload from '%s'", workload );
+				return;
+			}
+			warmUp( sessionFactory, lines );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		closing = true;
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path workload = workloadFile( sessionFactory );
+		if ( workload != null ) {
+			final List<QueryWorkloadEntry> queries =
+					sessionFactory.getQueryEngine().getInterpretationCache().getRecordedQueries();
+			if ( !queries.isEmpty() ) {
+				final List<String> lines = new ArrayList<>( queries.size() );
+				for ( QueryWorkloadEntry query : queries ) {
+					final Class<?> resultType = query.expectedResultType();
+					lines.add( ( query.nativeQuery() ? NATIVE : HQL )
+							+ '\t' + ( resultType == null ? "" : resultType.getName() )
+							+ '\t' + escape( query.queryString() ) );
+				}
+				try {
+					final Path temporary = workload.resolveSibling( workload.getFileName() + ".tmp" );
+					Files.write( temporary, lines );
+					Files.move( temporary, workload, StandardCopyOption.REPLACE_EXISTING );
+				}
+				catch (IOException e) {
+					log.warnf( e, "Could not record query workload to '%s'", workload );
+				}
+			}
+		}
+	}
+
+	private static Path workloadFile(SessionFactoryImplementor sessionFactory) {
+		final String fileName = getString( QUERY_INTERPRETATION_WORKLOAD, sessionFactory.getProperties() );
+		return fileName == null || fileName.isBlank() ? null : Path.of( fileName );
+	}
+
+	/**
+	 * Warm up the cache in the background, using a small pool of threads
+	 * owned by Hibernate, rather than the common pool, which is shared
+	 * with the application.
+	 */
+	private void warmUp(SessionFactoryImplementor sessionFactory, List<String> lines) {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		final int threadCount = sessionFactory.getSessionFactoryOptions().getBackgroundThreadCount();
+		runInBackground( "Hibernate query warm-up", () -> {
+			final long startTime = System.nanoTime();
+			final LongAdder warmedUp = new LongAdder();
+			final LongAdder failures = new LongAdder();
+			forEachInParallel( lines, line -> {
+				if ( !closing ) {
+					try {
+						warmUp( line, sessionFactory, queryEngine, interpretationCache, classLoaderService );
+						warmedUp.increment();
+					}
+					catch (RuntimeException e) {
+						// the query may refer to something which no longer exists
+						failures.increment();
+						log.debugf( e, "Could not warm up query: %s", line );
+					}
+				}
+			}, threadCount, "Hibernate query warm-up" );
+			log.debugf(
+					"Warmed up %s queries in %s ms (%s failed)",
+					warmedUp.sum(),
+					TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS ),
+					failures.sum()
+			);
+		} );
+	}
+
+	private static void warmUp(
+			String line,
+			SessionFactoryImplementor sessionFactory,
+			QueryEngine queryEngine,
+			QueryInterpretationCache interpretationCache,
+			ClassLoaderService classLoaderService) {
+		final String[] fields = line.split( "\t", 3 );
+		final String queryString = unescape( fields[2] );
+		switch ( fields[0] ) {
+			case HQL -> interpretationCache.warmUpHqlInterpretation(
+					queryString,
+					fields[1].isEmpty() ? null : classLoaderService.classForTypeName( fields[1] ),
+					queryEngine.getHqlTranslator()
+			);
+			case NATIVE -> interpretationCache.warmUpNativeQueryParameters(
+					queryString,
+					sql -> NativeQueryImpl.parameterInterpretation( sql, sessionFactory )
+			);
+			default -> throw new IllegalArgumentException( "Unknown query type '" + fields[0] + "'" );
+		}
+	}
+
+	private static String escape(String queryString) {
+		final StringBuilder escaped = new StringBuilder( queryString.length() );
+		for ( int i = 0; i < queryString.length(); i++ ) {
+			final char c = queryString.charAt( i );
+			switch ( c ) {
+				case '\\' -> escaped.append( "\\\\" );
+				case '\t' -> escaped.append( "\\t" );
+				case '\n' -> escaped.append( "\\n" );
+				case '\r' -> escaped.append( "\\r" );
+				default -> escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String escaped) {
+		final StringBuilder queryString = new StringBuilder( escaped.length() );
+		for ( int i = 0; i < escaped.length(); i++ ) {
+			final char c = escaped.charAt( i );
+			if ( c == '\\' && i + 1 < escaped.length() ) {
+				switch ( escaped.charAt( ++i ) ) {
+					case 't' -> queryString.append( '\t' );
+					case 'n' -> queryString.append( '\n' );
+					case 'r' -> queryString.append( '\r' );
+					default -> queryString.append( escaped.charAt( i ) );
+				}
+			}
+			else {
+				queryString.append( c );
+			}
+		}
+		return queryString.toString();
+	}
+}
@@ -54,6 +54,7 @@
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.internal.util.BackgroundWorkHelper;
 import org.hibernate.internal.util.NullnessHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.HibernateHints;
@@ -92,6 +93,7 @@
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_ENTITY_INVALIDATION;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
@@ -172,6 +174,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private final boolean bulkCollectionRemovalEnabled;
+	private final boolean stateValuesExtractorGenerationEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
@@ -192,6 +196,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final Boolean useOfJdbcNamedParametersEnabled;
 	private boolean namedQueryStartupCheckingEnabled;
+	private final boolean namedQueryStartupCheckingDeferred;
+	private final int backgroundThreadCount;
 	private final boolean preferJavaTimeJdbcTypes;
 	private final boolean preferNativeEnumTypes;
 	private final int preferredSqlTypeCodeForBoolean;
@@ -205,6 +211,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheEntityInvalidationEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -216,6 +223,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private int statementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -239,6 +247,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean inClauseArrayParameterEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
@@ -377,6 +386,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		bulkCollectionRemovalEnabled = getBoolean( BULK_COLLECTION_REMOVAL, settings );
+		stateValuesExtractorGenerationEnabled = getBoolean( GENERATE_STATE_VALUES_EXTRACTORS, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -404,6 +415,10 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 
 		namedQueryStartupCheckingEnabled =
 				configurationService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		namedQueryStartupCheckingDeferred =
+				configurationService.getSetting( QUERY_STARTUP_CHECKING_DEFERRED, BOOLEAN, false );
+		backgroundThreadCount =
+				Math.max( 1, getInt( BACKGROUND_THREAD_COUNT, settings, BackgroundWorkHelper.defaultThreadCount() ) );
 
 		preferJavaTimeJdbcTypes = MetadataBuildingContext.isPreferJavaTimeJdbcTypesEnabled( configurationService );
 		preferNativeEnumTypes = MetadataBuildingContext.isPreferNativeEnumTypesEnabled( configurationService );
@@ -425,6 +440,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( QUERY_CACHE_LAYOUT,
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL );
+			queryCacheEntityInvalidationEnabled =
+					configurationService.getSetting( QUERY_CACHE_ENTITY_INVALIDATION, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy( TimestampsCacheFactory.class,
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
@@ -441,6 +458,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheEntityInvalidationEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
@@ -478,6 +496,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		statementCacheSize = getInt( STATEMENT_CACHE_SIZE, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -517,6 +536,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		inClauseArrayParameterEnabled = getBoolean( IN_CLAUSE_ARRAY_PARAMETER, settings );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
 
@@ -988,6 +1008,16 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBulkCollectionRemovalEnabled() {
+		return bulkCollectionRemovalEnabled;
+	}
+
+	@Override
+	public boolean isStateValuesExtractorGenerationEnabled() {
+		return stateValuesExtractorGenerationEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1008,6 +1038,16 @@ public boolean isNamedQueryStartupCheckingEnabled() {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isNamedQueryStartupCheckingDeferred() {
+		return namedQueryStartupCheckingDeferred;
+	}
+
+	@Override
+	public int getBackgroundThreadCount() {
+		return backgroundThreadCount;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -1023,6 +1063,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheEntityInvalidationEnabled() {
+		return queryCacheEntityInvalidationEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1078,6 +1123,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1178,6 +1228,11 @@ public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return inClauseArrayParameterEnabled;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -209,6 +209,16 @@ public boolean isOrderUpdatesEnabled() {
 		return delegate.isOrderUpdatesEnabled();
 	}
 
+	@Override
+	public boolean isBulkCollectionRemovalEnabled() {
+		return delegate.isBulkCollectionRemovalEnabled();
+	}
+
+	@Override
+	public boolean isStateValuesExtractorGenerationEnabled() {
+		return delegate.isStateValuesExtractorGenerationEnabled();
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
@@ -239,6 +249,16 @@ public boolean isNamedQueryStartupCheckingEnabled() {
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isNamedQueryStartupCheckingDeferred() {
+		return delegate.isNamedQueryStartupCheckingDeferred();
+	}
+
+	@Override
+	public int getBackgroundThreadCount() {
+		return delegate.getBackgroundThreadCount();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -264,6 +284,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheEntityInvalidationEnabled() {
+		return delegate.isQueryCacheEntityInvalidationEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -319,6 +344,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return delegate.getStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -438,6 +468,11 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return delegate.inClauseArrayParameterEnabled();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
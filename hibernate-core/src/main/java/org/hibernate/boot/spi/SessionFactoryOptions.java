@@ -30,6 +30,7 @@
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
+import org.hibernate.internal.util.BackgroundWorkHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.spi.QueryEngineOptions;
@@ -295,6 +296,22 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BULK_COLLECTION_REMOVAL
+	 */
+	default boolean isBulkCollectionRemovalEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.BytecodeSettings#GENERATE_STATE_VALUES_EXTRACTORS
+	 *
+	 * @since 7.0
+	 */
+	default boolean isStateValuesExtractorGenerationEnabled() {
+		return false;
+	}
+
 	/**
 	 * Is there a
 	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider
@@ -325,6 +342,30 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * Are named queries validated in the background after the factory is
+	 * created?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_DEFERRED
+	 *
+	 * @since 7.0
+	 */
+	default boolean isNamedQueryStartupCheckingDeferred() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of threads used for work performed in parallel on
+	 * behalf of the factory.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#BACKGROUND_THREAD_COUNT
+	 *
+	 * @since 7.0
+	 */
+	default int getBackgroundThreadCount() {
+		return BackgroundWorkHelper.defaultThreadCount();
+	}
+
 	/**
 	 * Is the {@linkplain org.hibernate.Cache second-level cache} enabled?
 	 *
@@ -347,6 +388,18 @@ default SessionEventListener[] buildSessionEventListeners() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Are cached query results invalidated by the updates and deletions of
+	 * the individual entity instances they contain, instead of by any change
+	 * to the tables they depend on?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isQueryCacheEntityInvalidationEnabled();
+
 	/**
 	 * A factory for the {@link TimestampsCache} used to track invalidation
 	 * of cached query result sets.
@@ -423,6 +476,15 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -571,6 +633,15 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+	 *
+	 * @since 7.0
+	 */
+	default boolean inClauseArrayParameterEnabled() {
+		return false;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
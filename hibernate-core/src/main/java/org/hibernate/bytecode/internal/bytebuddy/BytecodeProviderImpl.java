@@ -18,6 +18,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -31,6 +33,7 @@
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.StateValuesExtractor;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
@@ -48,6 +51,8 @@
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -75,6 +80,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String STATE_VALUES_EXTRACTOR_NAMING_SUFFIX = "HibernateStateValuesExtractor";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -83,6 +89,11 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			"setPropertyValues" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named(
 			"getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> extractStateValuesMethodName = ElementMatchers.named(
+			"extractStateValues" );
+	private static final char JDBC_VALUE = 'J';
+	private static final char UNFETCHED = 'U';
+	private static final char ASSEMBLED = 'A';
 	private static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
 		public Class<?> getDeclaringClass() {
@@ -109,6 +120,9 @@ public boolean isSynthetic() {
 
 	private final ByteBuddyProxyHelper byteBuddyProxyHelper;
 
+	// the generated extractors, by entity name and shape of the state
+	private final ConcurrentMap<String, StateValuesExtractor> stateValuesExtractors = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a ByteBuddy BytecodeProvider instance which attempts to auto-detect the target JVM version
 	 * from the currently running one, with a fallback on Java 11.
@@ -1375,9 +1389,127 @@ public String[] call() {
 		return new EnhancerImpl( enhancementContext, byteBuddyState, classLocator );
 	}
 
+	@Override
+	public StateValuesExtractor getStateValuesExtractor(
+			String entityName,
+			DomainResultAssembler<?>[] assemblers,
+			int[] jdbcValuePositions,
+			int stateArrayLength) {
+		final char[] shape = new char[stateArrayLength];
+		for ( int i = 0; i < stateArrayLength; i++ ) {
+			if ( jdbcValuePositions[i] >= 0 ) {
+				shape[i] = JDBC_VALUE;
+			}
+			else if ( assemblers[i] == null ) {
+				shape[i] = UNFETCHED;
+			}
+			else {
+				shape[i] = ASSEMBLED;
+			}
+		}
+		// A class per entity type, even for equal shapes, so that the
+		// call sites of the assemblers are profiled per entity type
+		return stateValuesExtractors.computeIfAbsent(
+				entityName + '#' + new String( shape ),
+				key -> buildStateValuesExtractor( shape )
+		);
+	}
+
+	private StateValuesExtractor buildStateValuesExtractor(char[] shape) {
+		final Class<?> extractorClass = byteBuddyState.load( StateValuesExtractor.class, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						STATE_VALUES_EXTRACTOR_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( StateValuesExtractor.class.getName() )
+				) )
+				.subclass( Object.class )
+				.implement( StateValuesExtractor.class )
+				.method( extractStateValuesMethodName )
+				.intercept( new Implementation.Simple( new ExtractStateValues( shape ) ) )
+		);
+		try {
+			return (StateValuesExtractor) extractorClass.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * Generates {@link StateValuesExtractor#extractStateValues} for a given shape
+	 * of the state, as an unrolled sequence of assignments of the state array.
+	 */
+	private static class ExtractStateValues implements ByteCodeAppender {
+		// local variable slots of the parameters of extractStateValues()
+		private static final int ROW_PROCESSING_STATE = 1;
+		private static final int ASSEMBLERS = 2;
+		private static final int JDBC_VALUE_POSITIONS = 3;
+		private static final int VALUES = 4;
+
+		private final char[] shape;
+
+		public ExtractStateValues(char[] shape) {
+			this.shape = shape;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < shape.length; index++ ) {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, VALUES );
+				methodVisitor.visitLdcInsn( index );
+				switch ( shape[index] ) {
+					case JDBC_VALUE:
+						// rowProcessingState.getJdbcValue( jdbcValuePositions[index] )
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, ROW_PROCESSING_STATE );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, JDBC_VALUE_POSITIONS );
+						methodVisitor.visitLdcInsn( index );
+						methodVisitor.visitInsn( Opcodes.IALOAD );
+						methodVisitor.visitMethodInsn(
+								Opcodes.INVOKEINTERFACE,
+								Type.getInternalName( RowProcessingState.class ),
+								"getJdbcValue",
+								Type.getMethodDescriptor( Type.getType( Object.class ), Type.INT_TYPE ),
+								true
+						);
+						break;
+					case UNFETCHED:
+						methodVisitor.visitFieldInsn(
+								Opcodes.GETSTATIC,
+								Type.getInternalName( LazyPropertyInitializer.class ),
+								"UNFETCHED_PROPERTY",
+								Type.getDescriptor( Serializable.class )
+						);
+						break;
+					default:
+						// assemblers[index].assemble( rowProcessingState )
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, ASSEMBLERS );
+						methodVisitor.visitLdcInsn( index );
+						methodVisitor.visitInsn( Opcodes.AALOAD );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, ROW_PROCESSING_STATE );
+						methodVisitor.visitMethodInsn(
+								Opcodes.INVOKEINTERFACE,
+								Type.getInternalName( DomainResultAssembler.class ),
+								"assemble",
+								Type.getMethodDescriptor(
+										Type.getType( Object.class ),
+										Type.getType( RowProcessingState.class )
+								),
+								true
+						);
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	@Override
 	public void resetCaches() {
 		byteBuddyState.clearState();
+		stateValuesExtractors.clear();
 	}
 
 }
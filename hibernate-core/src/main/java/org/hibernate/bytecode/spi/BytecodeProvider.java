@@ -6,11 +6,13 @@
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.JavaServiceLoadable;
 import org.hibernate.service.Service;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -20,6 +22,7 @@
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>entity state extraction {@link #getStateValuesExtractor}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -67,6 +70,28 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Retrieve a {@link StateValuesExtractor} generated for the given entity type and
+	 * shape of its state. An attribute is either read from the JDBC value at the given
+	 * position, not fetched, or produced by its assembler.
+	 *
+	 * @param entityName The name of the entity type.
+	 * @param assemblers The assemblers of the attributes, {@code null} for attributes which are not fetched.
+	 * @param jdbcValuePositions The position of the JDBC value which is the state of each attribute, or {@code -1}.
+	 * @param stateArrayLength The number of attributes in the state array.
+	 * @return The extractor, or {@code null} if this provider does not generate extractors.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable StateValuesExtractor getStateValuesExtractor(
+			String entityName,
+			@Nullable DomainResultAssembler<?>[] assemblers,
+			int[] jdbcValuePositions,
+			int stateArrayLength) {
+		return null;
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
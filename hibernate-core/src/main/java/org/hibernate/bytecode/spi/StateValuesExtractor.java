@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Extracts the state of an entity from the current row of a result, for a given
+ * entity type and shape of its state. An implementation is generated by the
+ * {@link BytecodeProvider}, and assigns each element of the state array with its
+ * own instructions, so that the JVM profiles the assembly of each attribute
+ * separately.
+ *
+ * @see BytecodeProvider#getStateValuesExtractor(String, DomainResultAssembler[], int[], int)
+ * @see org.hibernate.cfg.BytecodeSettings#GENERATE_STATE_VALUES_EXTRACTORS
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface StateValuesExtractor {
+	/**
+	 * Populate the state array of an entity from the current row.
+	 *
+	 * @param rowProcessingState The state of the current row.
+	 * @param assemblers The assemblers of the attributes, {@code null} for attributes which are not fetched.
+	 * @param jdbcValuePositions The position of the JDBC value which is the state of each attribute,
+	 * or {@code -1} if the state is produced by the assembler of the attribute.
+	 * @param values The state array to populate.
+	 */
+	void extractStateValues(
+			RowProcessingState rowProcessingState,
+			@Nullable DomainResultAssembler<?>[] assemblers,
+			int[] jdbcValuePositions,
+			Object[] values);
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.action.internal.EntityAction;
+import org.hibernate.action.internal.EntityDeleteAction;
+import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.spi.Executable;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Builds the invalidation keys used for entity-level invalidation of cached
+ * query results, which are stored in the {@linkplain org.hibernate.cache.spi.TimestampsRegion
+ * timestamps region} alongside the invalidation timestamps of the query spaces.
+ * <ul>
+ * <li>The update or deletion of an entity instance invalidates the key of
+ *     that instance.
+ * <li>Any other change to a query space, for example, an insertion, a bulk
+ *     mutation, or a change to a collection table, invalidates the key of
+ *     that query space.
+ * </ul>
+ * <p>
+ * The query spaces themselves are still invalidated by every change, so that
+ * cached results which are not tracked by entity are unaffected.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ENTITY_INVALIDATION
+ *
+ * @since 7.0
+ */
+public final class QueryCacheInvalidationKeys {
+	private QueryCacheInvalidationKeys() {
+	}
+
+	/**
+	 * The number of invalidation keys of each entity hierarchy. Entity
+	 * instances are hashed to these keys by identifier, so that the number
+	 * of entries in the timestamps region, which is usually not configured
+	 * to evict anything, stays bounded however many instances are updated.
+	 * The update of an instance then also invalidates cached results which
+	 * contain an instance with the same key, but never fewer results than
+	 * it should.
+	 */
+	static final int ENTITY_KEYS_PER_HIERARCHY = 1024;
+
+	/**
+	 * The invalidation key of the given entity instance.
+	 */
+	public static Object entityKey(EntityPersister persister, Object id, SharedSessionContractImplementor session) {
+		final int hash = persister.getIdentifierType().getHashCode( id, session.getFactory() );
+		return new EntityBucketKey( persister.getRootEntityName(), Math.floorMod( hash, ENTITY_KEYS_PER_HIERARCHY ) );
+	}
+
+	/**
+	 * The invalidation key recording changes to the given query space, other
+	 * than updates and deletions of individual entity instances.
+	 */
+	public static Object spaceKey(String space) {
+		return new SpaceKey( space );
+	}
+
+	/**
+	 * The invalidation keys of the given query spaces.
+	 */
+	public static List<Object> spaceKeys(Collection<String> spaces) {
+		final List<Object> keys = new ArrayList<>( spaces.size() );
+		for ( String space : spaces ) {
+			keys.add( spaceKey( space ) );
+		}
+		return keys;
+	}
+
+	/**
+	 * Collect the invalidation keys affected by the given executed action.
+	 */
+	public static void collectKeys(
+			Executable action,
+			Set<Object> keys,
+			SharedSessionContractImplementor session) {
+		if ( action instanceof EntityUpdateAction || action instanceof EntityDeleteAction ) {
+			final EntityAction entityAction = (EntityAction) action;
+			keys.add( entityKey( entityAction.getPersister(), entityAction.getId(), session ) );
+		}
+		else {
+			final String[] spaces = action.getPropertySpaces();
+			if ( spaces != null ) {
+				for ( String space : spaces ) {
+					keys.add( spaceKey( space ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determine the invalidation keys of the entity instances making up the
+	 * given query results.
+	 *
+	 * @param results The query results
+	 * @param hasJoinFetches Whether the query fetches associations by join
+	 * @param session The originating session
+	 *
+	 * @return the invalidation keys, or {@code null} if the results cannot be
+	 *         tracked by entity, because they contain values which are not
+	 *         entity instances, or the state of associated entities is stored
+	 *         in the query cache along with the entities
+	 */
+	public static @Nullable Set<Object> resultKeys(
+			List<?> results,
+			boolean hasJoinFetches,
+			SharedSessionContractImplementor session) {
+		final Set<Object> keys = new HashSet<>();
+		for ( Object result : results ) {
+			if ( result instanceof Object[] row ) {
+				for ( Object element : row ) {
+					if ( !addResultKey( element, hasJoinFetches, keys, session ) ) {
+						return null;
+					}
+				}
+			}
+			else if ( !addResultKey( result, hasJoinFetches, keys, session ) ) {
+				return null;
+			}
+		}
+		return keys;
+	}
+
+	private static boolean addResultKey(
+			@Nullable Object value,
+			boolean hasJoinFetches,
+			Set<Object> keys,
+			SharedSessionContractImplementor session) {
+		if ( value == null ) {
+			return true;
+		}
+		final EntityPersister persister;
+		final Object id;
+		final LazyInitializer lazyInitializer = extractLazyInitializer( value );
+		if ( lazyInitializer != null ) {
+			persister = session.getFactory().getMappingMetamodel()
+					.getEntityDescriptor( lazyInitializer.getEntityName() );
+			id = lazyInitializer.getInternalIdentifier();
+		}
+		else {
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( value );
+			if ( entry == null ) {
+				return false;
+			}
+			persister = entry.getPersister();
+			id = entry.getId();
+		}
+		// when the full state of the entity is stored in the query cache,
+		// the state of the entities it fetches by join is stored with it
+		if ( hasJoinFetches && !persister.useShallowQueryCacheLayout() ) {
+			return false;
+		}
+		keys.add( entityKey( persister, id, session ) );
+		return true;
+	}
+
+	private record SpaceKey(String space) implements Serializable {
+	}
+
+	private record EntityBucketKey(String rootEntityName, int bucket) implements Serializable {
+	}
+}
@@ -6,6 +6,9 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -50,6 +53,15 @@ public boolean put(
 			final QueryKey key,
 			final List<?> results,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, results, null, session );
+	}
+
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List<?> results,
+			final Collection<?> invalidationKeys,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( L2CACHE_LOGGER.isDebugEnabled() ) {
 			L2CACHE_LOGGER.debugf( "Caching query results in region: %s; timestamp=%s",
 					cacheRegion.getName(),
@@ -58,7 +70,8 @@ public boolean put(
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				deepCopy( results ),
+				invalidationKeys == null ? null : invalidationKeys.toArray()
 		);
 
 		final EventMonitor eventMonitor = session.getEventMonitor();
@@ -103,7 +116,7 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( cacheItem, spaces, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -136,7 +149,7 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( cacheItem, spaces, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -150,6 +163,30 @@ public List<?> get(
 		return deepCopy( cacheItem.results );
 	}
 
+	private boolean isUpToDate(CacheItem cacheItem, Set<String> spaces, SharedSessionContractImplementor session) {
+		// when the query spaces were not changed, there is no need
+		// to check the entities, even if the results are tracked
+		return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session )
+			|| cacheItem.invalidationKeys != null && areKeysUpToDate( cacheItem, spaces, session );
+	}
+
+	private boolean isUpToDate(CacheItem cacheItem, String[] spaces, SharedSessionContractImplementor session) {
+		return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session )
+			|| cacheItem.invalidationKeys != null && areKeysUpToDate( cacheItem, Arrays.asList( spaces ), session );
+	}
+
+	private boolean areKeysUpToDate(
+			CacheItem cacheItem,
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		// the results are tracked by entity, so check the entities
+		// they contain, along with changes to the query spaces other
+		// than updates and deletions of individual entities
+		final List<Object> keys = QueryCacheInvalidationKeys.spaceKeys( spaces );
+		Collections.addAll( keys, cacheItem.invalidationKeys );
+		return timestampsCache.areKeysUpToDate( keys, cacheItem.timestamp, session );
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		final EventMonitor eventMonitor = session.getEventMonitor();
@@ -178,10 +215,12 @@ public String toString() {
 	static class CacheItem implements Serializable {
 		private final Long timestamp;
 		private final List<?> results;
+		private final Object[] invalidationKeys;
 
-		CacheItem(long timestamp, List<?> results) {
+		CacheItem(long timestamp, List<?> results, Object[] invalidationKeys) {
 			this.timestamp = Long.valueOf( timestamp );
 			this.results = results;
+			this.invalidationKeys = invalidationKeys;
 		}
 	}
 }
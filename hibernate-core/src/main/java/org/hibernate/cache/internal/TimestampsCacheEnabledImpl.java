@@ -4,7 +4,9 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -18,6 +20,8 @@
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Standard implementation of TimestampsCache
  *
@@ -43,68 +47,67 @@ public TimestampsRegion getRegion() {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		preInvalidateKeys( Arrays.asList( spaces ), session );
+	}
+
+	@Override
+	public void preInvalidateKeys(
+			Collection<?> keys,
+			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
-
-		final StatisticsImplementor statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
 		final Long timestamp = regionFactory.nextTimestamp() + regionFactory.getTimeout();
-
-		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-		final boolean debugEnabled = log.isDebugEnabled();
-
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, timestamp );
-			}
-			final EventMonitor eventMonitor = session.getEventMonitor();
-			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, timestamp, session );
-			}
-			finally {
-				eventMonitor.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
-			}
-
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Pre-invalidating spaces %s, timestamp: %s", keys, timestamp );
 		}
+		//put() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		putAll( keys, timestamp, session, EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE );
 	}
 
 	@Override
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
+		invalidateKeys( Arrays.asList( spaces ), session );
+	}
 
+	@Override
+	public void invalidateKeys(
+			Collection<?> keys,
+			SharedSessionContractImplementor session) {
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
-		final boolean debugEnabled = log.isDebugEnabled();
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Invalidating spaces %s, timestamp: %s", keys, ts );
+		}
+		putAll( keys, ts, session, EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE );
+	}
 
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+	/**
+	 * Put the given timestamp for all the given keys, in a single
+	 * operation, since the region might be remote.
+	 */
+	private void putAll(
+			Collection<?> keys,
+			Long timestamp,
+			SharedSessionContractImplementor session,
+			EventMonitor.CacheActionDescription description) {
+		if ( !keys.isEmpty() ) {
+			final Map<Object, Long> entries = mapOfSize( keys.size() );
+			for ( Object key : keys ) {
+				entries.put( key, timestamp );
 			}
-
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			final EventMonitor eventMonitor = session.getEventMonitor();
 			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				if ( entries.size() == 1 ) {
+					timestampsRegion.putIntoCache( keys.iterator().next(), timestamp, session );
+				}
+				else {
+					timestampsRegion.putAllIntoCache( entries, session );
+				}
 			}
 			finally {
 				eventMonitor.completeCachePutEvent(
@@ -112,11 +115,14 @@ public void invalidate(
 						session,
 						timestampsRegion,
 						true,
-						EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE
+						description
 				);
 				eventListenerManager.cachePutEnd();
+			}
 
-				if ( stats ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < entries.size(); i++ ) {
 					statistics.updateTimestampsCachePut();
 				}
 			}
@@ -128,21 +134,45 @@ public boolean isUpToDate(
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		return areKeysUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return areKeysUpToDate( spaces, timestamp, session );
+	}
+
+	@Override
+	public boolean areKeysUpToDate(
+			Collection<?> keys,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+		if ( keys.size() == 1 ) {
+			final Object space = keys.iterator().next();
+			return !isSpaceOutOfDate( space, getLastUpdateTimestampForSpace( space, session ), timestamp, statistics );
+		}
+		else {
+			// a single operation, since the region might be remote
+			final Map<Object, Object> lastUpdates = getLastUpdateTimestampsForSpaces( keys, session );
+			for ( Object space : keys ) {
+				final Long lastUpdate = (Long) lastUpdates.get( space );
+				if ( isSpaceOutOfDate( space, lastUpdate, timestamp, statistics ) ) {
+					return false;
+				}
 			}
+			return true;
 		}
-		return true;
 	}
 
 	private boolean isSpaceOutOfDate(
-			String space,
+			Object space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -166,21 +196,7 @@ private boolean isSpaceOutOfDate(
 		}
 	}
 
-	@Override
-	public boolean isUpToDate(
-			Collection<String> spaces,
-			Long timestamp,
-			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	private Long getLastUpdateTimestampForSpace(Object space, SharedSessionContractImplementor session) {
 		boolean found = false;
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
@@ -196,4 +212,22 @@ private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractI
 		}
 	}
 
+	private Map<Object, Object> getLastUpdateTimestampsForSpaces(
+			Collection<?> spaces,
+			SharedSessionContractImplementor session) {
+		boolean found = false;
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			final Map<Object, Object> timestamps = timestampsRegion.getAllFromCache( spaces, session );
+			found = !timestamps.isEmpty();
+			return timestamps;
+		}
+		finally {
+			eventMonitor.completeCacheGetEvent( cacheGetEvent, session, timestampsRegion, found );
+			session.getEventListenerManager().cacheGetEnd( found );
+		}
+	}
+
 }
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -25,4 +29,38 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Get the values of multiple keys in a single operation. Keys
+	 * with no value are simply absent from the returned map.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key.
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Put multiple values by key in a single operation.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache}
+	 *           for each entry.
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
 }
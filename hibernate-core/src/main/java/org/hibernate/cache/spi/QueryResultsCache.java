@@ -4,10 +4,12 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -52,6 +54,37 @@ boolean put(
 			List<?> result,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Store a result list of a query with the given {@link QueryKey}
+	 * in the query result cache, along with the invalidation keys of
+	 * the entity instances it contains, so that it may be invalidated
+	 * by the updates and deletions of those entity instances instead
+	 * of by any change to its query spaces.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param result The result list to cache
+	 * @param invalidationKeys The {@linkplain TimestampsCache#preInvalidateKeys
+	 *                         invalidation keys} of the entity instances
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean put(
+			QueryKey key,
+			List<?> result,
+			Collection<?> invalidationKeys,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, session );
+	}
+
 	/**
 	 * Attempt to retrieve a cached query result list for the given
 	 * {@link QueryKey} from the {@linkplain QueryResultsRegion cache
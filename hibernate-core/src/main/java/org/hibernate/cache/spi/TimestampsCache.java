@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -65,6 +66,55 @@ boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed invalidation keys against
+	 * the timestamp region data. Unlike query spaces, these keys identify
+	 * individual entity instances, or changes to a query space other than
+	 * updates and deletions of individual entities.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void preInvalidateKeys(
+			Collection<?> keys,
+			SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Perform invalidation of the passed invalidation keys against
+	 * the timestamp region data.
+	 *
+	 * @see #preInvalidateKeys
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void invalidateKeys(
+			Collection<?> keys,
+			SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of invalidation keys
+	 * as part of verifying the validity of cached query results.
+	 * <p>
+	 * By default, cached query results are never considered up-to-date
+	 * with respect to invalidation keys.
+	 *
+	 * @see #preInvalidateKeys
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean areKeysUpToDate(
+			Collection<?> keys,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -0,0 +1,595 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.MappingContext;
+import org.hibernate.type.SerializationException;
+import org.hibernate.type.Type;
+
+/**
+ * The default {@link CacheEntrySerializer}, writing the disassembled state of an
+ * entity using a compact binary encoding driven by the mapping of the entity.
+ * <p>
+ * The encoding of each attribute is determined by its {@linkplain Type type}:
+ * values of the common basic types, including primitive wrappers, strings, byte
+ * arrays, big numbers, UUIDs, and dates and times, are written directly, without
+ * any type information, the disassembled values of embeddables are written
+ * attribute by attribute, and a reference to another entity is written as its
+ * identifier. A value which does not have the Java type expected for its
+ * attribute, for example, because the attribute has a converter, is written
+ * with a tag identifying its type, or, as a last resort, using Java serialization.
+ * <p>
+ * Every entry carries a fingerprint of the mapping of its entity, computed from
+ * the names of its attributes, together with their Java types and JDBC types.
+ * An entry whose fingerprint does not match the current mapping of the entity
+ * is rejected by {@link #deserialize}, and so an entry is always read using the
+ * same mapping as it was written with.
+ *
+ * @since 7.0
+ */
+public class BinaryCacheEntrySerializer implements CacheEntrySerializer {
+	/**
+	 * Singleton access
+	 */
+	public static final BinaryCacheEntrySerializer INSTANCE = new BinaryCacheEntrySerializer();
+
+	private static final byte FORMAT_VERSION = 2;
+
+	// the first byte of each value
+	private static final byte NULL = 0;
+	private static final byte VALUE = 1;
+	private static final byte TAGGED = 2;
+	private static final byte SERIALIZED = 3;
+	private static final byte UNFETCHED = 4;
+	private static final byte UNKNOWN = 5;
+
+	@Override
+	public byte @Nullable [] serialize(CacheEntry entry, SessionFactoryImplementor factory) {
+		if ( entry.isReferenceEntry() ) {
+			return null;
+		}
+		final EntityPersister persister =
+				factory.getMappingMetamodel().findEntityDescriptor( entry.getSubclass() );
+		if ( persister == null ) {
+			return null;
+		}
+		final Serializable[] state = entry.getDisassembledState();
+		final @Nullable ValueCodec[] codecs = stateCodecs( persister, factory );
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 + state.length * 16 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			writeString( output, entry.getSubclass() );
+			output.writeInt( mappingFingerprint( persister ) );
+			writeValue( output, entry.getVersion(), versionCodec( persister, factory ) );
+			output.writeInt( state.length );
+			for ( int i = 0; i < state.length; i++ ) {
+				writeValue( output, state[i], i < codecs.length ? codecs[i] : null );
+			}
+		}
+		catch (IOException e) {
+			throw new SerializationException( "Could not serialize cache entry", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public @Nullable CacheEntry deserialize(byte[] bytes, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			final String subclass = readString( input );
+			final EntityPersister persister = factory.getMappingMetamodel().findEntityDescriptor( subclass );
+			if ( persister == null || input.readInt() != mappingFingerprint( persister ) ) {
+				// the entry was written for a different mapping of the entity
+				return null;
+			}
+			final Object version = readValue( input, versionCodec( persister, factory ), factory );
+			final @Nullable ValueCodec[] codecs = stateCodecs( persister, factory );
+			final Serializable[] state = new Serializable[input.readInt()];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( input, i < codecs.length ? codecs[i] : null, factory );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new SerializationException( "Could not deserialize cache entry", e );
+		}
+	}
+
+	/**
+	 * Compute a fingerprint of the mapping of the given entity, which changes
+	 * whenever an attribute is added, removed, renamed, or changes type.
+	 */
+	public static int mappingFingerprint(EntityPersister persister) {
+		final MappingContext mappingContext = persister.getFactory().getRuntimeMetamodels();
+		int hash = persister.getEntityName().hashCode();
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			hash = 31 * hash + propertyNames[i].hashCode();
+			hash = 31 * hash + typeFingerprint( propertyTypes[i], mappingContext );
+		}
+		if ( persister.isVersioned() ) {
+			hash = 31 * hash + typeFingerprint( persister.getVersionType(), mappingContext );
+		}
+		return hash;
+	}
+
+	private static int typeFingerprint(Type type, MappingContext mappingContext) {
+		int hash = type.getReturnedClass().getName().hashCode();
+		if ( type instanceof BasicType<?> basicType ) {
+			hash = 31 * hash + basicType.getJdbcType().getDefaultSqlTypeCode();
+		}
+		else if ( type instanceof CompositeType compositeType ) {
+			final String[] propertyNames = compositeType.getPropertyNames();
+			final Type[] subtypes = compositeType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				hash = 31 * hash + propertyNames[i].hashCode();
+				hash = 31 * hash + typeFingerprint( subtypes[i], mappingContext );
+			}
+		}
+		else if ( type instanceof EntityType entityType ) {
+			// a reference to an entity is written as its identifier
+			hash = 31 * hash + typeFingerprint( entityType.getIdentifierOrUniqueKeyType( mappingContext ), mappingContext );
+		}
+		return hash;
+	}
+
+	private static @Nullable ValueCodec[] stateCodecs(EntityPersister persister, SessionFactoryImplementor factory) {
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		final @Nullable ValueCodec[] codecs = new ValueCodec[propertyTypes.length];
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			codecs[i] = codec( propertyTypes[i], factory );
+		}
+		return codecs;
+	}
+
+	private static @Nullable ValueCodec versionCodec(EntityPersister persister, SessionFactoryImplementor factory) {
+		return persister.isVersioned() ? codec( persister.getVersionType(), factory ) : null;
+	}
+
+	/**
+	 * Determine the encoding of the disassembled values of the given type, or
+	 * return {@code null} if values of the type are always written with a tag.
+	 */
+	private static @Nullable ValueCodec codec(Type type, SessionFactoryImplementor factory) {
+		if ( type instanceof BasicType<?> basicType ) {
+			final Class<?> javaType = basicType.getJavaTypeDescriptor().getJavaTypeClass();
+			return javaType.isEnum()
+					? new EnumCodec( javaType.asSubclass( Enum.class ) )
+					: BasicCodec.forJavaType( javaType );
+		}
+		else if ( type instanceof CompositeType compositeType ) {
+			final Type[] subtypes = compositeType.getSubtypes();
+			final @Nullable ValueCodec[] codecs = new ValueCodec[subtypes.length];
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				codecs[i] = codec( subtypes[i], factory );
+			}
+			return new CompositeCodec( codecs );
+		}
+		else if ( type instanceof EntityType entityType ) {
+			// a reference to an entity is disassembled to its identifier
+			return codec( entityType.getIdentifierOrUniqueKeyType( factory.getRuntimeMetamodels() ), factory );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static void writeValue(DataOutputStream output, @Nullable Object value, @Nullable ValueCodec codec)
+			throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN );
+		}
+		else if ( codec != null && codec.accepts( value ) ) {
+			output.writeByte( VALUE );
+			codec.write( output, value );
+		}
+		else {
+			final BasicCodec basicCodec = BasicCodec.forJavaType( value.getClass() );
+			if ( basicCodec != null ) {
+				output.writeByte( TAGGED );
+				output.writeByte( basicCodec.ordinal() );
+				basicCodec.write( output, value );
+			}
+			else if ( value instanceof Serializable serializable ) {
+				output.writeByte( SERIALIZED );
+				writeBytes( output, SerializationHelper.serialize( serializable ) );
+			}
+			else {
+				throw new SerializationException( "Value of type '" + value.getClass().getName()
+						+ "' in cache entry is not serializable", null );
+			}
+		}
+	}
+
+	private static @Nullable Object readValue(
+			DataInputStream input,
+			@Nullable ValueCodec codec,
+			SessionFactoryImplementor factory) throws IOException {
+		final byte marker = input.readByte();
+		return switch ( marker ) {
+			case NULL -> null;
+			case UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case VALUE -> {
+				if ( codec == null ) {
+					throw new SerializationException( "Cache entry does not match the mapping of the entity", null );
+				}
+				yield codec.read( input, factory );
+			}
+			case TAGGED -> {
+				final byte tag = input.readByte();
+				if ( tag < 0 || tag >= BasicCodec.VALUES.length ) {
+					throw new SerializationException( "Unknown value tag in cache entry: " + tag, null );
+				}
+				yield BasicCodec.VALUES[tag].read( input, factory );
+			}
+			case SERIALIZED -> SerializationHelper.deserialize( readBytes( input ), classLoader( factory ) );
+			default -> throw new SerializationException( "Unknown value marker in cache entry: " + marker, null );
+		};
+	}
+
+	/**
+	 * The encoding of the disassembled values of an attribute type.
+	 */
+	private interface ValueCodec {
+		/**
+		 * Is the given value of the Java type expected by this encoding?
+		 */
+		boolean accepts(Object value);
+
+		void write(DataOutputStream output, Object value) throws IOException;
+
+		Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException;
+	}
+
+	/**
+	 * The encoding of the disassembled state of an embeddable, which is an array
+	 * holding the disassembled values of its attributes.
+	 */
+	private record CompositeCodec(@Nullable ValueCodec[] codecs) implements ValueCodec {
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == Object[].class && ( (Object[]) value ).length == codecs.length;
+		}
+
+		@Override
+		public void write(DataOutputStream output, Object value) throws IOException {
+			final Object[] array = (Object[]) value;
+			for ( int i = 0; i < codecs.length; i++ ) {
+				writeValue( output, array[i], codecs[i] );
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+			final Object[] array = new Object[codecs.length];
+			for ( int i = 0; i < codecs.length; i++ ) {
+				array[i] = readValue( input, codecs[i], factory );
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * The encoding of the values of an enumerated type, by name, since the
+	 * mapping fingerprint does not depend on the order of the constants.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private record EnumCodec(Class<? extends Enum> enumClass) implements ValueCodec {
+		@Override
+		public boolean accepts(Object value) {
+			return enumClass.isInstance( value );
+		}
+
+		@Override
+		public void write(DataOutputStream output, Object value) throws IOException {
+			writeString( output, ( (Enum<?>) value ).name() );
+		}
+
+		@Override
+		public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+			return Enum.valueOf( enumClass, readString( input ) );
+		}
+	}
+
+	/**
+	 * The encodings of the values of basic types. The ordinal of each constant
+	 * is written as the tag of a value which is not of the Java type expected
+	 * for its attribute, and so constants may only be added at the end.
+	 */
+	private enum BasicCodec implements ValueCodec {
+		BOOLEAN( Boolean.class, boolean.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeBoolean( (Boolean) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readBoolean();
+			}
+		},
+		BYTE( Byte.class, byte.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeByte( (Byte) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readByte();
+			}
+		},
+		SHORT( Short.class, short.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeShort( (Short) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readShort();
+			}
+		},
+		INTEGER( Integer.class, int.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeInt( (Integer) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readInt();
+			}
+		},
+		LONG( Long.class, long.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeLong( (Long) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readLong();
+			}
+		},
+		FLOAT( Float.class, float.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeFloat( (Float) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readFloat();
+			}
+		},
+		DOUBLE( Double.class, double.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeDouble( (Double) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readDouble();
+			}
+		},
+		CHARACTER( Character.class, char.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeChar( (Character) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return input.readChar();
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				writeString( output, (String) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return readString( input );
+			}
+		},
+		BYTES( byte[].class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				writeBytes( output, (byte[]) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return readBytes( input );
+			}
+		},
+		BIG_INTEGER( BigInteger.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				writeBytes( output, ( (BigInteger) value ).toByteArray() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return new BigInteger( readBytes( input ) );
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				final BigDecimal bigDecimal = (BigDecimal) value;
+				output.writeInt( bigDecimal.scale() );
+				writeBytes( output, bigDecimal.unscaledValue().toByteArray() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				final int scale = input.readInt();
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+		},
+		UUID_VALUE( UUID.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				final UUID uuid = (UUID) value;
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return new UUID( input.readLong(), input.readLong() );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return LocalDate.ofEpochDay( input.readLong() );
+			}
+		},
+		LOCAL_TIME( LocalTime.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				output.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				return LocalTime.ofNanoOfDay( input.readLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				final LocalDateTime localDateTime = (LocalDateTime) value;
+				output.writeLong( localDateTime.toLocalDate().toEpochDay() );
+				output.writeLong( localDateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				final LocalDate date = LocalDate.ofEpochDay( input.readLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readLong() ) );
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			public void write(DataOutputStream output, Object value) throws IOException {
+				final Instant instant = (Instant) value;
+				output.writeLong( instant.getEpochSecond() );
+				output.writeInt( instant.getNano() );
+			}
+
+			@Override
+			public Object read(DataInputStream input, SessionFactoryImplementor factory) throws IOException {
+				final long seconds = input.readLong();
+				return Instant.ofEpochSecond( seconds, input.readInt() );
+			}
+		};
+
+		private static final BasicCodec[] VALUES = values();
+
+		private static final ClassValue<@Nullable BasicCodec> BY_JAVA_TYPE = new ClassValue<>() {
+			@Override
+			protected @Nullable BasicCodec computeValue(Class<?> javaType) {
+				for ( BasicCodec codec : VALUES ) {
+					if ( codec.valueType == javaType || codec.primitiveType == javaType ) {
+						return codec;
+					}
+				}
+				return null;
+			}
+		};
+
+		private final Class<?> valueType;
+		private final @Nullable Class<?> primitiveType;
+
+		BasicCodec(Class<?> valueType) {
+			this( valueType, null );
+		}
+
+		BasicCodec(Class<?> valueType, @Nullable Class<?> primitiveType) {
+			this.valueType = valueType;
+			this.primitiveType = primitiveType;
+		}
+
+		private static @Nullable BasicCodec forJavaType(Class<?> javaType) {
+			return BY_JAVA_TYPE.get( javaType );
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == valueType;
+		}
+	}
+
+	private static ClassLoader classLoader(SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry().requireService( ClassLoaderService.class )
+				.workWithClassLoader( classLoader -> classLoader );
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		writeBytes( output, string.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Strategy for converting entity {@linkplain CacheEntry cache entries} to and
+ * from bytes, for use by cache providers which store entries in serialized form,
+ * for example, off-heap or remotely.
+ * <p>
+ * The {@linkplain BinaryCacheEntrySerializer default implementation} writes a
+ * compact binary representation of the disassembled state, and is tied to the
+ * mapping of the entity, so that an entry written for a different mapping of the
+ * entity is rejected instead of being assembled into the wrong attributes.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_ENTRY_SERIALIZER
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface CacheEntrySerializer {
+	/**
+	 * Serialize the given cache entry.
+	 *
+	 * @param entry The cache entry
+	 * @param factory The session factory
+	 *
+	 * @return The serialized form of the entry, or {@code null} if this
+	 *         serializer is not able to handle the given entry
+	 */
+	byte @Nullable [] serialize(CacheEntry entry, SessionFactoryImplementor factory);
+
+	/**
+	 * Deserialize a cache entry previously serialized by {@link #serialize}.
+	 *
+	 * @param bytes The serialized form of the entry
+	 * @param factory The session factory
+	 *
+	 * @return The cache entry, or {@code null} if the entry is stale, that is,
+	 *         if it was written for a different mapping of the entity, in which
+	 *         case the entry should be treated as a cache miss
+	 */
+	@Nullable CacheEntry deserialize(byte[] bytes, SessionFactoryImplementor factory);
+}
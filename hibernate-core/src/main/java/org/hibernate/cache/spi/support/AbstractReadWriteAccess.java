@@ -5,8 +5,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -97,6 +100,36 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #get}, retrieving the items from the underlying storage in a
+	 * single operation.  Unreadable items are excluded from the returned map.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting %s cached data items from region [`%s` (%s)]", keys.size(), getRegion().getName(), getAccessType() );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> result = new HashMap<>( items.size() );
+			final long txTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( txTimestamp ) ) {
+					result.put( entry.getKey(), item.getValue() );
+				}
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Cache hits : region = `%s`, requested = %s, readable = %s", getRegion().getName(), keys.size(), result.size() );
+			}
+			return result;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -277,7 +310,7 @@ public final static class Item implements Serializable, Lockable {
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -318,6 +351,14 @@ public Object getValue() {
 			return value;
 		}
 
+		public Object getVersion() {
+			return version;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_TIME_TO_LIVE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A bounded, in-process "near cache" tier layered in front of the
+ * {@link DomainDataStorageAccess} of a second-level cache region,
+ * typically one backed by a remote store, so that repeated reads
+ * of the same entry avoid a network round-trip and deserialization.
+ * <p>
+ * The near tier is write-through, and is kept consistent with the
+ * local changes made by Hibernate: every put, removal, or eviction is
+ * applied to the near tier as well as to the underlying storage.
+ * <ul>
+ * <li>Soft locks held by {@code read-write} regions are never kept in
+ *     the near tier, so that a locked entry is always read from the
+ *     underlying storage, and a lock evicts any near copy of the entry.
+ * <li>A near copy of a {@code read-write} item is never replaced by an
+ *     older item, according to the timestamps of the two items.
+ * <li>A value read from the underlying storage is not kept in the near
+ *     tier if some entry was removed, evicted, or locked while it was
+ *     being read, since the value might then already be stale.
+ * </ul>
+ * <p>
+ * Changes made by other nodes are only visible once the near copy of
+ * an entry expires, and so a {@linkplain #getTimeToLive() time to live}
+ * should be specified when the underlying storage is shared between
+ * several nodes.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TIME_TO_LIVE
+ *
+ * @since 7.0
+ */
+@Incubating
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final long timeToLive;
+	private final BoundedConcurrentHashMap<Object, NearEntry> entries;
+
+	/**
+	 * Incremented by every removal, eviction, or lock, after it is applied
+	 * to the underlying storage, and before it is applied to the near tier.
+	 */
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * @param delegate The storage access of the underlying cache
+	 * @param maxEntries The maximum number of entries held in the near tier
+	 * @param timeToLive The number of milliseconds for which an entry is held
+	 *                   in the near tier, or {@code 0} if entries do not expire
+	 */
+	public NearCacheStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLive) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "Maximum number of near cache entries must be positive" );
+		}
+		this.delegate = delegate;
+		this.timeToLive = timeToLive;
+		this.entries = new BoundedConcurrentHashMap<>(
+				maxEntries,
+				16,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+	}
+
+	/**
+	 * Wrap the given storage access in a near cache tier, if one is
+	 * configured for the named region.
+	 *
+	 * @param storageAccess The storage access of the underlying cache
+	 * @param regionName The (unqualified) name of the region
+	 * @param configValues The configuration settings
+	 *
+	 * @return a {@code NearCacheStorageAccess}, or the given storage access
+	 *         if no near cache is configured for the region
+	 */
+	public static DomainDataStorageAccess wrapIfConfigured(
+			DomainDataStorageAccess storageAccess,
+			String regionName,
+			Map<String, Object> configValues) {
+		final int maxEntries = getInt(
+				regionSetting( NEAR_CACHE_MAX_ENTRIES, regionName ),
+				configValues,
+				getInt( NEAR_CACHE_MAX_ENTRIES, configValues, 0 )
+		);
+		if ( maxEntries <= 0 ) {
+			return storageAccess;
+		}
+		else {
+			final int timeToLive = getInt(
+					regionSetting( NEAR_CACHE_TIME_TO_LIVE, regionName ),
+					configValues,
+					getInt( NEAR_CACHE_TIME_TO_LIVE, configValues, 0 )
+			);
+			return new NearCacheStorageAccess( storageAccess, maxEntries, timeToLive );
+		}
+	}
+
+	private static String regionSetting(String setting, String regionName) {
+		return setting + '.' + regionName;
+	}
+
+	/**
+	 * The storage access of the underlying cache.
+	 */
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * The number of milliseconds for which an entry is held in the
+	 * near tier, or {@code 0} if entries do not expire.
+	 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * The number of look-ups satisfied by the near tier.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of look-ups which were not satisfied by the near tier,
+	 * and were passed on to the underlying cache.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * The number of entries currently held in the near tier.
+	 */
+	public int getEntryCount() {
+		return entries.size();
+	}
+
+	/**
+	 * Reset the hit and miss counts.
+	 */
+	public void clearStatistics() {
+		hitCount.reset();
+		missCount.reset();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object nearValue = getNear( key );
+		if ( nearValue != null ) {
+			hitCount.increment();
+			return nearValue;
+		}
+		else {
+			missCount.increment();
+			final long invalidations = invalidationCount.get();
+			final Object value = delegate.getFromCache( key, session );
+			putLoaded( key, value, expiry(), invalidations );
+			return value;
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		final List<Object> missingKeys = new ArrayList<>();
+		for ( Object key : keys ) {
+			final Object nearValue = getNear( key );
+			if ( nearValue != null ) {
+				hitCount.increment();
+				result.put( key, nearValue );
+			}
+			else {
+				missCount.increment();
+				missingKeys.add( key );
+			}
+		}
+		if ( !missingKeys.isEmpty() ) {
+			final long invalidations = invalidationCount.get();
+			final Map<Object, Object> loaded = delegate.getAllFromCache( missingKeys, session );
+			final long expiry = expiry();
+			for ( Map.Entry<Object, Object> entry : loaded.entrySet() ) {
+				putLoaded( entry.getKey(), entry.getValue(), expiry, invalidations );
+			}
+			result.putAll( loaded );
+		}
+		return result;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, value, session );
+		putNear( key, value );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putFromLoad( key, value, session );
+		putNear( key, value );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		delegate.putAllIntoCache( values, session );
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			putNear( entry.getKey(), entry.getValue() );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+		invalidationCount.incrementAndGet();
+		entries.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+		invalidationCount.incrementAndGet();
+		entries.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getNear( key ) != null || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+		invalidationCount.incrementAndGet();
+		entries.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+		invalidationCount.incrementAndGet();
+		entries.remove( key );
+	}
+
+	@Override
+	public void release() {
+		entries.clear();
+		delegate.release();
+	}
+
+	private Object getNear(Object key) {
+		final NearEntry entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		else if ( entry.isExpired() ) {
+			entries.remove( key, entry );
+			return null;
+		}
+		else {
+			return entry.value;
+		}
+	}
+
+	/**
+	 * Keep a value read from the underlying storage in the near tier,
+	 * unless some entry was invalidated since the read began. The count
+	 * is checked again after the put, since an invalidation may happen
+	 * between the check and the put, and then the invalidation either
+	 * removes the entry, or happens before the second check.
+	 */
+	private void putLoaded(Object key, Object value, long expiry, long invalidations) {
+		if ( value != null && isNearCacheable( value ) && invalidationCount.get() == invalidations ) {
+			final NearEntry entry = new NearEntry( value, expiry );
+			// never overwrite a value put concurrently by this node
+			if ( entries.putIfAbsent( key, entry ) == null
+					&& invalidationCount.get() != invalidations ) {
+				entries.remove( key, entry );
+			}
+		}
+	}
+
+	private void putNear(Object key, Object value) {
+		if ( value == null || !isNearCacheable( value ) ) {
+			// the entry is locked, or otherwise
+			// no longer valid in the near tier
+			invalidationCount.incrementAndGet();
+			entries.remove( key );
+		}
+		else {
+			final NearEntry newEntry = new NearEntry( value, expiry() );
+			entries.compute( key, (k, existing) -> isOlder( value, existing ) ? existing : newEntry );
+		}
+	}
+
+	/**
+	 * Soft locks of read-write regions are mutable, and their state must
+	 * always be read from the underlying cache.
+	 */
+	private static boolean isNearCacheable(Object value) {
+		return !( value instanceof AbstractReadWriteAccess.Lockable )
+			|| value instanceof AbstractReadWriteAccess.Item;
+	}
+
+	/**
+	 * Is the given value a read-write item older than the item already
+	 * held in the near tier?
+	 */
+	private static boolean isOlder(Object value, NearEntry existing) {
+		return existing != null
+			&& !existing.isExpired()
+			&& value instanceof AbstractReadWriteAccess.Item item
+			&& existing.value instanceof AbstractReadWriteAccess.Item existingItem
+			&& item.getTimestamp() < existingItem.getTimestamp();
+	}
+
+	private long expiry() {
+		return timeToLive > 0 ? System.currentTimeMillis() + timeToLive : Long.MAX_VALUE;
+	}
+
+	private record NearEntry(Object value, long expiry) {
+		boolean isExpired() {
+			return expiry != Long.MAX_VALUE && System.currentTimeMillis() > expiry;
+		}
+	}
+}
@@ -26,12 +26,29 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				buildDomainDataStorageAccess( regionConfig, buildingContext ),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
 	}
 
+	/**
+	 * Create the {@link DomainDataStorageAccess} for a domain data region, layering a
+	 * {@linkplain NearCacheStorageAccess near cache} in front of it if one is configured
+	 * for the region.
+	 *
+	 * @since 7.0
+	 */
+	protected DomainDataStorageAccess buildDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return NearCacheStorageAccess.wrapIfConfigured(
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				regionConfig.getRegionName(),
+				buildingContext.getSessionFactory().getProperties()
+		);
+	}
+
 	protected CacheKeysFactory getImplicitCacheKeysFactory() {
 		return DefaultCacheKeysFactory.INSTANCE;
 	}
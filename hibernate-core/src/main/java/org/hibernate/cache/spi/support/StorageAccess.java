@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -26,6 +30,42 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get multiple items from the cache in a single operation.
+	 * Keys for which there is no cached item are simply absent
+	 * from the returned map.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key. Providers backed by a remote store
+	 *           should override this to perform a single round-trip.
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Put multiple items into the cache in a single operation.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache}
+	 *           for each entry.
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
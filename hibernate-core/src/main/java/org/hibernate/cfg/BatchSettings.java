@@ -55,6 +55,29 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable removal of the rows of several collections of the same role, which are
+	 * removed during a flush, for example because their owners are deleted, using a
+	 * single statement restricted by a list or array of collection keys, instead of
+	 * one statement per collection.
+	 * <p>
+	 * Only collections mapped to a collection table with a single key column, that is,
+	 * element collections and many-to-many associations, are affected. The keys are
+	 * bound as a single array if the dialect supports arrays, and otherwise in chunks
+	 * sized by the {@linkplain org.hibernate.dialect.Dialect#getBatchLoadSizingStrategy
+	 * batch load sizing strategy} of the dialect.
+	 * <p>
+	 * Since a pre-remove listener must be notified before the rows of each collection
+	 * are removed, registering any {@link org.hibernate.event.spi.PreCollectionRemoveEventListener}
+	 * disables this feature entirely. In particular, Envers registers such a listener,
+	 * so the setting has no effect in applications using Envers.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BULK_COLLECTION_REMOVAL = "hibernate.jdbc.bulk_collection_removal";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -57,4 +57,21 @@ public interface BytecodeSettings {
 	@SuppressWarnings("DeprecatedIsStillUsed")
 	@Deprecated(forRemoval = true)
 	String ENHANCER_ENABLE_LAZY_INITIALIZATION = "hibernate.enhancer.enableLazyInitialization";
+
+	/**
+	 * When enabled, the state of an entity read from a result set is extracted by a
+	 * {@link org.hibernate.bytecode.spi.StateValuesExtractor} generated by the
+	 * {@link org.hibernate.bytecode.spi.BytecodeProvider} for each entity type and
+	 * shape of its state, instead of by a loop over the assemblers of its attributes
+	 * shared by all entity types.
+	 * <p>
+	 * The generated code is specific to an entity type, so that the JVM can
+	 * specialize the assembly of each attribute separately. A class is generated
+	 * lazily, the first time a result with a given shape is read.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String GENERATE_STATE_VALUES_EXTRACTORS = "hibernate.bytecode.generate_state_values_extractors";
 }
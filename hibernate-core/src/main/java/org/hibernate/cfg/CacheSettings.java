@@ -107,6 +107,31 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, a cached query result set whose rows consist only of entity
+	 * instances records the identifiers of those entities, and is invalidated when
+	 * one of those entity instances is updated or deleted, rather than whenever any
+	 * row of a table it depends on is updated or deleted. Insertions, bulk mutations,
+	 * and changes to collection tables still invalidate every cached query result
+	 * set depending on the affected tables, as do all changes for query result sets
+	 * containing scalar values.
+	 * <p>
+	 * The identifiers are hashed to a fixed number of invalidation keys for each
+	 * entity hierarchy, so that the number of entries this adds to the timestamps
+	 * region is bounded. Occasionally, an update therefore also invalidates a cached
+	 * query result set containing a different entity instance.
+	 * <p>
+	 * This setting is only appropriate when the updates made to the entities do not
+	 * affect which entities are returned by the cached queries, or in what order,
+	 * for example, when the queries only restrict and sort by immutable attributes.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_ENTITY_INVALIDATION = "hibernate.cache.query_cache_entity_invalidation";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -210,6 +235,63 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.entry.CacheEntrySerializer} used by
+	 * second-level cache implementations which store entity cache entries in serialized
+	 * form, either:
+	 * <ul>
+	 *     <li>an instance of {@link org.hibernate.cache.spi.entry.CacheEntrySerializer},
+	 *     <li>a {@link Class} implementing {@link org.hibernate.cache.spi.entry.CacheEntrySerializer}, or
+	 *     <li>the name of a class implementing {@link org.hibernate.cache.spi.entry.CacheEntrySerializer}.
+	 * </ul>
+	 *
+	 * @settingDefault {@link org.hibernate.cache.spi.entry.BinaryCacheEntrySerializer}
+	 *
+	 * @since 7.0
+	 */
+	String CACHE_ENTRY_SERIALIZER = "hibernate.cache.entry_serializer";
+
+	/**
+	 * The maximum number of entries held in the in-process
+	 * {@linkplain org.hibernate.cache.spi.support.NearCacheStorageAccess near cache}
+	 * layered in front of each entity, collection, or natural id region. The near
+	 * cache is most useful when the second-level cache is a remote store.
+	 * <p>
+	 * The setting may be overridden for a specific region by appending the
+	 * (unqualified) name of the region, for example,
+	 * {@code hibernate.cache.near_cache.max_entries.com.acme.Book}.
+	 * <p>
+	 * A value of {@code 0} disables the near cache.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see #NEAR_CACHE_TIME_TO_LIVE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The number of milliseconds for which an entry is held in the
+	 * {@linkplain org.hibernate.cache.spi.support.NearCacheStorageAccess near cache},
+	 * bounding the time for which changes made by other nodes sharing the
+	 * second-level cache are not visible.
+	 * <p>
+	 * The setting may be overridden for a specific region by appending the
+	 * (unqualified) name of the region.
+	 * <p>
+	 * A value of {@code 0} means that entries do not expire.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache.ttl";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -404,6 +404,23 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@link java.sql.PreparedStatement}s kept open by a
+	 * session for reuse when the same SQL is executed again, for drivers which do
+	 * not cache prepared statements themselves. If {@code 0}, every execution of a
+	 * statement prepares a new {@code PreparedStatement}.
+	 * <p>
+	 * The cached statements are closed when the JDBC connection is released, so this
+	 * setting has no effect when the connection is released after each statement.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getReuseStatementCount()
+	 *
+	 * @since 7.0
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -138,6 +138,23 @@ public interface MappingSettings {
 	 */
 	String TABLE_GENERATOR_STORE_LAST_USED = "hibernate.id.generator.stored_last_used";
 
+	/**
+	 * Determines if {@linkplain jakarta.persistence.TableGenerator table generators} lease
+	 * adaptively sized ranges of values from the database table, and hand them out without
+	 * further access to the table, instead of obtaining a block of values via the
+	 * {@linkplain org.hibernate.id.enhanced.Optimizer optimizer}.
+	 * <p>
+	 * The setting may be overridden for a single generator using the generator parameter
+	 * {@value org.hibernate.id.enhanced.TableGenerator#LEASE_SEGMENT_PARAM}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.id.enhanced.TableGenerator#LEASE_SEGMENT_PARAM
+	 *
+	 * @since 7.0
+	 */
+	String TABLE_GENERATOR_LEASE_SEGMENT = "hibernate.id.generator.lease_segment";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
@@ -176,6 +176,25 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * The maximum number of threads which Hibernate uses for work it performs
+	 * in parallel on behalf of a {@link org.hibernate.SessionFactory}, for
+	 * example, {@linkplain QuerySettings#QUERY_STARTUP_CHECKING checking named
+	 * queries}, or {@linkplain QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 * warming up query interpretations}. These threads are owned by Hibernate,
+	 * and only live for the duration of the work. A value of {@code 1} means
+	 * that such work is not parallelized.
+	 *
+	 * @settingDefault The number of available processors, but no more than
+	 *                 {@value org.hibernate.internal.util.BackgroundWorkHelper#DEFAULT_MAX_THREADS}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getBackgroundThreadCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BACKGROUND_THREAD_COUNT = "hibernate.background_thread_count";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -99,6 +99,28 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, and {@value #QUERY_STARTUP_CHECKING} is also enabled,
+	 * specifies that named queries be checked in a background thread after
+	 * the {@link org.hibernate.SessionFactory} is created, instead of while it
+	 * is being created. Errors are logged, and do not prevent the use of the
+	 * {@code SessionFactory}. A broken named query is also reported when it is
+	 * first used.
+	 * <p>
+	 * When disabled, a broken named query causes creation of the
+	 * {@code SessionFactory} to fail, which is usually preferable in test
+	 * environments.
+	 *
+	 * @settingDefault {@code false} (disabled) - named queries are checked
+	 *                 while the {@code SessionFactory} is created.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isNamedQueryStartupCheckingDeferred()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECKING_DEFERRED = "hibernate.query.startup_check_deferred";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -181,6 +203,20 @@ public interface QuerySettings {
 	 * {@link jakarta.persistence.EntityManager#createQuery(CriteriaDelete)} cache
 	 * their interpretations in the query plan cache.
 	 * <p>
+	 * The plan of a criteria query is cached under a key determined by the
+	 * structure of the query, so that distinct criteria query objects with
+	 * the same structure share the same plan, even when different values are
+	 * bound to their parameters, or passed as arguments to the operations of
+	 * the {@link jakarta.persistence.criteria.CriteriaBuilder}. Combined with
+	 * disabling {@value #CRITERIA_COPY_TREE}, this allows a dynamically built
+	 * criteria query to be executed without copying its tree or translating it
+	 * to SQL.
+	 * <p>
+	 * Note that computing the key is not free: the whole query tree is rendered
+	 * as HQL every time the query is executed. This is usually much cheaper than
+	 * translating the query to SQL, but for a simple query which is built and
+	 * executed only once, it may cost more than it saves.
+	 * <p>
 	 * If disabled, queries are interpreted on first access without caching.
 	 *
 	 * @settingDefault {@code false} (disabled) - criteria queries do not use query plan caching.
@@ -270,6 +306,33 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, specifies that an {@code IN} predicate whose list is a single
+	 * parameter with a multi-valued binding, for example {@code where id in :ids},
+	 * should be rendered with a single bind parameter of SQL array type, instead
+	 * of with one bind parameter per argument. The SQL statement is then the same
+	 * no matter how many arguments are bound to the parameter.
+	 * <p>
+	 * This setting only takes effect if the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * uses arrays for multi-valued parameters}, and if the left operand of the
+	 * {@code IN} predicate is of basic type, without a converter. Otherwise, the
+	 * parameter is expanded as usual.
+	 * <p>
+	 * When this setting takes effect, queries with multi-valued parameters are
+	 * stored in the {@linkplain #QUERY_PLAN_CACHE_ENABLED query plan cache}, and
+	 * their translation to SQL is reused as long as no multi-valued parameter had
+	 * to be expanded.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -305,6 +368,31 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies a file in which the HQL and native queries interpreted while
+	 * the {@link org.hibernate.SessionFactory} is open are recorded when it is
+	 * closed. When the {@code SessionFactory} is next started, the recorded
+	 * queries are interpreted in parallel, in background threads, so that the
+	 * parsed and semantically analyzed form of each HQL query, and the
+	 * parameter interpretation of each native query, are already cached when
+	 * the query is first used.
+	 * <p>
+	 * Only the interpretation of the query is warmed up. The translation of
+	 * an HQL query to SQL depends on the session which executes it, and so
+	 * it still happens on the first execution of the query.
+	 * <p>
+	 * Queries which no longer compile, for example, because the domain model
+	 * has changed, are ignored by the warm-up. Criteria queries are not
+	 * recorded.
+	 *
+	 * @see org.hibernate.stat.Statistics#getWarmedUpQueryUseCount()
+	 * @see org.hibernate.query.spi.QueryInterpretationCache#getWarmUpCoverage()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_INTERPRETATION_WORKLOAD = "hibernate.query.interpretation_workload";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
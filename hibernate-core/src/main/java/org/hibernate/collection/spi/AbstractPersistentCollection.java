@@ -8,11 +8,13 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -34,6 +36,7 @@
 import org.hibernate.internal.util.MarkerObject;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.persister.collection.CollectionPage;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
 import org.hibernate.type.BasicType;
@@ -70,6 +73,7 @@
 	private transient boolean directlyAccessible;
 	private @Nullable Object owner;
 	private int cachedSize = -1;
+	private transient @Nullable Map<Object, Boolean> cachedElementExistence;
 
 	private @Nullable String role;
 	private @Nullable Object key;
@@ -129,6 +133,7 @@ public final void clearDirty() {
 	@Override
 	public final void dirty() {
 		dirty = true;
+		clearCachedElementExistence();
 	}
 
 	@Override
@@ -356,7 +361,7 @@ protected Boolean readElementExistence(final Object element) {
 							if ( hasQueuedOperations() ) {
 								session.flush();
 							}
-							return persister.elementExists( entry.getLoadedKey(), element, session );
+							return elementExists( entry, element );
 						}
 						else {
 							read();
@@ -380,10 +385,39 @@ public boolean elementExists(Object element) {
 			if ( hasQueuedOperations() ) {
 				session.flush();
 			}
-			return entry.getLoadedPersister().elementExists( entry.getLoadedKey(), element, session );
+			return elementExists( entry, element );
 		}
 	}
 
+	/**
+	 * Determine if the given element belongs to this collection, remembering
+	 * the result until the collection is modified.
+	 */
+	private boolean elementExists(CollectionEntry entry, Object element) {
+		if ( cachedElementExistence == null ) {
+			cachedElementExistence = new HashMap<>();
+		}
+		else {
+			final Boolean cachedExistence = cachedElementExistence.get( element );
+			if ( cachedExistence != null ) {
+				return cachedExistence;
+			}
+		}
+		final CollectionPersister persister = entry.getLoadedPersister();
+		final boolean exists = persister.elementExists( entry.getLoadedKey(), element, session );
+		// the existence of an entity which is not managed may change without
+		// the collection being modified, for example when it is persisted
+		if ( !persister.getElementType().isEntityType()
+				|| session.getPersistenceContextInternal().isEntryFor( element ) ) {
+			cachedElementExistence.put( element, exists );
+		}
+		return exists;
+	}
+
+	private void clearCachedElementExistence() {
+		cachedElementExistence = null;
+	}
+
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
 	protected Object readElementByIndex(final Object index) {
@@ -438,6 +472,22 @@ public Object elementByIndex(Object index) {
 		}
 	}
 
+	@Override
+	public Iterator<List<?>> pages(int pageSize) {
+		if ( pageSize < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive" );
+		}
+		else if ( initialized ) {
+			// the elements are already in memory
+			final CollectionEntry entry =
+					isConnectedToSession() ? session.getPersistenceContextInternal().getCollectionEntry( this ) : null;
+			return new PageIterator( pageSize, entries( entry == null ? null : entry.getLoadedPersister() ) );
+		}
+		else {
+			return new PageIterator( pageSize, null );
+		}
+	}
+
 	protected int getCachedSize() {
 		return cachedSize;
 	}
@@ -536,6 +586,8 @@ protected final void queueOperation(DelayedOperation<E> operation) {
 		operationQueue.add( operation );
 		//needed so that we remove this collection from the second-level cache
 		dirty = true;
+		cachedSize = -1;
+		clearCachedElementExistence();
 	}
 
 	/**
@@ -574,6 +626,7 @@ public void setSnapshot(Object key, String role, Serializable snapshot) {
 	public void postAction() {
 		clearOperationQueue();
 		cachedSize = -1;
+		clearCachedElementExistence();
 		clearDirty();
 	}
 
@@ -609,6 +662,7 @@ public boolean afterInitialize() {
 		if ( hasQueuedOperations() ) {
 			performQueuedOperations();
 			cachedSize = -1;
+			clearCachedElementExistence();
 			return false;
 		}
 		else {
@@ -1395,4 +1449,77 @@ public void setOwner(Object owner) {
 	public void $$_hibernate_setInstanceId(int instanceId) {
 		this.instanceId = instanceId;
 	}
+
+	/**
+	 * Iterates the pages of elements of this collection, taking them from memory
+	 * if the collection was initialized, or loading them from the database.
+	 */
+	private final class PageIterator implements Iterator<List<?>> {
+		private final int pageSize;
+		private final @Nullable Iterator<?> entries;
+		private @Nullable CollectionPage lastLoadedPage;
+		private @Nullable List<?> nextPage;
+
+		private PageIterator(int pageSize, @Nullable Iterator<?> entries) {
+			this.pageSize = pageSize;
+			this.entries = entries;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( nextPage == null ) {
+				final List<?> page = entries == null ? loadPage() : collectPage( entries );
+				if ( !page.isEmpty() ) {
+					nextPage = page;
+				}
+			}
+			return nextPage != null;
+		}
+
+		@Override
+		public List<?> next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final List<?> page = nextPage;
+			nextPage = null;
+			return page;
+		}
+
+		private List<?> collectPage(Iterator<?> entries) {
+			final List<Object> page = new ArrayList<>( pageSize );
+			while ( page.size() < pageSize && entries.hasNext() ) {
+				page.add( getElement( entries.next() ) );
+			}
+			return page;
+		}
+
+		private List<?> loadPage() {
+			if ( lastLoadedPage != null && !lastLoadedPage.hasMore() ) {
+				return Collections.emptyList();
+			}
+			lastLoadedPage = withTemporarySessionIfNeeded(
+					() -> {
+						final CollectionEntry entry =
+								session.getPersistenceContextInternal()
+										.getCollectionEntry( AbstractPersistentCollection.this );
+						if ( entry == null ) {
+							throwLazyInitializationExceptionIfNotConnected();
+							throwLazyInitializationException( "collection not associated with session" );
+							throw new AssertionFailure( "impossible" );
+						}
+						if ( hasQueuedOperations() ) {
+							session.flush();
+						}
+						return entry.getLoadedPersister().loadPage(
+								entry.getLoadedKey(),
+								lastLoadedPage == null ? null : lastLoadedPage.lastOrderingValue(),
+								pageSize,
+								session
+						);
+					}
+			);
+			return lastLoadedPage.elements();
+		}
+	}
 }
@@ -137,6 +137,25 @@
 	 */
 	Iterator<?> entries(CollectionPersister persister);
 
+	/**
+	 * Iterate the collection entries which might need inserting, during update of
+	 * the database. Each of them is checked using {@link #includeInInsert}.
+	 *
+	 * @implNote The default implementation returns all {@linkplain #entries entries}.
+	 * Only collections without positional semantics may return fewer entries, since
+	 * the position of an entry is given by its position in the returned iterator.
+	 *
+	 * @param persister The collection persister.
+	 *
+	 * @return The iterator
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Iterator<?> getInsertCandidates(CollectionPersister persister) {
+		return entries( persister );
+	}
+
 	/**
 	 * Get the identifier of the given collection entry.  This refers to the collection identifier, not the
 	 * identifier of the (possibly) entity elements.  This is only valid for invocation on the
@@ -509,6 +528,35 @@ default boolean isDirectlyProvidedCollection(Object collection) {
 	 */
 	Object elementByIndex(Object index);
 
+	/**
+	 * Obtain a cursor-style view of the elements of this collection, which loads
+	 * them a page of at most the given number of elements at a time, without
+	 * initializing the collection.
+	 * <p>
+	 * Unless the collection is already initialized, each page is loaded using a
+	 * {@linkplain CollectionPersister#loadPage keyset query}, and the elements are
+	 * returned in the order of the column used to identify them. This requires
+	 * that each element is identified by a single column, which is the index
+	 * column of a list or map, the column holding the element of a set of basic
+	 * values, or the foreign key referencing an associated entity. Bags of basic
+	 * values, and collections of embeddables, can only be paged once they are
+	 * initialized.
+	 *
+	 * @param pageSize The maximum number of elements of a page
+	 *
+	 * @return An iterator over the pages of elements of this collection
+	 *
+	 * @throws UnsupportedOperationException if the collection is not initialized
+	 * and its elements are not identified by a single column, when the first page
+	 * is requested
+	 *
+	 * @see CollectionPersister#loadPage
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Iterator<List<?>> pages(int pageSize);
+
 	void initializeEmptyCollection(CollectionPersister persister);
 
 	/**
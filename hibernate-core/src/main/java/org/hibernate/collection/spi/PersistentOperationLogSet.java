@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.spi;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link PersistentSet} which, instead of taking a copy of its elements as snapshot,
+ * records the elements added and removed since the snapshot in an operation log.
+ * Memory consumption and the cost of dirty checking and of writing the changes at
+ * flush time are thus proportional to the number of changes, rather than to the size
+ * of the set.
+ * <p>
+ * Elements are compared using {@link Object#equals}, as in the underlying set, and must
+ * not be modified in place: unlike a snapshot, the operation log does not detect changes
+ * to the state of an element, which would usually be an embeddable.
+ *
+ * @see org.hibernate.usertype.OperationLogSetType
+ *
+ * @since 7.0
+ */
+@Incubating
+public class PersistentOperationLogSet<E> extends PersistentSet<E> {
+
+	/**
+	 * Empty constructor.
+	 * <p>
+	 * Note: this form is not ever ever ever used by Hibernate; it is, however,
+	 * needed for SOAP libraries and other such marshalling code.
+	 */
+	public PersistentOperationLogSet() {
+		// intentionally empty
+	}
+
+	/**
+	 * Instantiates a lazy set (the underlying set is un-initialized).
+	 *
+	 * @param session The session to which this set will belong.
+	 */
+	public PersistentOperationLogSet(SharedSessionContractImplementor session) {
+		super( session );
+	}
+
+	/**
+	 * Instantiates a non-lazy set (the underlying set is constructed
+	 * from the incoming set reference).
+	 *
+	 * @param session The session to which this set will belong.
+	 * @param set The underlying set data.
+	 */
+	public PersistentOperationLogSet(SharedSessionContractImplementor session, Set<E> set) {
+		super( session, set );
+	}
+
+	@Override
+	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		return new OperationLog( set.size() );
+	}
+
+	/**
+	 * The operation log held by the collection entry of this set, or {@code null}
+	 * if the set is not associated with a session.
+	 */
+	private @Nullable OperationLog getOperationLog() {
+		final SharedSessionContractImplementor session = getSession();
+		if ( session != null ) {
+			final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( this );
+			if ( entry != null && entry.getSnapshot() instanceof OperationLog operationLog ) {
+				return operationLog;
+			}
+		}
+		return null;
+	}
+
+	private void logAdd(Object element) {
+		final OperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.add( element );
+		}
+	}
+
+	private void logRemove(Object element) {
+		final OperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.remove( element );
+		}
+	}
+
+	@Override
+	public Collection<E> getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		//noinspection unchecked
+		final Collection<E> removed = new ArrayList<>( (Collection<E>) ( (OperationLog) snapshot ).removed );
+		return getOrphans( removed, set, entityName, getSession() );
+	}
+
+	@Override
+	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		return ( (OperationLog) getSnapshot() ).isEmpty();
+	}
+
+	@Override
+	public boolean isSnapshotEmpty(Serializable snapshot) {
+		return ( (OperationLog) snapshot ).initialSize == 0;
+	}
+
+	@Override
+	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		return new ArrayList<>( ( (OperationLog) getSnapshot() ).removed ).iterator();
+	}
+
+	@Override
+	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		return ( (OperationLog) getSnapshot() ).added.contains( entry );
+	}
+
+	@Override
+	public Iterator<?> getInsertCandidates(CollectionPersister persister) {
+		return new ArrayList<>( ( (OperationLog) getSnapshot() ).added ).iterator();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		read();
+		return new LoggingIterator( set.iterator() );
+	}
+
+	@Override
+	public boolean add(E value) {
+		final boolean added = super.add( value );
+		// an operation queued on an uninitialized set is applied to the loaded state
+		if ( added && wasInitialized() ) {
+			logAdd( value );
+		}
+		return added;
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		final boolean removed = super.remove( value );
+		if ( removed && wasInitialized() ) {
+			logRemove( value );
+		}
+		return removed;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> coll) {
+		boolean changed = false;
+		for ( E element : coll ) {
+			if ( add( element ) ) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> coll) {
+		initialize( true );
+		boolean changed = false;
+		final Iterator<E> iterator = iterator();
+		while ( iterator.hasNext() ) {
+			if ( !coll.contains( iterator.next() ) ) {
+				iterator.remove();
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> coll) {
+		boolean changed = false;
+		for ( Object element : coll ) {
+			if ( remove( element ) ) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	@Override
+	public void clear() {
+		if ( isClearQueueEnabled() ) {
+			super.clear();
+		}
+		else {
+			initialize( true );
+			if ( !set.isEmpty() ) {
+				final OperationLog operationLog = getOperationLog();
+				if ( operationLog != null ) {
+					for ( E element : set ) {
+						operationLog.remove( element );
+					}
+				}
+				set.clear();
+				dirty();
+			}
+		}
+	}
+
+	/**
+	 * An iterator logging the removal of elements.
+	 */
+	private final class LoggingIterator implements Iterator<E> {
+		private final Iterator<E> iterator;
+		private E current;
+
+		private LoggingIterator(Iterator<E> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public E next() {
+			return current = iterator.next();
+		}
+
+		@Override
+		public void remove() {
+			write();
+			iterator.remove();
+			elementRemoved = true;
+			logRemove( current );
+		}
+	}
+
+	/**
+	 * The elements added to and removed from a set since its snapshot was taken,
+	 * held as the snapshot of the set by its collection entry.
+	 */
+	private static final class OperationLog implements Serializable {
+		private final int initialSize;
+		private final Set<Object> added = new HashSet<>();
+		private final Set<Object> removed = new HashSet<>();
+
+		private OperationLog(int initialSize) {
+			this.initialSize = initialSize;
+		}
+
+		private void add(Object element) {
+			// adding an element removed since the snapshot restores it
+			if ( !removed.remove( element ) ) {
+				added.add( element );
+			}
+		}
+
+		private void remove(Object element) {
+			// removing an element added since the snapshot undoes the addition
+			if ( !added.remove( element ) ) {
+				removed.add( element );
+			}
+		}
+
+		/**
+		 * Was the set changed since the snapshot was taken?
+		 */
+		private boolean isEmpty() {
+			return added.isEmpty() && removed.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "OperationLog[added=" + added.size() + ", removed=" + removed.size() + "]";
+		}
+	}
+}
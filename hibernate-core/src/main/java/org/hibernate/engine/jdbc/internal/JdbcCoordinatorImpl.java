@@ -26,6 +26,7 @@
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
@@ -78,15 +79,18 @@ public JdbcCoordinatorImpl(
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry =
-				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+		final JdbcSessionContext jdbcSessionContext = owner.getJdbcSessionContext();
+		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
+				jdbcSessionContext.getEventHandler(),
+				jdbcSessionContext.getStatementCacheSize()
+		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
 		else {
 			this.logicalConnection = new LogicalConnectionManagedImpl(
 					owner.getJdbcConnectionAccess(),
-					owner.getJdbcSessionContext(),
+					jdbcSessionContext,
 					owner.getSqlExceptionHelper(),
 					resourceRegistry
 			);
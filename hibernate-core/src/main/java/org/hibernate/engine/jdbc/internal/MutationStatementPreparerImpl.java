@@ -6,7 +6,9 @@
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -14,6 +16,7 @@
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -37,7 +40,7 @@ public PreparedStatement prepareStatement(String sql, boolean isCallable) {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable, Statement.NO_GENERATED_KEYS ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
@@ -53,7 +56,7 @@ public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) {
 		if ( autoGeneratedKeys == PreparedStatement.RETURN_GENERATED_KEYS ) {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, true, autoGeneratedKeys ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
@@ -70,7 +73,7 @@ private void checkAutoGeneratedKeysSupportEnabled() {
 	@Override
 	public PreparedStatement prepareStatement(String sql, String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, false, Statement.NO_GENERATED_KEYS ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, columnNames );
@@ -80,13 +83,21 @@ public PreparedStatement doPrepare() throws SQLException {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
-
-		protected StatementPreparationTemplate(String incomingSql) {
+		private final boolean reusable;
+		private final int autoGeneratedKeys;
+
+		/**
+		 * @param reusable Whether the statement may be {@linkplain ResourceRegistry#reuseStatement reused}
+		 * when the same SQL is prepared again with the same options
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean reusable, int autoGeneratedKeys) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.reusable = reusable;
+			this.autoGeneratedKeys = autoGeneratedKeys;
 		}
 
 		public PreparedStatement prepareStatement() {
@@ -94,6 +105,15 @@ public PreparedStatement prepareStatement() {
 				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				if ( reusable ) {
+					final PreparedStatement reusedStatement = resourceRegistry()
+							.reuseStatement( sql, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys );
+					if ( reusedStatement != null ) {
+						jdbcEventHandler.jdbcReuseStatement();
+						setStatementTimeout( reusedStatement );
+						return reusedStatement;
+					}
+				}
 				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
 				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -116,7 +136,13 @@ public PreparedStatement prepareStatement() {
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			if ( reusable ) {
+				resourceRegistry()
+						.registerReusable( preparedStatement, sql, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys );
+			}
+			else {
+				resourceRegistry().register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -136,6 +162,10 @@ protected final LogicalConnectionImplementor logicalConnection() {
 		return jdbcCoordinator.getLogicalConnection();
 	}
 
+	protected final ResourceRegistry resourceRegistry() {
+		return logicalConnection().getResourceRegistry();
+	}
+
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
@@ -18,6 +18,7 @@
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -59,6 +60,10 @@ protected final LogicalConnectionImplementor logicalConnection() {
 		return jdbcCoordinator.getLogicalConnection();
 	}
 
+	protected final ResourceRegistry resourceRegistry() {
+		return logicalConnection().getResourceRegistry();
+	}
+
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
@@ -93,7 +98,7 @@ public CallableStatement prepareCallableStatement(String sql) {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -115,7 +120,7 @@ public PreparedStatement prepareStatement(String sql, final int autoGeneratedKey
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, true, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
@@ -149,7 +154,7 @@ public PreparedStatement prepareQueryStatement(
 			resultSetType = ResultSet.TYPE_FORWARD_ONLY;
 		}
 
-		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, !isCallable, resultSetType ) {
 			public PreparedStatement doPrepare() throws SQLException {
 					return isCallable
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
@@ -162,13 +167,31 @@ public PreparedStatement doPrepare() throws SQLException {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean reusable;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+		}
+
+		/**
+		 * @param reusable Whether the statement may be {@linkplain ResourceRegistry#reuseStatement reused}
+		 * when the same SQL is prepared again with the same options
+		 */
+		protected StatementPreparationTemplate(
+				String incomingSql,
+				boolean reusable,
+				int resultSetType,
+				int autoGeneratedKeys) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.reusable = reusable;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
 		}
 
 		public PreparedStatement prepareStatement() {
@@ -178,6 +201,16 @@ public PreparedStatement prepareStatement() {
 				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				if ( reusable ) {
+					final PreparedStatement reusedStatement =
+							resourceRegistry().reuseStatement( sql, resultSetType, autoGeneratedKeys );
+					if ( reusedStatement != null ) {
+						observer.jdbcReuseStatement();
+						setStatementTimeout( reusedStatement );
+						configure( reusedStatement );
+						return reusedStatement;
+					}
+				}
 				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
 				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -200,8 +233,20 @@ public PreparedStatement prepareStatement() {
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			if ( reusable ) {
+				resourceRegistry().registerReusable( preparedStatement, sql, resultSetType, autoGeneratedKeys );
+			}
+			else {
+				resourceRegistry().register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
+			configure( preparedStatement );
+		}
+
+		/**
+		 * Configure a newly prepared or reused statement.
+		 */
+		protected void configure(PreparedStatement preparedStatement) throws SQLException {
 		}
 
 		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
@@ -213,12 +258,12 @@ private void setStatementTimeout(PreparedStatement preparedStatement) throws SQL
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, boolean reusable, int resultSetType) {
+			super( sql, reusable, resultSetType, Statement.NO_GENERATED_KEYS );
 		}
 
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			super.postProcess( preparedStatement );
+		@Override
+		protected void configure(PreparedStatement preparedStatement) throws SQLException {
 			setStatementFetchSize( preparedStatement );
 		}
 	}
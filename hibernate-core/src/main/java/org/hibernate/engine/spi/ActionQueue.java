@@ -40,6 +40,7 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.QueryCacheInvalidationKeys;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -424,6 +425,11 @@ private void registerCleanupActions(Executable executable) {
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			invalidateSpaces( executable.getPropertySpaces() );
+			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+				final Set<Object> keys = new HashSet<>();
+				QueryCacheInvalidationKeys.collectKeys( executable, keys, session );
+				invalidateKeys( keys );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -505,10 +511,40 @@ public void executeActions() throws HibernateException {
 		}
 
 		for ( OrderedActions action : ORDERED_OPERATIONS ) {
+			if ( action == OrderedActions.CollectionRemoveAction ) {
+				removeCollectionRowsInBulk();
+			}
 			executeActions( action.getActions( this ) );
 		}
 	}
 
+	/**
+	 * If {@linkplain org.hibernate.cfg.BatchSettings#BULK_COLLECTION_REMOVAL enabled},
+	 * remove the rows of collections of the same role using bulk statements, before
+	 * executing the collection removal actions.
+	 */
+	private void removeCollectionRowsInBulk() {
+		if ( collectionRemovals != null && collectionRemovals.size() > 1 ) {
+			final SessionFactoryImplementor factory = session.getFactory();
+			if ( factory.getSessionFactoryOptions().isBulkCollectionRemovalEnabled()
+					// pre-remove listeners must be notified before the rows are removed
+					&& factory.getEventListenerGroups().eventListenerGroup_PRE_COLLECTION_REMOVE.isEmpty() ) {
+				final Map<String, List<CollectionRemoveAction>> actionsByRole = new LinkedHashMap<>();
+				for ( CollectionRemoveAction action : collectionRemovals ) {
+					if ( action.isRowRemovalNeeded() ) {
+						actionsByRole.computeIfAbsent( action.getPrimarySortClassifier(), role -> new ArrayList<>() )
+								.add( action );
+					}
+				}
+				for ( List<CollectionRemoveAction> actions : actionsByRole.values() ) {
+					if ( actions.size() > 1 ) {
+						CollectionRemoveAction.removeRowsInBulk( actions, session );
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Prepares the internal action queues for execution.
 	 *
@@ -663,6 +699,13 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
 				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+					final Set<Object> keys = new HashSet<>();
+					for ( ComparableExecutable e : list ) {
+						QueryCacheInvalidationKeys.collectKeys( e, keys, session );
+					}
+					invalidateKeys( keys );
+				}
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -702,6 +745,23 @@ private void invalidateSpaces(String @Nullable [] spaces) {
 		}
 	}
 
+	/**
+	 * Invalidate the given keys used for entity-level invalidation of cached query results.
+	 *
+	 * @param keys The keys to invalidate
+	 *
+	 * @see QueryCacheInvalidationKeys
+	 */
+	private void invalidateKeys(Set<Object> keys) {
+		if ( !keys.isEmpty() ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.addKeysToInvalidate( keys );
+			session.getFactory().getCache().getTimestampsCache().preInvalidateKeys( keys, session );
+		}
+	}
+
 	/**
 	 * Returns a string representation of the object.
 	 *
@@ -1040,6 +1100,7 @@ public void beforeTransactionCompletion() {
 	private static class AfterTransactionCompletionProcessQueue
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private final Set<String> querySpacesToInvalidate = new HashSet<>();
+		private @Nullable Set<Object> keysToInvalidate;
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
@@ -1049,6 +1110,13 @@ public void addSpaceToInvalidate(String space) {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addKeysToInvalidate(Set<Object> keys) {
+			if ( keysToInvalidate == null ) {
+				keysToInvalidate = new HashSet<>();
+			}
+			keysToInvalidate.addAll( keys );
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			AfterTransactionCompletionProcess process;
 			while ( ( process = processes.poll() ) != null ) {
@@ -1069,8 +1137,12 @@ public void afterTransactionCompletion(boolean success) {
 						querySpacesToInvalidate.toArray(new String[0]),
 						session
 				);
+				if ( keysToInvalidate != null && !keysToInvalidate.isEmpty() ) {
+					session.getFactory().getCache().getTimestampsCache().invalidateKeys( keysToInvalidate, session );
+				}
 			}
 			querySpacesToInvalidate.clear();
+			keysToInvalidate = null;
 		}
 	}
 
@@ -4,9 +4,11 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -30,6 +32,8 @@
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedSetOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
+import static java.util.Collections.emptySet;
 
 /**
  * Keeps track of:<ul>
@@ -213,6 +217,7 @@ public <T> void collectBatchLoadableEntityIds(
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final Set<EntityKey> cachedKeys = getCachedEntityKeys( set, entityDescriptor.getEntityPersister() );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -226,7 +231,7 @@ public <T> void collectBatchLoadableEntityIds(
 			else if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
 				end = batchPosition;
 			}
-			else if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+			else if ( !cachedKeys.contains( key ) ) {
 				//noinspection unchecked
 				collector.accept( batchPosition++, (T) key.getIdentifier() );
 			}
@@ -270,6 +275,7 @@ else if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final Set<EntityKey> cachedKeys = getCachedEntityKeys( set, entityPersister );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -278,7 +284,7 @@ else if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
 				else if ( identifierType.isEqual( loadingId, key.getIdentifier() ) ) {
 					end = i;
 				}
-				else if ( !isCached( key, entityPersister ) ) {
+				else if ( !cachedKeys.contains( key ) ) {
 					ids[i++] = key.getIdentifier();
 				}
 
@@ -351,6 +357,9 @@ public <T> void collectBatchLoadableCollectionKeys(
 			return;
 		}
 
+		final Set<CollectionEntry> cachedEntries =
+				getCachedCollectionEntries( map.keySet(), pluralAttributeMapping.getCollectionDescriptor() );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -381,7 +390,7 @@ else if ( checkForEnd && i == end ) {
 					if ( isEqual ) {
 						end = i;
 					}
-					else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+					else if ( !cachedEntries.contains( ce ) ) {
 						//noinspection unchecked
 						collector.accept( i++, (T) loadedKey );
 					}
@@ -426,6 +435,7 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 
 		final var map = batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final Set<CollectionEntry> cachedEntries = getCachedCollectionEntries( map.keySet(), collectionPersister );
 			for ( var me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -452,7 +462,7 @@ else if ( checkForEnd && i == end ) {
 							end = i;
 							//checkForEnd = false;
 						}
-						else if ( !isCached( loadedKey, collectionPersister ) ) {
+						else if ( !cachedEntries.contains( ce ) ) {
 							keys[i++] = loadedKey;
 							//count++;
 						}
@@ -474,31 +484,74 @@ public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
+	/**
+	 * Determine which of the given collections are already present in the
+	 * second-level cache, using a single bulk access to the cache region.
+	 */
+	private Set<CollectionEntry> getCachedCollectionEntries(
+			Collection<CollectionEntry> entries,
+			CollectionPersister persister) {
 		final SharedSessionContractImplementor session = getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() && !entries.isEmpty() ) {
 			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			final Object cacheKey =
-					cache.generateCacheKey( collectionKey, persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, cacheKey, persister, cache ) != null;
+			final Map<Object, CollectionEntry> entriesByCacheKey = mapOfSize( entries.size() );
+			for ( CollectionEntry entry : entries ) {
+				final Object loadedKey = entry.getLoadedKey();
+				if ( loadedKey != null ) {
+					final Object cacheKey =
+							cache.generateCacheKey( loadedKey, persister,
+									session.getFactory(), session.getTenantIdentifier() );
+					entriesByCacheKey.put( cacheKey, entry );
+				}
+			}
+			final Map<Object, Object> cached =
+					fromSharedCache( session, entriesByCacheKey.keySet(), persister, cache );
+			if ( cached.isEmpty() ) {
+				return emptySet();
+			}
+			else {
+				final Set<CollectionEntry> cachedEntries = setOfSize( cached.size() );
+				for ( Object cacheKey : cached.keySet() ) {
+					cachedEntries.add( entriesByCacheKey.get( cacheKey ) );
+				}
+				return cachedEntries;
+			}
 		}
 		else {
-			return false;
+			return emptySet();
 		}
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Determine which of the given entities are already present in the
+	 * second-level cache, using a single bulk access to the cache region.
+	 */
+	private Set<EntityKey> getCachedEntityKeys(Collection<EntityKey> entityKeys, EntityPersister persister) {
 		final SharedSessionContractImplementor session = getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() && !entityKeys.isEmpty() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key =
-					cache.generateCacheKey( entityKey.getIdentifier(), persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, key, persister, cache ) != null;
+			final Map<Object, EntityKey> entityKeysByCacheKey = mapOfSize( entityKeys.size() );
+			for ( EntityKey entityKey : entityKeys ) {
+				final Object cacheKey =
+						cache.generateCacheKey( entityKey.getIdentifier(), persister,
+								session.getFactory(), session.getTenantIdentifier() );
+				entityKeysByCacheKey.put( cacheKey, entityKey );
+			}
+			final Map<Object, Object> cached =
+					fromSharedCache( session, entityKeysByCacheKey.keySet(), persister, cache );
+			if ( cached.isEmpty() ) {
+				return emptySet();
+			}
+			else {
+				final Set<EntityKey> cachedKeys = setOfSize( cached.size() );
+				for ( Object cacheKey : cached.keySet() ) {
+					cachedKeys.add( entityKeysByCacheKey.get( cacheKey ) );
+				}
+				return cachedKeys;
+			}
 		}
 		else {
-			return false;
+			return emptySet();
 		}
 	}
 }
@@ -1247,6 +1247,11 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(EntityPersister persister, EntityKey[] entityKeys, LockMode lockMode) {
+		return delegate.loadFromSecondLevelCache( persister, entityKeys, lockMode );
+	}
+
 	@Override
 	public boolean isIdentifierRollbackEnabled() {
 		return delegate.isIdentifierRollbackEnabled();
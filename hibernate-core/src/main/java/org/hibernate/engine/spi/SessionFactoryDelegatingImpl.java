@@ -21,6 +21,7 @@
 import jakarta.persistence.SynchronizationType;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.TypedQueryReference;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
@@ -46,6 +47,7 @@
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sql.spi.SqlTranslationEngine;
@@ -422,4 +424,14 @@ public EventListenerRegistry getEventListenerRegistry() {
 	public <R> TypedQueryReference<R> addNamedQuery(String name, TypedQuery<R> query) {
 		return delegate.addNamedQuery( name, query );
 	}
+
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(String hql, Class<R> resultType) {
+		return delegate.compileSelectionQuery( hql, resultType );
+	}
+
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(CriteriaQuery<R> criteria) {
+		return delegate.compileSelectionQuery( criteria );
+	}
 }
@@ -572,4 +572,21 @@ default boolean isStatelessSession() {
 	 */
 	@Incubating
 	Object loadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode);
+
+	/**
+	 * Attempts to load multiple entities of the same type from the second-level
+	 * cache, accessing the cache region in bulk.
+	 *
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 * @param lockMode The lock mode
+	 *
+	 * @return An array, with the same length as {@code entityKeys}, containing
+	 *         the entity from the second-level cache at the position of its key,
+	 *         or null at the position of a key that was not resolved from the cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Object[] loadFromSecondLevelCache(EntityPersister persister, EntityKey[] entityKeys, LockMode lockMode);
 }
@@ -4,8 +4,13 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Incubating;
 import org.hibernate.id.IntegralDataTypeHolder;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Contract for providing callback access to a {@link DatabaseStructure},
  * typically from the {@link Optimizer}.
@@ -26,4 +31,19 @@ public interface AccessCallback {
 	 * @return The tenant identifier
 	 */
 	String getTenantIdentifier();
+
+	/**
+	 * Retrieve the next value from the underlying source in the background, on a separate
+	 * connection, outside the current session and transaction, for example to
+	 * {@linkplain PooledPrefetchOptimizer prefetch} values.
+	 *
+	 * @return The future next value, or {@code null} if the source does not support
+	 *         background access
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable CompletableFuture<IntegralDataTypeHolder> getNextValueInBackground() {
+		return null;
+	}
 }
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which obtains the next block of values from the
+ * database in the background, before the current block is exhausted, so that inserting
+ * threads rarely have to wait for the database.
+ * <p>
+ * Once 75% of the current block have been handed out,
+ * the next value of the underlying source is {@linkplain AccessCallback#getNextValueInBackground()
+ * requested in the background}, on a separate connection. If the source does not support
+ * background access, the next block is obtained synchronously, as with the
+ * {@link PooledLoOptimizer}.
+ * <p>
+ * The values of the current block are handed out from several stripes, each with its own
+ * counter, chosen depending on the current thread, so that concurrently inserting threads
+ * do not contend for a lock or a single counter. Consequently, the values are unique, but
+ * not necessarily handed out in ascending order.
+ *
+ * @since 7.0
+ *
+ * @see PooledLoOptimizer
+ */
+@Incubating
+public class PooledPrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledPrefetchOptimizer.class.getName()
+	);
+
+	/**
+	 * The percentage of a block handed out, after which the next block is requested.
+	 */
+	private static final int PREFETCH_THRESHOLD_PERCENT = 75;
+
+	/**
+	 * The minimum number of values of a stripe.
+	 */
+	private static final int MIN_STRIPE_SIZE = 16;
+
+	/**
+	 * The number of {@code long} elements a stripe counter is padded to, so that the counters
+	 * of different stripes do not share a cache line.
+	 */
+	private static final int COUNTER_PADDING = 8;
+
+	private final int stripeCount;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledPrefetchOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.debugf(
+				"Creating pooled optimizer (prefetch) with [incrementSize=%s; returnClass=%s]",
+				incrementSize,
+				returnClass.getName()
+		);
+		stripeCount = determineStripeCount( incrementSize );
+	}
+
+	private static int determineStripeCount(int incrementSize) {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int maxStripes = Math.max( 1, incrementSize / MIN_STRIPE_SIZE );
+		// a power of two, so that a stripe can be chosen by masking
+		return Integer.highestOneBit( Math.min( processors, maxStripes ) );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState state = locateGenerationState( callback.getTenantIdentifier() );
+		final int probe = probe();
+		while ( true ) {
+			final Block block = state.block;
+			if ( block != null ) {
+				final Number value = block.next( probe, state, callback );
+				if ( value != null ) {
+					return value;
+				}
+			}
+			state.nextBlock( block, callback );
+		}
+	}
+
+	private GenerationState locateGenerationState(@Nullable String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	private static int probe() {
+		// spread the bits of the hash code, since only the lowest bits are used
+		final int hash = System.identityHashCode( Thread.currentThread() );
+		return hash ^ ( hash >>> 16 );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private final class GenerationState {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private volatile @Nullable Block block;
+		// guarded by lock
+		private @Nullable CompletableFuture<IntegralDataTypeHolder> prefetch;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		/**
+		 * Replaces the given exhausted block with the next one, unless another thread did so already.
+		 */
+		private void nextBlock(@Nullable Block exhausted, AccessCallback callback) {
+			lock.lock();
+			try {
+				if ( block != exhausted ) {
+					return;
+				}
+				IntegralDataTypeHolder lo = null;
+				if ( prefetch != null ) {
+					try {
+						lo = prefetch.join();
+					}
+					catch (CompletionException e) {
+						LOG.debugf( e.getCause(), "Could not prefetch next value, obtaining it synchronously" );
+					}
+					prefetch = null;
+				}
+				if ( lo == null ) {
+					lo = callback.getNextValue();
+				}
+				lastSourceValue = lo;
+				block = new Block( lo );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Requests the value of the block following the given block in the background.
+		 */
+		private void prefetch(Block current, AccessCallback callback) {
+			// a thread already holding the lock is either prefetching or replacing the block
+			if ( lock.tryLock() ) {
+				try {
+					if ( block == current && prefetch == null ) {
+						prefetch = callback.getNextValueInBackground();
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A block of values, starting at the value obtained from the source, split into stripes.
+	 */
+	private final class Block {
+		private final IntegralDataTypeHolder lo;
+		private final int stripeSize;
+		private final int prefetchOffset;
+		private final AtomicLongArray counters;
+
+		private Block(IntegralDataTypeHolder lo) {
+			this.lo = lo;
+			this.stripeSize = ( incrementSize + stripeCount - 1 ) / stripeCount;
+			this.prefetchOffset = Math.min( stripeSize * PREFETCH_THRESHOLD_PERCENT / 100, stripeSize - 1 );
+			this.counters = new AtomicLongArray( stripeCount * COUNTER_PADDING );
+		}
+
+		/**
+		 * Hands out the next value of the stripe chosen by the probe, or of any other stripe
+		 * if that one is exhausted.
+		 *
+		 * @return the next value, or {@code null} if the block is exhausted
+		 */
+		private @Nullable Number next(int probe, GenerationState state, AccessCallback callback) {
+			for ( int attempt = 0; attempt < stripeCount; attempt++ ) {
+				final int stripe = ( probe + attempt ) & ( stripeCount - 1 );
+				final int stripeStart = stripe * stripeSize;
+				final int stripeEnd = Math.min( stripeStart + stripeSize, incrementSize );
+				if ( stripeStart >= stripeEnd ) {
+					continue;
+				}
+				final long offset = counters.getAndIncrement( stripe * COUNTER_PADDING );
+				if ( stripeStart + offset < stripeEnd ) {
+					if ( offset == prefetchOffset ) {
+						state.prefetch( this, callback );
+					}
+					return lo.copy().add( stripeStart + offset ).makeValue();
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * Hands out the values of ranges leased from a segment of a {@link TableGenerator} table.
+ * <p>
+ * A lease is a range of values reserved in the table with a single update, starting at the
+ * value obtained from the table. Its values are handed out by incrementing an atomic counter,
+ * so that concurrently inserting threads neither contend for a lock nor access the table.
+ * <p>
+ * The size of the next lease adapts to the observed throughput: if a lease was exhausted in
+ * less than half of the {@linkplain #TARGET_LEASE_DURATION target duration}, the next lease is
+ * twice as large, up to the maximum lease size; if it took more than twice the target duration,
+ * the next lease is half as large, down to the minimum lease size. Values left in a lease when
+ * the session factory is closed are lost.
+ *
+ * @see TableGenerator#LEASE_SEGMENT_PARAM
+ */
+final class SegmentLeases {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			SegmentLeases.class.getName()
+	);
+
+	/**
+	 * The duration a lease should last, in nanoseconds.
+	 */
+	static final long TARGET_LEASE_DURATION = TimeUnit.SECONDS.toNanos( 10 );
+
+	/**
+	 * Obtains the first value of a newly leased range from the table.
+	 */
+	@FunctionalInterface
+	interface LeaseSource {
+		/**
+		 * Reserve a range of values in the table.
+		 *
+		 * @param size The number of values to reserve
+		 *
+		 * @return The first value of the range
+		 */
+		IntegralDataTypeHolder lease(long size);
+	}
+
+	private final long minLeaseSize;
+	private final long maxLeaseSize;
+	private final LeaseState noTenantState = new LeaseState();
+	private final Map<String, LeaseState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	SegmentLeases(long minLeaseSize, long maxLeaseSize) {
+		this.minLeaseSize = Math.max( 1, minLeaseSize );
+		this.maxLeaseSize = Math.max( this.minLeaseSize, maxLeaseSize );
+	}
+
+	Serializable generate(@Nullable String tenantIdentifier, LeaseSource source) {
+		final LeaseState state = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new LeaseState() );
+		while ( true ) {
+			final Lease lease = state.lease;
+			if ( lease != null ) {
+				final long offset = lease.next.getAndIncrement();
+				if ( offset < lease.size ) {
+					return lease.lo.copy().add( offset ).makeValue();
+				}
+			}
+			state.renew( lease, source );
+		}
+	}
+
+	private long nextLeaseSize(@Nullable Lease exhausted) {
+		if ( exhausted == null ) {
+			return minLeaseSize;
+		}
+		final long duration = System.nanoTime() - exhausted.acquiredAt;
+		if ( duration < TARGET_LEASE_DURATION / 2 ) {
+			return Math.min( exhausted.size * 2, maxLeaseSize );
+		}
+		else if ( duration > TARGET_LEASE_DURATION * 2 ) {
+			return Math.max( exhausted.size / 2, minLeaseSize );
+		}
+		else {
+			return exhausted.size;
+		}
+	}
+
+	private final class LeaseState {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private volatile @Nullable Lease lease;
+
+		/**
+		 * Replaces the given exhausted lease with a new one, unless another thread did so already.
+		 */
+		private void renew(@Nullable Lease exhausted, LeaseSource source) {
+			lock.lock();
+			try {
+				if ( lease == exhausted ) {
+					final long size = nextLeaseSize( exhausted );
+					final IntegralDataTypeHolder lo = source.lease( size );
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "Leased %s values starting at %s", size, lo.makeValue() );
+					}
+					lease = new Lease( lo, size );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static final class Lease {
+		private final IntegralDataTypeHolder lo;
+		private final long size;
+		private final long acquiredAt = System.nanoTime();
+		private final AtomicLong next = new AtomicLong();
+
+		private Lease(IntegralDataTypeHolder lo, long size) {
+			this.lo = lo;
+			this.size = size;
+		}
+	}
+}
@@ -5,24 +5,39 @@
 package org.hibernate.id.enhanced;
 
 import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+import static org.hibernate.internal.util.BackgroundWorkHelper.daemonThreadFactory;
 
 /**
  * Describes a sequence.
@@ -45,7 +60,8 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final LongAdder accessCounter = new LongAdder();
+	private volatile @Nullable BackgroundAccess backgroundAccess;
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -91,7 +107,7 @@ public int getIncrementSize() {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.intValue();
 	}
 
 	@Override
@@ -113,7 +129,7 @@ public AccessCallback buildCallback(final SharedSessionContractImplementor sessi
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.increment();
 				try {
 					final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
 					final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
@@ -156,9 +172,98 @@ public IntegralDataTypeHolder getNextValue() {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public @Nullable CompletableFuture<IntegralDataTypeHolder> getNextValueInBackground() {
+				// the bootstrap connection is not tenant specific
+				return session.getTenantIdentifier() == null
+						? backgroundAccess( session.getFactory() ).getNextValue()
+						: null;
+			}
 		};
 	}
 
+	private BackgroundAccess backgroundAccess(SessionFactoryImplementor factory) {
+		BackgroundAccess access = backgroundAccess;
+		if ( access == null ) {
+			synchronized ( this ) {
+				access = backgroundAccess;
+				if ( access == null ) {
+					access = new BackgroundAccess( factory );
+					factory.addObserver( access );
+					backgroundAccess = access;
+				}
+			}
+		}
+		return access;
+	}
+
+	/**
+	 * Obtains values of the sequence on a separate connection, from a single background
+	 * thread, which is shut down when the {@link SessionFactory} is closed.
+	 */
+	private final class BackgroundAccess implements SessionFactoryObserver {
+		private final JdbcServices jdbcServices;
+		private final JdbcIsolationDelegate isolationDelegate;
+		private final ThreadPoolExecutor executor;
+
+		private BackgroundAccess(SessionFactoryImplementor factory) {
+			jdbcServices = factory.getJdbcServices();
+			isolationDelegate = new JdbcIsolationDelegate(
+					jdbcServices.getBootstrapJdbcConnectionAccess(),
+					jdbcServices.getSqlExceptionHelper()
+			);
+			executor = new ThreadPoolExecutor(
+					1,
+					1,
+					60L,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					daemonThreadFactory( "Hibernate sequence prefetch" )
+			);
+			executor.allowCoreThreadTimeOut( true );
+		}
+
+		private @Nullable CompletableFuture<IntegralDataTypeHolder> getNextValue() {
+			try {
+				return CompletableFuture.supplyAsync( this::obtainNextValue, executor );
+			}
+			catch (RejectedExecutionException e) {
+				// the SessionFactory is being closed
+				return null;
+			}
+		}
+
+		private IntegralDataTypeHolder obtainNextValue() {
+			accessCounter.increment();
+			return isolationDelegate.delegateWork(
+					new AbstractReturningWork<>() {
+						@Override
+						public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+							jdbcServices.getSqlStatementLogger().logStatement( sql );
+							try ( PreparedStatement st = connection.prepareStatement( sql );
+									ResultSet rs = st.executeQuery() ) {
+								rs.next();
+								final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
+								value.initialize( rs, 1 );
+								if ( LOG.isDebugEnabled() ) {
+									LOG.debugf( "Sequence value obtained on isolated connection: %s", value.makeValue() );
+								}
+								return value;
+							}
+						}
+					},
+					false
+			);
+		}
+
+		@Override
+		public void sessionFactoryClosing(SessionFactory factory) {
+			// a value which is already requested is still obtained
+			executor.shutdown();
+		}
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
@@ -64,6 +64,7 @@
 import static org.hibernate.internal.util.StringHelper.qualify;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 
 /**
@@ -130,7 +131,27 @@
  *     <td><em>depends on defined increment size</em></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@value #LEASE_SEGMENT_PARAM}</td>
+ *     <td><em>depends on {@value org.hibernate.cfg.AvailableSettings#TABLE_GENERATOR_LEASE_SEGMENT}</em></td>
+ *     <td>Whether adaptively sized ranges of values are leased from the segment,
+ *         instead of using the optimizer</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@value #MAX_LEASE_SIZE_PARAM}</td>
+ *     <td>{@value #DEF_MAX_LEASE_SIZE_FACTOR} times the increment size</td>
+ *     <td>The maximum number of values of a leased range</td>
+ *   </tr>
  * </table>
+ * <p>
+ * When leasing ranges, the optimizer is not used. Each session factory instead reserves a
+ * range of values with a single update of its segment, starting with a range of
+ * {@value #INCREMENT_PARAM} values, and hands the values out without accessing the table
+ * again until the range is exhausted. The size of the next range grows as long as ranges
+ * are exhausted quickly, and shrinks again when they are not, so that few values are lost
+ * when a node is stopped. As with the {@linkplain PooledLoOptimizer pooled-lo optimizer},
+ * the value read from the table is the first value of the range, so all generators sharing
+ * a segment must either lease ranges or use the pooled-lo optimizer.
  *
  * @author Steve Ebersole
  */
@@ -201,6 +222,29 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 */
 	public static final int DEF_SEGMENT_LENGTH = 255;
 
+	/**
+	 * Indicates whether ranges of values should be leased from the segment instead of using the
+	 * optimizer. The default is given by {@value org.hibernate.cfg.AvailableSettings#TABLE_GENERATOR_LEASE_SEGMENT}.
+	 *
+	 * @since 7.0
+	 */
+	public static final String LEASE_SEGMENT_PARAM = "lease_segment";
+
+	/**
+	 * Indicates the maximum number of values of a range leased from the segment. The default is
+	 * {@value #DEF_MAX_LEASE_SIZE_FACTOR} times the increment size.
+	 *
+	 * @since 7.0
+	 */
+	public static final String MAX_LEASE_SIZE_PARAM = "max_lease_size";
+
+	/**
+	 * The factor applied to the increment size to determine the default {@value #MAX_LEASE_SIZE_PARAM}
+	 *
+	 * @since 7.0
+	 */
+	public static final int DEF_MAX_LEASE_SIZE_FACTOR = 1000;
+
 	private boolean storeLastUsedValue;
 
 
@@ -222,6 +266,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	private String updateQuery;
 
 	private Optimizer optimizer;
+	private SegmentLeases segmentLeases;
 	private long accessCount;
 
 	private String contributor;
@@ -319,6 +364,17 @@ public final Optimizer getOptimizer() {
 		return optimizer;
 	}
 
+	/**
+	 * Are ranges of values leased from the segment, instead of using the {@linkplain #getOptimizer() optimizer}?
+	 *
+	 * @return {@code true} if ranges are leased
+	 *
+	 * @since 7.0
+	 */
+	public final boolean isLeasingSegment() {
+		return segmentLeases != null;
+	}
+
 	/**
 	 * Getter for property 'tableAccessCount'.  Only really useful for unit test
 	 * assertions.
@@ -340,7 +396,8 @@ public String[] getAllSqlForTests() {
 	@Override
 	public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
 		final ServiceRegistry serviceRegistry = creationContext.getServiceRegistry();
-		storeLastUsedValue = serviceRegistry.requireService( ConfigurationService.class )
+		final ConfigurationService configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		storeLastUsedValue = configurationService
 				.getSetting( AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED, StandardConverters.BOOLEAN, true );
 		identifierType = creationContext.getType();
 
@@ -363,6 +420,19 @@ public void configure(GeneratorCreationContext creationContext, Properties param
 				getInt( INITIAL_PARAM, parameters, -1 )
 		);
 
+		final boolean leaseSegment = getBoolean(
+				LEASE_SEGMENT_PARAM,
+				parameters,
+				configurationService.getSetting( AvailableSettings.TABLE_GENERATOR_LEASE_SEGMENT, StandardConverters.BOOLEAN, false )
+		);
+		if ( leaseSegment ) {
+			final long maxLeaseSize = getLong( MAX_LEASE_SIZE_PARAM, parameters, -1 );
+			segmentLeases = new SegmentLeases(
+					incrementSize,
+					maxLeaseSize < 0 ? (long) incrementSize * DEF_MAX_LEASE_SIZE_FACTOR : maxLeaseSize
+			);
+		}
+
 		contributor = parameters.getProperty( CONTRIBUTOR_NAME );
 		if ( contributor == null ) {
 			contributor = "orm";
@@ -535,6 +605,21 @@ public Object generate(final SharedSessionContractImplementor session, final Obj
 				session.getFactory().getJdbcServices()
 						.getSqlStatementLogger();
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
+		if ( segmentLeases != null ) {
+			return segmentLeases.generate(
+					session.getTenantIdentifier(),
+					leaseSize -> session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+							new AbstractReturningWork<>() {
+								@Override
+								public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+									return nextValue( connection, statementLogger, statsCollector, session, leaseSize );
+								}
+							},
+							true
+					)
+			);
+		}
+		final long sourceIncrementSize = optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1;
 		return optimizer.generate(
 				new AccessCallback() {
 					@Override
@@ -543,7 +628,7 @@ public IntegralDataTypeHolder getNextValue() {
 								new AbstractReturningWork<>() {
 									@Override
 									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										return nextValue( connection, statementLogger, statsCollector, session );
+										return nextValue( connection, statementLogger, statsCollector, session, sourceIncrementSize );
 									}
 								},
 								true
@@ -561,7 +646,8 @@ private IntegralDataTypeHolder nextValue(
 			Connection connection,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener,
-			SharedSessionContractImplementor session)
+			SharedSessionContractImplementor session,
+			long sourceIncrementSize)
 			throws SQLException {
 		final IntegralDataTypeHolder value = makeValue();
 		int rows;
@@ -594,13 +680,7 @@ private IntegralDataTypeHolder nextValue(
 
 
 			try ( PreparedStatement statement = prepareStatement( connection, updateQuery, logger, listener, session ) ) {
-				final IntegralDataTypeHolder updateValue = value.copy();
-				if ( optimizer.applyIncrementSizeToSourceValues() ) {
-					updateValue.add( incrementSize );
-				}
-				else {
-					updateValue.increment();
-				}
+				final IntegralDataTypeHolder updateValue = value.copy().add( sourceIncrementSize );
 				updateValue.bind( statement, 1 );
 				value.bind( statement, 2 );
 				statement.setString( 3, segmentValue );
@@ -99,6 +99,7 @@
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.internal.QueryEngineImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.spi.QueryEngine;
@@ -106,6 +107,8 @@
 import org.hibernate.query.sql.spi.SqlTranslationEngine;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.internal.CompiledSqmSelectionQuery;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.relational.internal.SchemaManagerImpl;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
@@ -134,6 +137,7 @@
 import jakarta.persistence.Query;
 import jakarta.persistence.SynchronizationType;
 import jakarta.persistence.TypedQueryReference;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 import static jakarta.persistence.SynchronizationType.SYNCHRONIZED;
 import static java.util.Collections.addAll;
@@ -889,6 +893,21 @@ public <R> TypedQueryReference<R> addNamedQuery(String name, TypedQuery<R> query
 		return getNamedObjectRepository().registerNamedQuery( name, query );
 	}
 
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(String hql, Class<R> resultType) {
+		return CompiledSqmSelectionQuery.fromHql( hql, resultType, this );
+	}
+
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(CriteriaQuery<R> criteria) {
+		if ( criteria instanceof SqmSelectStatement<R> selectStatement ) {
+			return CompiledSqmSelectionQuery.fromCriteria( selectStatement, this );
+		}
+		else {
+			throw new IllegalArgumentException( "Not a Hibernate criteria query: " + criteria );
+		}
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		if ( type.isInstance( this ) ) {
@@ -203,6 +203,7 @@
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_QUERY_TIMEOUT;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.internal.LockOptionsHelper.applyPropertiesToLockOptions;
+import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.jpa.internal.util.FlushModeTypeHelper.getFlushModeType;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -1147,6 +1148,26 @@ public Object loadFromSecondLevelCache(
 		return entity;
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(EntityPersister persister, EntityKey[] entityKeys, LockMode lockMode) {
+		final Object[] entities =
+				CacheLoadHelper.loadFromSecondLevelCache( this, lockMode, persister, entityKeys );
+		// the same key might occur more than once, but the
+		// entity it resolves to must only be post-loaded once
+		final Set<EntityKey> loadedKeys = setOfSize( entities.length );
+		for ( int i = 0; i < entities.length; i++ ) {
+			final Object entity = entities[i];
+			if ( entity != null && loadedKeys.add( entityKeys[i] ) ) {
+				final Object id = entityKeys[i].getIdentifierValue();
+				final PostLoadEvent event = makePostLoadEvent( persister, id, entity );
+				eventListenerGroups.eventListenerGroup_POST_LOAD
+						.fireEventOnEachListener( event, PostLoadEventListener::onPostLoad );
+				releasePostLoadEvent( event );
+			}
+		}
+		return entities;
+	}
+
 	/**
 	 * Helper to avoid creating many new instances of {@link PostLoadEvent}.
 	 * It's an allocation hot spot.
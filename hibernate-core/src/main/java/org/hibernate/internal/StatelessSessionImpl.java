@@ -1427,6 +1427,11 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(EntityPersister persister, EntityKey[] entityKeys, LockMode lockMode) {
+		return CacheLoadHelper.loadFromSecondLevelCache( this, lockMode, persister, entityKeys );
+	}
+
 	private static final class MultiLoadOptions implements MultiIdLoadOptions {
 		private final  LockOptions lockOptions;
 
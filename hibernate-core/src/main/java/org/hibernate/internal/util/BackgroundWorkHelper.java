@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Utilities for work which Hibernate performs on its own threads, rather
+ * than in the common pool, which is shared with the application.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#BACKGROUND_THREAD_COUNT
+ */
+public final class BackgroundWorkHelper {
+
+	/**
+	 * The default maximum number of threads used for a single task.
+	 */
+	public static final int DEFAULT_MAX_THREADS = 4;
+
+	private BackgroundWorkHelper() {
+	}
+
+	/**
+	 * The default number of threads used for a single task: the number of
+	 * processors, but no more than {@value #DEFAULT_MAX_THREADS}.
+	 */
+	public static int defaultThreadCount() {
+		return Math.min( Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_THREADS );
+	}
+
+	/**
+	 * A {@link ThreadFactory} for daemon threads with the given name, which
+	 * never prevent the JVM from exiting.
+	 */
+	public static ThreadFactory daemonThreadFactory(String threadName) {
+		return runnable -> {
+			final Thread thread = new Thread( runnable, threadName );
+			thread.setDaemon( true );
+			return thread;
+		};
+	}
+
+	/**
+	 * Run the given task on a new daemon thread with the given name.
+	 */
+	public static void runInBackground(String threadName, Runnable task) {
+		daemonThreadFactory( threadName ).newThread( task ).start();
+	}
+
+	/**
+	 * Apply the given action to every element of the list, using a pool of
+	 * at most {@code threadCount} daemon threads which only lives for the
+	 * duration of the call. Each thread takes the next element of the list
+	 * until there are none left. The first exception thrown by the action
+	 * stops the remaining threads early, and is rethrown to the caller.
+	 */
+	public static <T> void forEachInParallel(
+			List<T> list,
+			Consumer<T> action,
+			int threadCount,
+			String threadName) {
+		final int threads = Math.min( threadCount, list.size() );
+		if ( threads < 2 ) {
+			list.forEach( action );
+		}
+		else {
+			final AtomicInteger next = new AtomicInteger();
+			final ExecutorService executor =
+					Executors.newFixedThreadPool( threads, daemonThreadFactory( threadName ) );
+			try {
+				final List<Future<?>> futures = new ArrayList<>( threads );
+				for ( int i = 0; i < threads; i++ ) {
+					futures.add( executor.submit( () -> {
+						int index;
+						while ( ( index = next.getAndIncrement() ) < list.size() ) {
+							action.accept( list.get( index ) );
+						}
+					} ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get();
+				}
+			}
+			catch (ExecutionException e) {
+				if ( e.getCause() instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				else if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				else {
+					throw new HibernateException( "Error in " + threadName, e.getCause() );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for " + threadName, e );
+			}
+			finally {
+				// stop the other threads early if one of them failed
+				next.set( list.size() );
+				executor.shutdown();
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.hibernate.InstantiationException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.internal.util.ReflectHelper.ensureAccessibility;
+
+/**
+ * Instantiates a class by calling one of its constructors through a
+ * {@link MethodHandle} which accepts the arguments as an array, avoiding the
+ * access checks and copies of the argument array performed by each call to
+ * {@link Constructor#newInstance}. Building the method handle is expensive,
+ * so an invoker should be created once, and kept by the object which uses it.
+ * <p>
+ * Unlike {@code newInstance()}, {@link #invoke} propagates the unchecked
+ * exceptions and errors thrown by the constructor itself, without wrapping
+ * them in an {@link InvocationTargetException}.
+ *
+ * @param <T> The type instantiated
+ *
+ * @since 7.0
+ */
+public final class ConstructorInvoker<T> {
+
+	private final Constructor<T> constructor;
+	// null if the constructor is not accessible via a method handle
+	private final @Nullable MethodHandle methodHandle;
+
+	private ConstructorInvoker(Constructor<T> constructor) {
+		this.constructor = constructor;
+		this.methodHandle = spreadingMethodHandle( constructor );
+	}
+
+	/**
+	 * Create an invoker for the given constructor, which is made
+	 * {@linkplain ReflectHelper#ensureAccessibility accessible}.
+	 */
+	public static <T> ConstructorInvoker<T> of(Constructor<T> constructor) {
+		return new ConstructorInvoker<>( constructor );
+	}
+
+	private static @Nullable MethodHandle spreadingMethodHandle(Constructor<?> constructor) {
+		try {
+			ensureAccessibility( constructor );
+			return MethodHandles.lookup().unreflectConstructor( constructor )
+					.asFixedArity()
+					.asSpreader( Object[].class, constructor.getParameterCount() )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			// fall back to reflection
+			return null;
+		}
+	}
+
+	public Constructor<T> getConstructor() {
+		return constructor;
+	}
+
+	/**
+	 * Call the constructor with the given arguments.
+	 *
+	 * @throws InstantiationException if the constructor throws a checked exception,
+	 * or cannot be called
+	 * @throws RuntimeException any unchecked exception thrown by the constructor,
+	 * or by the conversion of the arguments to the parameter types
+	 */
+	@SuppressWarnings("unchecked")
+	public T invoke(Object... arguments) {
+		try {
+			if ( methodHandle == null ) {
+				try {
+					return constructor.newInstance( arguments );
+				}
+				catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+			else {
+				return (T) (Object) methodHandle.invokeExact( arguments );
+			}
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new InstantiationException( "Could not instantiate", constructor.getDeclaringClass(), e );
+		}
+	}
+}
@@ -122,8 +122,7 @@ private List<T> orderedMultiLoad(
 
 		final List<Object> results = arrayList( ids.length );
 
-		final List<Object> idsInBatch = new ArrayList<>();
-		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		final List<Integer> unresolvedPositions = new ArrayList<>();
 
 		final LockOptions lockOptions = lockOptions( loadOptions );
 
@@ -131,20 +130,45 @@ private List<T> orderedMultiLoad(
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
 
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, results, i ) ) {
-				// if we did not hit any of the continues above,
-				// then we need to batch load the entity state.
-				idsInBatch.add( id );
+			if ( !loadFromSessionCacheIfEnabled( loadOptions, session, lockOptions, entityKey, results, i ) ) {
+				// Save the EntityKey instance for use later
+				results.add( i, entityKey );
+				unresolvedPositions.add( i );
+			}
+		}
 
-				if ( idsInBatch.size() >= maxBatchSize ) {
-					// we've hit the allotted max-batch-size, perform an "intermediate load"
-					loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
-					idsInBatch.clear();
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() && !unresolvedPositions.isEmpty() ) {
+			// look for the remaining entities in the second-level cache,
+			// accessing the cache region in bulk
+			final EntityKey[] entityKeys = new EntityKey[unresolvedPositions.size()];
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				entityKeys[i] = (EntityKey) results.get( unresolvedPositions.get( i ) );
+			}
+			final Object[] cachedEntities = loadFromSecondLevelCache( entityKeys, lockOptions, session );
+			final List<Integer> stillUnresolvedPositions = new ArrayList<>( unresolvedPositions.size() );
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final Integer position = unresolvedPositions.get( i );
+				final Object cachedEntity = cachedEntities[i];
+				if ( cachedEntity != null ) {
+					results.set( position, cachedEntity );
 				}
+				else {
+					stillUnresolvedPositions.add( position );
+				}
+			}
+			unresolvedPositions.clear();
+			unresolvedPositions.addAll( stillUnresolvedPositions );
+		}
 
-				// Save the EntityKey instance for use later
-				results.add( i, entityKey );
-				elementPositionsLoadedByBatch.add( i );
+		// for the entities we could not resolve from any of the caches,
+		// we need to batch load the entity state.
+		final List<Object> idsInBatch = new ArrayList<>();
+		for ( Integer position : unresolvedPositions ) {
+			idsInBatch.add( ( (EntityKey) results.get( position ) ).getIdentifier() );
+			if ( idsInBatch.size() >= maxBatchSize ) {
+				// we've hit the allotted max-batch-size, perform an "intermediate load"
+				loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+				idsInBatch.clear();
 			}
 		}
 
@@ -155,7 +179,7 @@ private List<T> orderedMultiLoad(
 		}
 
 		// for each result where we set the EntityKey earlier, replace them
-		handleResults( loadOptions, session, elementPositionsLoadedByBatch, results );
+		handleResults( loadOptions, session, unresolvedPositions, results );
 
 		//noinspection unchecked
 		return (List<T>) results;
@@ -202,25 +226,13 @@ protected abstract void loadEntitiesById(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session);
 
-	private boolean loadFromEnabledCaches(
+	private boolean loadFromSessionCacheIfEnabled(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session,
-			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
-			List<Object> result,
+			List<Object> results,
 			int i) {
-		return ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
-	}
-
-	private boolean isLoadFromCaches(
-			MultiIdLoadOptions loadOptions,
-			EntityKey entityKey,
-			LockOptions lockOptions,
-			List<Object> results, int i,
-			SharedSessionContractImplementor session) {
-
 		if ( loadOptions.isSessionCheckingEnabled() ) {
 			// look for it in the Session first
 			final PersistenceContextEntry entry =
@@ -236,17 +248,6 @@ private boolean isLoadFromCaches(
 				return true;
 			}
 		}
-
-		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			// look for it in the second-level cache
-			final Object entity =
-					loadFromSecondLevelCache( entityKey, lockOptions, session );
-			if ( entity != null ) {
-				results.add( i, entity );
-				return true;
-			}
-		}
-
 		return false;
 	}
 
@@ -310,11 +311,46 @@ private <R> Object[] resolveInCaches(
 		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
 
 		List<Object> unresolvedIds = null;
+		List<EntityKey> keysToCheckInSecondLevelCache = null;
+		List<Integer> positionsToCheckInSecondLevelCache = null;
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
-			unresolvedIds =
-					loadFromCaches( loadOptions, lockOptions, resolutionConsumer, id, entityKey, unresolvedIds, i, session );
+			if ( !resolveFromSessionCache( loadOptions, lockOptions, resolutionConsumer, entityKey, i, session ) ) {
+				if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// defer the lookup, so that we can access the second-level cache in bulk
+					if ( keysToCheckInSecondLevelCache == null ) {
+						keysToCheckInSecondLevelCache = new ArrayList<>();
+						positionsToCheckInSecondLevelCache = new ArrayList<>();
+					}
+					keysToCheckInSecondLevelCache.add( entityKey );
+					positionsToCheckInSecondLevelCache.add( i );
+				}
+				else {
+					if ( unresolvedIds == null ) {
+						unresolvedIds = new ArrayList<>();
+					}
+					unresolvedIds.add( id );
+				}
+			}
+		}
+
+		if ( keysToCheckInSecondLevelCache != null ) {
+			final EntityKey[] entityKeys = keysToCheckInSecondLevelCache.toArray( new EntityKey[0] );
+			final Object[] cachedEntities = loadFromSecondLevelCache( entityKeys, lockOptions, session );
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				final Object cachedEntity = cachedEntities[i];
+				if ( cachedEntity != null ) {
+					//noinspection unchecked
+					resolutionConsumer.consume( positionsToCheckInSecondLevelCache.get( i ), entityKeys[i], (R) cachedEntity );
+				}
+				else {
+					if ( unresolvedIds == null ) {
+						unresolvedIds = new ArrayList<>();
+					}
+					unresolvedIds.add( entityKeys[i].getIdentifier() );
+				}
+			}
 		}
 
 		if ( isEmpty( unresolvedIds ) ) {
@@ -342,52 +378,41 @@ private boolean isIdCoercionEnabled() {
 		void consume(int position, EntityKey entityKey, T resolvedRef);
 	}
 
-	private <R> List<Object> loadFromCaches(
+	/**
+	 * @return {@code true} if the entity was resolved from the session
+	 */
+	private <R> boolean resolveFromSessionCache(
 			MultiIdLoadOptions loadOptions,
 			LockOptions lockOptions,
 			ResolutionConsumer<R> resolutionConsumer,
-			Object id,
 			EntityKey entityKey,
-			List<Object> unresolvedIds, int i,
+			int i,
 			SharedSessionContractImplementor session) {
 
 		// look for it in the Session first
 		final PersistenceContextEntry entry =
 				loadFromSessionCache( entityKey, lockOptions, GET, session );
-		final Object sessionEntity;
 		if ( loadOptions.isSessionCheckingEnabled() ) {
-			sessionEntity = entry.entity();
-			if ( sessionEntity != null
-					&& !loadOptions.isReturnOfDeletedEntitiesEnabled()
-					&& !entry.isManaged() ) {
-				resolutionConsumer.consume( i, entityKey, null );
-				return unresolvedIds;
-			}
-		}
-		else {
-			sessionEntity = null;
-		}
-
-		final Object cachedEntity =
-				sessionEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled()
-						? loadFromSecondLevelCache( entityKey, lockOptions, session )
-						: sessionEntity;
-
-		if ( cachedEntity != null ) {
-			//noinspection unchecked
-			resolutionConsumer.consume( i, entityKey, (R) cachedEntity );
-		}
-		else {
-			if ( unresolvedIds == null ) {
-				unresolvedIds = new ArrayList<>();
+			final Object sessionEntity = entry.entity();
+			if ( sessionEntity != null ) {
+				if ( !loadOptions.isReturnOfDeletedEntitiesEnabled() && !entry.isManaged() ) {
+					resolutionConsumer.consume( i, entityKey, null );
+				}
+				else {
+					//noinspection unchecked
+					resolutionConsumer.consume( i, entityKey, (R) sessionEntity );
+				}
+				return true;
 			}
-			unresolvedIds.add( id );
 		}
-		return unresolvedIds;
+		return false;
 	}
 
-	private Object loadFromSecondLevelCache(EntityKey entityKey, LockOptions lockOptions, SharedSessionContractImplementor session) {
+	private Object[] loadFromSecondLevelCache(
+			EntityKey[] entityKeys,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		final EntityPersister persister = getLoadable().getEntityPersister();
-		return session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() );
+		return session.loadFromSecondLevelCache( persister, entityKeys, lockOptions.getLockMode() );
 	}
 }
@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.Loader;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.BasicValuedCollectionPart;
+import org.hibernate.metamodel.mapping.internal.ManyToManyCollectionPart;
+import org.hibernate.metamodel.mapping.internal.OneToManyCollectionPart;
+import org.hibernate.persister.collection.CollectionPage;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.common.FetchClauseType;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.type.BasicType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Loads the elements of a collection a page at a time, using keyset pagination:
+ * the elements are ordered by a column which is unique within the collection, and
+ * each page is restricted to the elements following the last element of the
+ * previous page, so that the database never has to skip the preceding rows.
+ * <p>
+ * The ordering column is the index column of a list or of a map with a basic key,
+ * the element column of a set of basic values, or the column referencing the
+ * identifier of the associated entity for a one-to-many or many-to-many association.
+ * Other collections, and ordering columns spanning several columns, are not supported.
+ *
+ * @see org.hibernate.persister.collection.CollectionPersister#loadPage
+ */
+public class CollectionPageLoader implements Loader {
+	private final PluralAttributeMapping attributeMapping;
+	private final ModelPart orderingPart;
+	private final boolean selectsIndex;
+	private final BasicType<Integer> pageSizeType;
+
+	private final SelectStatement firstPageSqlAst;
+	private final JdbcParametersList firstPageJdbcParameters;
+	private final JdbcParameter firstPageSizeParameter;
+
+	private final SelectStatement nextPageSqlAst;
+	private final JdbcParametersList nextPageJdbcParameters;
+	private final JdbcParameter nextPageSizeParameter;
+
+	public CollectionPageLoader(
+			PluralAttributeMapping attributeMapping,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		this.attributeMapping = attributeMapping;
+
+		final CollectionPart indexDescriptor = attributeMapping.getIndexDescriptor();
+		final CollectionPart elementDescriptor = attributeMapping.getElementDescriptor();
+		if ( indexDescriptor != null ) {
+			if ( !( indexDescriptor instanceof BasicValuedCollectionPart ) ) {
+				throw unsupported( "its index is not a basic value" );
+			}
+			orderingPart = indexDescriptor;
+			selectsIndex = true;
+		}
+		else {
+			selectsIndex = false;
+			if ( elementDescriptor instanceof BasicValuedCollectionPart ) {
+				final CollectionClassification classification =
+						attributeMapping.getCollectionDescriptor().getCollectionSemantics()
+								.getCollectionClassification();
+				if ( classification == CollectionClassification.BAG
+						|| classification == CollectionClassification.ID_BAG ) {
+					throw unsupported( "its elements are not unique" );
+				}
+				orderingPart = elementDescriptor;
+			}
+			else if ( elementDescriptor instanceof OneToManyCollectionPart oneToMany ) {
+				if ( !( oneToMany.getEntityMappingType().getIdentifierMapping()
+						instanceof BasicEntityIdentifierMapping identifierMapping ) ) {
+					throw unsupported( "its elements do not have a basic identifier" );
+				}
+				orderingPart = identifierMapping;
+			}
+			else if ( elementDescriptor instanceof ManyToManyCollectionPart manyToMany ) {
+				if ( !( manyToMany.getForeignKeyDescriptor().getKeyPart() instanceof BasicValuedModelPart keyPart ) ) {
+					throw unsupported( "its elements are referenced by several columns" );
+				}
+				orderingPart = keyPart;
+			}
+			else {
+				throw unsupported( "its elements are not basic values or entities" );
+			}
+		}
+
+		pageSizeType = sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class );
+
+		final JdbcParametersList.Builder firstPageParametersBuilder = JdbcParametersList.newBuilder();
+		firstPageSqlAst = createSelect( influencers, firstPageParametersBuilder, sessionFactory );
+		firstPageSizeParameter = new JdbcParameterImpl( pageSizeType );
+		applyKeyset( firstPageSqlAst, firstPageSizeParameter, null );
+		firstPageJdbcParameters = firstPageParametersBuilder.build();
+
+		final JdbcParametersList.Builder nextPageParametersBuilder = JdbcParametersList.newBuilder();
+		nextPageSqlAst = createSelect( influencers, nextPageParametersBuilder, sessionFactory );
+		nextPageSizeParameter = new JdbcParameterImpl( pageSizeType );
+		final JdbcParameter lastOrderingValueParameter =
+				new JdbcParameterImpl( ( (BasicValuedModelPart) orderingPart ).getJdbcMapping() );
+		applyKeyset( nextPageSqlAst, nextPageSizeParameter, lastOrderingValueParameter );
+		nextPageParametersBuilder.add( lastOrderingValueParameter );
+		nextPageJdbcParameters = nextPageParametersBuilder.build();
+	}
+
+	private UnsupportedOperationException unsupported(String reason) {
+		return new UnsupportedOperationException(
+				"Collection '" + attributeMapping.getNavigableRole().getFullPath()
+						+ "' can not be loaded in pages since " + reason
+		);
+	}
+
+	private SelectStatement createSelect(
+			LoadQueryInfluencers influencers,
+			JdbcParametersList.Builder jdbcParametersBuilder,
+			SessionFactoryImplementor sessionFactory) {
+		final List<ModelPart> partsToSelect = new ArrayList<>( 2 );
+		if ( selectsIndex ) {
+			partsToSelect.add( attributeMapping.getIndexDescriptor() );
+		}
+		partsToSelect.add( attributeMapping.getElementDescriptor() );
+		return LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				partsToSelect,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				1,
+				influencers,
+				LockOptions.NONE,
+				jdbcParametersBuilder::add,
+				sessionFactory
+		);
+	}
+
+	/**
+	 * Order the rows by the ordering column, replacing any ordering of the mapping, restrict
+	 * them to the rows following the last row of the previous page, if any, and limit their
+	 * number to the page size.
+	 */
+	private void applyKeyset(
+			SelectStatement sqlAst,
+			JdbcParameter pageSizeParameter,
+			@Nullable JdbcParameter lastOrderingValueParameter) {
+		final QuerySpec querySpec = sqlAst.getQuerySpec();
+		final TableGroup rootTableGroup = querySpec.getFromClause().getRoots().get( 0 );
+		final BasicValuedModelPart orderingSelectable = (BasicValuedModelPart) orderingPart;
+		final ColumnReference orderingColumn = new ColumnReference(
+				rootTableGroup.resolveTableReference( orderingSelectable.getContainingTableExpression() ),
+				orderingSelectable
+		);
+		if ( lastOrderingValueParameter != null ) {
+			querySpec.applyPredicate(
+					new ComparisonPredicate( orderingColumn, ComparisonOperator.GREATER_THAN, lastOrderingValueParameter )
+			);
+		}
+		if ( querySpec.hasSortSpecifications() ) {
+			querySpec.getSortSpecifications().clear();
+		}
+		querySpec.addSortSpecification( new SortSpecification( orderingColumn, SortDirection.ASCENDING ) );
+		querySpec.setFetchClauseExpression( pageSizeParameter, FetchClauseType.ROWS_ONLY );
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	/**
+	 * Load the page of elements following the element with the given ordering value.
+	 *
+	 * @param key The collection key
+	 * @param lastOrderingValue The ordering value of the last element of the previous page,
+	 * or {@code null} to load the first page
+	 * @param pageSize The maximum number of elements to load
+	 */
+	public CollectionPage load(
+			Object key,
+			@Nullable Object lastOrderingValue,
+			int pageSize,
+			SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+
+		final boolean firstPage = lastOrderingValue == null;
+		final SelectStatement sqlAst = firstPage ? firstPageSqlAst : nextPageSqlAst;
+		final JdbcParametersList jdbcParameters = firstPage ? firstPageJdbcParameters : nextPageJdbcParameters;
+		final JdbcParameter pageSizeParameter = firstPage ? firstPageSizeParameter : nextPageSizeParameter;
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() + 1 );
+		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
+				key,
+				attributeMapping.getKeyDescriptor(),
+				jdbcParameters,
+				session
+		);
+		if ( !firstPage ) {
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					lastOrderingValue,
+					offset,
+					orderingPart,
+					jdbcParameters,
+					session
+			);
+		}
+		assert offset == jdbcParameters.size();
+		jdbcParameterBindings.addBinding(
+				pageSizeParameter,
+				new JdbcParameterBindingImpl( pageSizeType, pageSize )
+		);
+
+		final JdbcOperationQuerySelect jdbcSelect =
+				jdbcServices.getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( jdbcParameterBindings, QueryOptions.NONE );
+
+		final List<Object[]> rows = jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new BaseExecutionContext( session ),
+				RowTransformerArrayImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.NONE,
+				pageSize
+		);
+
+		final List<Object> elements = new ArrayList<>( rows.size() );
+		Object orderingValue = lastOrderingValue;
+		for ( Object[] row : rows ) {
+			final Object element = row[row.length - 1];
+			elements.add( element );
+			orderingValue = getOrderingValue( row, element, session );
+		}
+		return new CollectionPage( elements, orderingValue, rows.size() == pageSize );
+	}
+
+	private Object getOrderingValue(Object[] row, Object element, SharedSessionContractImplementor session) {
+		if ( selectsIndex ) {
+			return row[0];
+		}
+		else if ( attributeMapping.getElementDescriptor() instanceof OneToManyCollectionPart ) {
+			return ( (BasicEntityIdentifierMapping) orderingPart ).getIdentifier( element );
+		}
+		else if ( attributeMapping.getElementDescriptor() instanceof ManyToManyCollectionPart manyToMany ) {
+			return manyToMany.getForeignKeyDescriptor()
+					.getAssociationKeyFromSide( element, ForeignKeyDescriptor.Nature.TARGET, session );
+		}
+		else {
+			return element;
+		}
+	}
+}
@@ -16,10 +16,15 @@
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ManagedResultConsumer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * When the number of ids to initialize exceeds a certain threshold, IN-predicate based
  * {@linkplain org.hibernate.loader.ast.spi.MultiKeyLoader multi-key loaders} will break
  * the initialization into "chunks".
+ * <p>
+ * The same chunking applies to other statements restricted by an IN-predicate with
+ * a fixed number of parameters, which are then executed by a {@link ChunkExecutor}.
  *
  * @author Steve Ebersole
  */
@@ -46,13 +51,21 @@ interface ChunkBoundaryListener {
 		void chunkBoundaryNotification(int startIndex, int nonNullElementCount);
 	}
 
+	/**
+	 * Executes the statement for a chunk, with the parameters bound to the keys of the chunk
+	 */
+	@FunctionalInterface
+	public interface ChunkExecutor {
+		void execute(JdbcParameterBindings jdbcParameterBindings, int nonNullElementCount);
+	}
+
 	private final int chunkSize;
 	private final int keyColumnCount;
 	private final Bindable bindable;
 
 	private final JdbcParametersList jdbcParameters;
-	private final SelectStatement sqlAst;
-	private final JdbcOperationQuerySelect jdbcSelect;
+	private final @Nullable SelectStatement sqlAst;
+	private final @Nullable JdbcOperationQuerySelect jdbcSelect;
 
 	public MultiKeyLoadChunker(
 			int chunkSize,
@@ -69,6 +82,23 @@ public MultiKeyLoadChunker(
 		this.jdbcSelect = jdbcSelect;
 	}
 
+	/**
+	 * Creates a chunker for a statement other than a select, which is
+	 * executed by the {@link ChunkExecutor} passed to {@link #processChunks(Object[], int, ChunkExecutor, SharedSessionContractImplementor)}
+	 */
+	public MultiKeyLoadChunker(
+			int chunkSize,
+			int keyColumnCount,
+			Bindable bindable,
+			JdbcParametersList jdbcParameters) {
+		this.chunkSize = chunkSize;
+		this.keyColumnCount = keyColumnCount;
+		this.bindable = bindable;
+		this.jdbcParameters = jdbcParameters;
+		this.sqlAst = null;
+		this.jdbcSelect = null;
+	}
+
 	/**
 	 * Process the chunks
 	 *
@@ -87,10 +117,59 @@ public void processChunks(
 			ChunkStartListener startListener,
 			ChunkBoundaryListener boundaryListener,
 			SharedSessionContractImplementor session) {
+		assert jdbcSelect != null;
+		int numberOfKeysLeft = nonNullElementCount;
+		int start = 0;
+		while ( numberOfKeysLeft > 0 ) {
+			final int startIndex = start;
+			processChunk(
+					keys,
+					startIndex,
+					keyCollector,
+					startListener,
+					(jdbcParameterBindings, nonNullCounter) -> {
+						session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+								jdbcSelect,
+								jdbcParameterBindings,
+								sqlExecutionContextCreator.createContext( jdbcParameterBindings, session ),
+								RowTransformerStandardImpl.instance(),
+								null,
+								nonNullCounter,
+								ManagedResultConsumer.INSTANCE
+						);
+						boundaryListener.chunkBoundaryNotification( startIndex, nonNullCounter );
+					},
+					session
+			);
+
+			start += chunkSize;
+			numberOfKeysLeft -= chunkSize;
+		}
+	}
+
+	/**
+	 * Process the chunks, executing the statement of each chunk with the given executor
+	 *
+	 * @param keys The group of keys
+	 * @param nonNullElementCount The number of non-null values in {@code keys}
+	 * @param chunkExecutor Executes the statement for each chunk
+	 */
+	public void processChunks(
+			K[] keys,
+			int nonNullElementCount,
+			ChunkExecutor chunkExecutor,
+			SharedSessionContractImplementor session) {
 		int numberOfKeysLeft = nonNullElementCount;
 		int start = 0;
 		while ( numberOfKeysLeft > 0 ) {
-			processChunk( keys, start, sqlExecutionContextCreator, keyCollector, startListener, boundaryListener, session );
+			processChunk(
+					keys,
+					start,
+					(key, relativePosition, absolutePosition) -> {},
+					startIndex -> {},
+					chunkExecutor,
+					session
+			);
 
 			start += chunkSize;
 			numberOfKeysLeft -= chunkSize;
@@ -100,10 +179,9 @@ public void processChunks(
 	private void processChunk(
 			K[] keys,
 			int startIndex,
-			SqlExecutionContextCreator sqlExecutionContextCreator,
 			KeyCollector<K> keyCollector,
 			ChunkStartListener startListener,
-			ChunkBoundaryListener boundaryListener,
+			ChunkExecutor chunkExecutor,
 			SharedSessionContractImplementor session) {
 		startListener.chunkStartNotification( startIndex );
 
@@ -145,17 +223,7 @@ private void processChunk(
 			return;
 		}
 
-		session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-				jdbcSelect,
-				jdbcParameterBindings,
-				sqlExecutionContextCreator.createContext( jdbcParameterBindings, session ),
-				RowTransformerStandardImpl.instance(),
-				null,
-				nonNullCounter,
-				ManagedResultConsumer.INSTANCE
-		);
-
-		boundaryListener.chunkBoundaryNotification( startIndex, nonNullCounter );
+		chunkExecutor.execute( jdbcParameterBindings, nonNullCounter );
 	}
 
 }
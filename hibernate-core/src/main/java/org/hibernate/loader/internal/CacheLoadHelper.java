@@ -4,6 +4,8 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -33,11 +35,13 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static java.util.Arrays.asList;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.getVersion;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.INCONSISTENT_RTN_CLASS_MARKER;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.MANAGED;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.REMOVED_ENTITY_MARKER;
@@ -137,6 +141,78 @@ public static Object loadFromSecondLevelCache(
 		}
 	}
 
+	/**
+	 * Attempts to load multiple entities from the second-level cache,
+	 * accessing the cache region in bulk.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return An array of the same length as {@code entityKeys}, with the entity
+	 *         from the second-level cache, or null, at each position.
+	 */
+	public static Object[] loadFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+		final Object[] entities = new Object[entityKeys.length];
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( useCache && entityKeys.length > 0 ) {
+			final Object[] cacheKeys = new Object[entityKeys.length];
+			final Map<Object, Object> cachedEntries = getFromSharedCache( entityKeys, cacheKeys, persister, source );
+			if ( !cachedEntries.isEmpty() ) {
+				// the same key might occur more than once
+				final Map<Object, Object> resolvedEntities = mapOfSize( cachedEntries.size() );
+				for ( int i = 0; i < entityKeys.length; i++ ) {
+					final Object cacheKey = cacheKeys[i];
+					final Object ce = cachedEntries.get( cacheKey );
+					if ( ce != null ) {
+						final Object entity = resolvedEntities.containsKey( cacheKey )
+								? resolvedEntities.get( cacheKey )
+								: processCachedEntry( null, persister, ce, source, entityKeys[i] );
+						resolvedEntities.put( cacheKey, entity );
+						entities[i] = entity;
+					}
+				}
+			}
+		}
+		return entities;
+	}
+
+	private static Map<Object, Object> getFromSharedCache(
+			final EntityKey[] entityKeys,
+			final Object[] cacheKeys,
+			final EntityPersister persister,
+			SharedSessionContractImplementor source) {
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final String tenantIdentifier = source.getTenantIdentifier();
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey( entityKeys[i].getIdentifier(), persister, factory, tenantIdentifier );
+		}
+		final Map<Object, Object> cachedEntries = fromSharedCache( source, asList( cacheKeys ), persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final NavigableRole rootEntityRole = getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( Object cacheKey : cacheKeys ) {
+				if ( cachedEntries.containsKey( cacheKey ) ) {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+			}
+		}
+		return cachedEntries;
+	}
+
 	private static Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
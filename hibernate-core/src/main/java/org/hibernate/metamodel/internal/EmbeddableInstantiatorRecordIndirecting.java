@@ -41,7 +41,7 @@ public Object instantiate(ValueAccess valuesAccess) {
 			for ( int i = 0; i < values.length; i++ ) {
 				values[i] = originalValues[index[i]];
 			}
-			return constructor.newInstance( values );
+			return constructorInvoker.invoke( values );
 		}
 		catch ( Exception e ) {
 			throw new InstantiationException( "Could not instantiate entity", getMappedPojoClass(), e );
@@ -70,7 +70,7 @@ public Object instantiate(ValueAccess valuesAccess) {
 						values[i] = originalValues[index];
 					}
 				}
-				return constructor.newInstance( values );
+				return constructorInvoker.invoke( values );
 			}
 			catch ( Exception e ) {
 				throw new InstantiationException( "Could not instantiate entity", getMappedPojoClass(), e );
@@ -7,6 +7,7 @@
 import java.lang.reflect.Constructor;
 
 import org.hibernate.InstantiationException;
+import org.hibernate.internal.util.ConstructorInvoker;
 import org.hibernate.metamodel.spi.EmbeddableInstantiator;
 import org.hibernate.metamodel.spi.ValueAccess;
 
@@ -19,11 +20,13 @@
 public class EmbeddableInstantiatorRecordStandard extends AbstractPojoInstantiator implements EmbeddableInstantiator {
 
 	protected final Constructor<?> constructor;
+	protected final ConstructorInvoker<?> constructorInvoker;
 
 	public EmbeddableInstantiatorRecordStandard(Class<?> javaType) {
 		super( javaType );
 		final Class<?>[] componentTypes = getRecordComponentTypes( javaType );
 		this.constructor = getConstructorOrNull( javaType, componentTypes );
+		this.constructorInvoker = constructor == null ? null : ConstructorInvoker.of( constructor );
 	}
 
 	@Override
@@ -33,7 +36,7 @@ public Object instantiate(ValueAccess valuesAccess) {
 		}
 
 		try {
-			return constructor.newInstance( valuesAccess.getValues() );
+			return constructorInvoker.invoke( valuesAccess.getValues() );
 		}
 		catch ( Exception e ) {
 			throw new InstantiationException( "Could not instantiate entity", getMappedPojoClass(), e );
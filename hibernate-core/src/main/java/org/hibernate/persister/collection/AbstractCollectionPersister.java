@@ -42,6 +42,7 @@
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
+import org.hibernate.loader.ast.internal.CollectionPageLoader;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
@@ -250,6 +251,7 @@
 
 	private CollectionLoader collectionLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionPageLoader collectionPageLoader;
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -1087,6 +1089,11 @@ public void remove(Object id, SharedSessionContractImplementor session) throws H
 		getRemoveCoordinator().deleteAllRows( id, session );
 	}
 
+	@Override
+	public void removeAll(Object[] ids, SharedSessionContractImplementor session) throws HibernateException {
+		getRemoveCoordinator().deleteAllRowsInBulk( ids, session );
+	}
+
 	protected boolean isRowDeleteEnabled() {
 		return keyIsUpdateable;
 	}
@@ -1502,6 +1509,28 @@ public Object getElementByIndex(Object key, Object index, SharedSessionContractI
 		}
 	}
 
+	@Override
+	public CollectionPage loadPage(
+			Object key,
+			@Nullable Object lastOrderingValue,
+			int pageSize,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( isAffectedByEnabledFilters( new HashSet<>(), influencers, true ) ) {
+			return new CollectionPageLoader( attributeMapping, influencers, factory )
+					.load( key, lastOrderingValue, pageSize, session );
+		}
+		else {
+			// created lazily, since not every collection can be loaded in pages
+			CollectionPageLoader loader = collectionPageLoader;
+			if ( loader == null ) {
+				loader = new CollectionPageLoader( attributeMapping, new LoadQueryInfluencers( factory ), factory );
+				collectionPageLoader = loader;
+			}
+			return loader.load( key, lastOrderingValue, pageSize, session );
+		}
+	}
+
 	@Override
 	public boolean isExtraLazy() {
 		return isExtraLazy;
@@ -106,7 +106,7 @@ public void recreate(PersistentCollection<?> collection, Object id, SharedSessio
 	@Override
 	public void insertRows(PersistentCollection<?> collection, Object id, SharedSessionContractImplementor session)
 			throws HibernateException {
-		getCreateEntryCoordinator().insertRows( collection, id, collection::includeInInsert, session );
+		getCreateEntryCoordinator().insertRows( collection, id, InsertRowsCoordinator.INSERT_FILTER, session );
 	}
 
 	protected UpdateRowsCoordinator getUpdateEntryCoordinator() {
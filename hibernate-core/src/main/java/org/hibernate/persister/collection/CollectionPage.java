@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.collection;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A page of the elements of a collection, loaded by {@link CollectionPersister#loadPage}.
+ *
+ * @param elements the elements of the page, in the order of the ordering column
+ * @param lastOrderingValue the value of the ordering column for the last element of the
+ *                          page, from which the next page is loaded
+ * @param hasMore whether the page is full, so that further elements may follow it
+ *
+ * @since 7.0
+ */
+@Incubating
+public record CollectionPage(List<?> elements, @Nullable Object lastOrderingValue, boolean hasMore) {
+}
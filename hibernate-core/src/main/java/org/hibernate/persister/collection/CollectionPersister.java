@@ -35,6 +35,8 @@
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.Type;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A strategy for persisting a mapped collection role. A
  * {@code CollectionPersister} orchestrates rendering of SQL statements
@@ -182,6 +184,19 @@ default boolean needsRemove() {
 	 */
 	void remove(Object id, SharedSessionContractImplementor session);
 
+	/**
+	 * Completely remove the persistent state of the collections with the given keys,
+	 * using as few statements as possible
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void removeAll(Object[] ids, SharedSessionContractImplementor session) {
+		for ( Object id : ids ) {
+			remove( id, session );
+		}
+	}
+
 	/**
 	 * (Re)create the collection's persistent state
 	 */
@@ -312,6 +327,31 @@ default boolean isExtraLazy() {
 	boolean indexExists(Object key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Object key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * Load a page of the elements of the collection with the given key, using a keyset
+	 * query which orders the elements by a column unique within the collection, and
+	 * restricts them to the elements following the last element of the previous page.
+	 *
+	 * @param key The collection key
+	 * @param lastOrderingValue The {@linkplain CollectionPage#lastOrderingValue() ordering value}
+	 * of the last element of the previous page, or {@code null} to load the first page
+	 * @param pageSize The maximum number of elements to load
+	 *
+	 * @throws UnsupportedOperationException if the elements of the collection are not
+	 * identified by a single column
+	 *
+	 * @see org.hibernate.collection.spi.PersistentCollection#pages(int)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	CollectionPage loadPage(
+			Object key,
+			@Nullable Object lastOrderingValue,
+			int pageSize,
+			SharedSessionContractImplementor session);
+
 	default int getBatchSize() {
 		return -1;
 	}
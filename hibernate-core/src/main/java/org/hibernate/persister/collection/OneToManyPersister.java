@@ -161,7 +161,7 @@ public void recreate(PersistentCollection<?> collection, Object id, SharedSessio
 	@Override
 	public void insertRows(PersistentCollection<?> collection, Object id, SharedSessionContractImplementor session)
 			throws HibernateException {
-		getInsertRowsCoordinator().insertRows( collection, id, collection::includeInInsert, session );
+		getInsertRowsCoordinator().insertRows( collection, id, InsertRowsCoordinator.INSERT_FILTER, session );
 		writeIndex( collection, collection.entries( this ), id, true, session );
 	}
 
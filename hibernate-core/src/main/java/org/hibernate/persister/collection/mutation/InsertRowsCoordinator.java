@@ -4,6 +4,9 @@
  */
 package org.hibernate.persister.collection.mutation;
 
+import java.util.Iterator;
+
+import org.hibernate.Incubating;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -13,7 +16,9 @@
  * Coordinates the logical insertion of collection entries which are not yet persistent.
  * <p>
  * Insertions are determined by {@linkplain EntryFilter filtering} the entries obtained
- * from {@link PersistentCollection#entries(CollectionPersister)}.
+ * from {@link PersistentCollection#entries(CollectionPersister)}, or from
+ * {@link PersistentCollection#getInsertCandidates(CollectionPersister)} when
+ * {@linkplain #INSERT_FILTER inserting} rows into an existing collection.
  * <p>
  * A "logical" insertion because the actual SQL used may be an UPDATE in the case of
  * one-to-many mappings to set the foreign-key
@@ -38,6 +43,32 @@ void insertRows(
 			EntryFilter entryChecker,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Filter for the entries of an existing collection which need inserting, as
+	 * determined by {@link PersistentCollection#includeInInsert}, among the
+	 * {@linkplain PersistentCollection#getInsertCandidates insert candidates}.
+	 *
+	 * @see CollectionPersister#insertRows
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	EntryFilter INSERT_FILTER = new EntryFilter() {
+		@Override
+		public boolean include(
+				Object entry,
+				int position,
+				PersistentCollection<?> collection,
+				PluralAttributeMapping attributeDescriptor) {
+			return collection.includeInInsert( entry, position, collection, attributeDescriptor );
+		}
+
+		@Override
+		public Iterator<?> entries(PersistentCollection<?> collection, CollectionPersister persister) {
+			return collection.getInsertCandidates( persister );
+		}
+	};
+
 	/**
 	 * A tri-predicate for including / excluding collection entries
 	 * from iterative processing inside {@link #insertRows}.
@@ -59,5 +90,15 @@ interface EntryFilter {
 		default boolean exclude(Object entry, int i, PersistentCollection<?> collection, PluralAttributeMapping attributeDescriptor) {
 			return !include( entry, i, collection, attributeDescriptor );
 		}
+
+		/**
+		 * The entries to be filtered, by default all {@linkplain PersistentCollection#entries entries}.
+		 *
+		 * @since 7.0
+		 */
+		@Incubating
+		default Iterator<?> entries(PersistentCollection<?> collection, CollectionPersister persister) {
+			return collection.entries( persister );
+		}
 	}
 }
@@ -84,7 +84,9 @@ public void insertRows(
 		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 
 		try {
-			final Iterator<?> entries = collection.entries( collectionDescriptor );
+			final Iterator<?> entries = entryChecker == null
+					? collection.entries( collectionDescriptor )
+					: entryChecker.entries( collection, collectionDescriptor );
 			collection.preInsert( collectionDescriptor );
 			if ( !entries.hasNext() ) {
 				MODEL_MUTATION_LOGGER.debugf(
@@ -76,7 +76,9 @@ public void insertRows(
 		final PluralAttributeMapping pluralAttribute = mutationTarget.getTargetPart();
 		final CollectionPersister collectionDescriptor = pluralAttribute.getCollectionDescriptor();
 
-		final Iterator<?> entries = collection.entries( collectionDescriptor );
+		final Iterator<?> entries = entryChecker == null
+				? collection.entries( collectionDescriptor )
+				: entryChecker.entries( collection, collectionDescriptor );
 		collection.preInsert( collectionDescriptor );
 		if ( !entries.hasNext() ) {
 			if ( loggerDebugEnabled ) {
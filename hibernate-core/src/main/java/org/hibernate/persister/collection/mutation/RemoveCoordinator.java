@@ -4,6 +4,7 @@
  */
 package org.hibernate.persister.collection.mutation;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -32,4 +33,17 @@ public interface RemoveCoordinator extends CollectionOperationCoordinator {
 	 * Delete all rows based on the collection-key
 	 */
 	void deleteAllRows(Object key, SharedSessionContractImplementor session);
+
+	/**
+	 * Delete all rows of the collections with the given collection-keys, using as
+	 * few statements as possible.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void deleteAllRowsInBulk(Object[] keys, SharedSessionContractImplementor session) {
+		for ( Object key : keys ) {
+			deleteAllRows( key, session );
+		}
+	}
 }
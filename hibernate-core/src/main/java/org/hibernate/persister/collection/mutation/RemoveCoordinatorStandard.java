@@ -4,9 +4,35 @@
  */
 package org.hibernate.persister.collection.mutation;
 
+import java.lang.reflect.Array;
+
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.loader.ast.internal.MultiKeyLoadChunker;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.ValuedModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.ast.tree.predicate.InListPredicate;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.model.internal.MutationOperationGroupFactory;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -31,6 +57,7 @@ public class RemoveCoordinatorStandard implements RemoveCoordinator {
 	private final MutationExecutorService mutationExecutorService;
 
 	private MutationOperationGroup operationGroup;
+	private Boolean bulkDeleteSupported;
 
 	/**
 	 * Creates the coordinator.
@@ -116,6 +143,152 @@ public void deleteAllRows(Object key, SharedSessionContractImplementor session)
 		}
 	}
 
+	@Override
+	public void deleteAllRowsInBulk(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length < 2 || !isBulkDeleteSupported() ) {
+			RemoveCoordinator.super.deleteAllRowsInBulk( keys, session );
+			return;
+		}
+
+		if ( MODEL_MUTATION_LOGGER.isDebugEnabled() ) {
+			MODEL_MUTATION_LOGGER.debugf(
+					"Deleting %s collections in bulk - %s",
+					keys.length,
+					mutationTarget.getRolePath()
+			);
+		}
+
+		final Dialect dialect = session.getJdbcServices().getDialect();
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( dialect ) ) {
+			deleteAllRowsWithArray( keys, session );
+		}
+		else {
+			deleteAllRowsWithInList( keys, dialect, session );
+		}
+	}
+
+	/**
+	 * Can the rows of several collections be deleted by a single statement?
+	 * This is the case for a collection table with a single basic key column, unless
+	 * the removal is customized by custom SQL, a restriction, or soft-delete.
+	 */
+	private boolean isBulkDeleteSupported() {
+		if ( bulkDeleteSupported == null ) {
+			final PluralAttributeMapping attributeMapping = mutationTarget.getTargetPart();
+			bulkDeleteSupported = attributeMapping.getSeparateCollectionTable() != null
+					&& attributeMapping.getKeyDescriptor().getKeyPart() instanceof BasicValuedModelPart
+					&& attributeMapping.getSoftDeleteMapping() == null
+					&& !attributeMapping.hasWhereRestrictions()
+					&& mutationTarget.getCollectionTableMapping().getDeleteDetails().getCustomSql() == null;
+		}
+		return bulkDeleteSupported;
+	}
+
+	/**
+	 * Delete the rows of all the collections with a single statement binding the keys as an array.
+	 */
+	private void deleteAllRowsWithArray(Object[] keys, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final ValuedModelPart keyPart = mutationTarget.getTargetPart().getKeyDescriptor().getKeyPart();
+		final SelectableMapping keySelectable = keyPart.getSelectable( 0 );
+		final NamedTableReference tableReference = createCollectionTableReference();
+
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				keySelectable.getJdbcMapping(),
+				keySelectable.getJdbcMapping().getJdbcJavaType().getJavaTypeClass(),
+				factory
+		);
+		final JdbcParameter arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcParameterBindings.addBinding(
+				arrayParameter,
+				new JdbcParameterBindingImpl(
+						arrayJdbcMapping,
+						toJdbcArray( keys, keySelectable.getJdbcMapping(), arrayJdbcMapping )
+				)
+		);
+
+		final DeleteStatement sqlAstDelete = new DeleteStatement(
+				tableReference,
+				new InArrayPredicate( new ColumnReference( tableReference, keySelectable ), arrayParameter )
+		);
+		executeDelete( translateDelete( sqlAstDelete, factory ), jdbcParameterBindings, session );
+	}
+
+	/**
+	 * Delete the rows of the collections in chunks, with a statement with an IN list
+	 * of a fixed number of parameters which is translated once.
+	 */
+	private void deleteAllRowsWithInList(Object[] keys, Dialect dialect, SharedSessionContractImplementor session) {
+		final ValuedModelPart keyPart = mutationTarget.getTargetPart().getKeyDescriptor().getKeyPart();
+		final SelectableMapping keySelectable = keyPart.getSelectable( 0 );
+		final NamedTableReference tableReference = createCollectionTableReference();
+
+		final int chunkSize = dialect.getBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( 1, keys.length, false );
+		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder( chunkSize );
+		final InListPredicate inList = new InListPredicate( new ColumnReference( tableReference, keySelectable ) );
+		for ( int i = 0; i < chunkSize; i++ ) {
+			final JdbcParameter parameter = new JdbcParameterImpl( keySelectable.getJdbcMapping() );
+			jdbcParametersBuilder.add( parameter );
+			inList.addExpression( parameter );
+		}
+
+		final JdbcOperationQueryMutation jdbcDelete =
+				translateDelete( new DeleteStatement( tableReference, inList ), session.getFactory() );
+		new MultiKeyLoadChunker<>( chunkSize, 1, keyPart, jdbcParametersBuilder.build() ).processChunks(
+				keys,
+				keys.length,
+				(jdbcParameterBindings, nonNullElementCount) -> executeDelete( jdbcDelete, jdbcParameterBindings, session ),
+				session
+		);
+	}
+
+	private NamedTableReference createCollectionTableReference() {
+		return new NamedTableReference(
+				mutationTarget.getCollectionTableMapping().getTableName(),
+				DeleteStatement.DEFAULT_ALIAS,
+				true
+		);
+	}
+
+	private static JdbcOperationQueryMutation translateDelete(
+			DeleteStatement sqlAstDelete,
+			SessionFactoryImplementor factory) {
+		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildMutationTranslator( factory, sqlAstDelete )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	private static void executeDelete(
+			JdbcOperationQueryMutation jdbcDelete,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		session.getFactory().getJdbcServices().getJdbcMutationExecutor().execute(
+				jdbcDelete,
+				jdbcParameterBindings,
+				sql -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql ),
+				(integer, preparedStatement) -> {},
+				new BaseExecutionContext( session )
+		);
+	}
+
+	/**
+	 * Collect the keys into an array of their relational values, to be bound to
+	 * a parameter of the given array type.
+	 */
+	@AllowReflection
+	private static Object[] toJdbcArray(Object[] keys, JdbcMapping keyJdbcMapping, JdbcMapping arrayJdbcMapping) {
+		final Object[] jdbcValues = (Object[]) Array.newInstance(
+				arrayJdbcMapping.getJdbcJavaType().getJavaTypeClass().getComponentType(),
+				keys.length
+		);
+		for ( int i = 0; i < keys.length; i++ ) {
+			jdbcValues[i] = keyJdbcMapping.convertToRelationalValue( keys[i] );
+		}
+		return jdbcValues;
+	}
+
 	private MutationOperationGroup buildOperationGroup() {
 		assert mutationTarget.getTargetPart() != null;
 		assert mutationTarget.getTargetPart().getKeyDescriptor() != null;
@@ -16,6 +16,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
@@ -47,6 +48,7 @@
 import org.hibernate.query.OutputableType;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.internal.QueryOptionsImpl;
 import org.hibernate.query.procedure.ProcedureParameter;
 import org.hibernate.query.results.ResultSetMapping;
@@ -944,11 +946,21 @@ public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 		throw new UnsupportedOperationException( "scroll() is not implemented for ProcedureCall/StoredProcedureQuery" );
 	}
 
+	@Override
+	public void forEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		throw new UnsupportedOperationException( "forEachChunk() is not implemented for ProcedureCall/StoredProcedureQuery" );
+	}
+
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		throw new UnsupportedOperationException( "scroll() is not implemented for ProcedureCall/StoredProcedureQuery" );
 	}
 
+	@Override
+	protected void doForEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		throw new UnsupportedOperationException( "forEachChunk() is not implemented for ProcedureCall/StoredProcedureQuery" );
+	}
+
 	@Override
 	public List<R> getResultList() {
 		return doList();
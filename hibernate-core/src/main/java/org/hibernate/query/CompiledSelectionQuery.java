@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.SharedSessionContract;
+
+import jakarta.persistence.Parameter;
+
+/**
+ * A selection query which has been translated to SQL once, and which may be
+ * executed repeatedly, in any session obtained from the same
+ * {@link org.hibernate.SessionFactory}, and from multiple threads. An
+ * execution binds the given arguments directly to the JDBC parameters of the
+ * SQL statement, without creating a {@link SelectionQuery} or resolving a
+ * query plan.
+ * <pre>
+ * CompiledSelectionQuery&lt;Book&gt; bookByIsbn =
+ *         factory.compileSelectionQuery("from Book where isbn = :isbn", Book.class);
+ * ...
+ * Book book = bookByIsbn.getSingleResultOrNull(session, Map.of("isbn", isbn));
+ * </pre>
+ * <p>
+ * A compiled query cannot be executed with a multi-valued argument, or with
+ * query options such as a limit, lock mode, or cache mode. If a
+ * {@linkplain org.hibernate.Filter filter} is enabled in the session, the
+ * query is executed by creating a {@code SelectionQuery} in the usual way.
+ *
+ * @param <R> the result type
+ *
+ * @see org.hibernate.SessionFactory#compileSelectionQuery(String, Class)
+ * @see org.hibernate.SessionFactory#compileSelectionQuery(jakarta.persistence.criteria.CriteriaQuery)
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface CompiledSelectionQuery<R> {
+	/**
+	 * The HQL query, or a rendering of the criteria query as HQL.
+	 */
+	String getQueryString();
+
+	/**
+	 * The parameters of the query which must be assigned an argument
+	 * when the query is executed.
+	 */
+	List<Parameter<?>> getParameters();
+
+	/**
+	 * Execute the query in the given session, binding the given arguments
+	 * to the named parameters of the query.
+	 *
+	 * @throws IllegalArgumentException if an argument is missing for a
+	 * parameter of the query, or if the query has ordinal parameters
+	 */
+	List<R> getResultList(SharedSessionContract session, Map<String, ?> arguments);
+
+	/**
+	 * Execute the query in the given session, binding the given arguments
+	 * to the ordinal parameters of the query, the first argument being
+	 * bound to {@code ?1}.
+	 *
+	 * @throws IllegalArgumentException if the number of arguments does
+	 * not match the number of parameters, or if the query has named
+	 * parameters
+	 */
+	List<R> getResultList(SharedSessionContract session, Object... arguments);
+
+	/**
+	 * Execute the query in the given session, binding the given arguments
+	 * to the named parameters of the query, and return the single result,
+	 * or {@code null} if there is no result.
+	 *
+	 * @throws org.hibernate.NonUniqueResultException if there is more than
+	 * one result
+	 */
+	R getSingleResultOrNull(SharedSessionContract session, Map<String, ?> arguments);
+
+	/**
+	 * Execute the query in the given session, binding the given arguments
+	 * to the ordinal parameters of the query, and return the single result,
+	 * or {@code null} if there is no result.
+	 *
+	 * @throws org.hibernate.NonUniqueResultException if there is more than
+	 * one result
+	 */
+	R getSingleResultOrNull(SharedSessionContract session, Object... arguments);
+}
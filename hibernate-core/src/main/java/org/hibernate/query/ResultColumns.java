@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+
+/**
+ * A chunk of rows returned by a query with only basic-typed items in its
+ * selection list, stored column by column. Values of integral numeric types
+ * are stored in a {@code long[]}, and values of floating point numeric types
+ * in a {@code double[]}, without being boxed. Values of any other type, or
+ * of a type with a {@linkplain org.hibernate.type.descriptor.converter.spi.BasicValueConverter
+ * converter}, are stored in an array whose component type is the Java type
+ * of the selection item.
+ * <p>
+ * The arrays are allocated once, with the length of the requested chunk size,
+ * and reused for every chunk of the results, so only the first
+ * {@link #getRowCount()} elements of each array hold values of the current
+ * chunk. The arrays must not be retained after the call to the action which
+ * was passed the chunk returns.
+ *
+ * @see SelectionQuery#forEachChunk(int, Consumer)
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ResultColumns {
+	/**
+	 * The number of rows in this chunk.
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of items in the selection list of the query.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The Java type of the values of the given column, after conversion.
+	 *
+	 * @param column the zero-based position of the selection item
+	 */
+	Class<?> getJavaType(int column);
+
+	/**
+	 * Whether the values of the given column are stored in a
+	 * {@code long[]}.
+	 */
+	boolean isLongColumn(int column);
+
+	/**
+	 * Whether the values of the given column are stored in a
+	 * {@code double[]}.
+	 */
+	boolean isDoubleColumn(int column);
+
+	/**
+	 * Whether the given row has a null value in the given column. The
+	 * corresponding element of a primitive array is zero.
+	 */
+	boolean isNull(int column, int row);
+
+	/**
+	 * The values of a column of integral numeric type.
+	 *
+	 * @throws IllegalArgumentException if the column is not a
+	 * {@linkplain #isLongColumn long column}
+	 */
+	long[] getLongs(int column);
+
+	/**
+	 * The values of a column of floating point numeric type.
+	 *
+	 * @throws IllegalArgumentException if the column is not a
+	 * {@linkplain #isDoubleColumn double column}
+	 */
+	double[] getDoubles(int column);
+
+	/**
+	 * The values of a column which is neither a {@linkplain #isLongColumn
+	 * long column} nor a {@linkplain #isDoubleColumn double column}.
+	 *
+	 * @param type the Java type of the values, or one of its supertypes
+	 *
+	 * @throws IllegalArgumentException if the column is a long or double
+	 * column, or if its values are not assignable to the given type
+	 */
+	<T> T[] getValues(int column, Class<T> type);
+}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -272,6 +273,32 @@ default Stream<R> stream() {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Execute the query and pass its results to the given action in chunks
+	 * of at most the given number of rows, each stored column by column as an
+	 * instance of {@link ResultColumns}. Numeric values are stored in arrays
+	 * of primitive type, without being boxed, and no array or tuple is
+	 * instantiated for each row.
+	 * <p>
+	 * This is only possible for a query with only basic-typed items in its
+	 * selection list, and is typically used for queries which return a large
+	 * number of rows of aggregated numbers.
+	 *
+	 * @param chunkSize the maximum number of rows passed to each call to the action
+	 * @param action an action which processes the given chunk of results, and
+	 *        which must not retain a reference to it or to any of its arrays
+	 *
+	 * @throws IllegalStateException if the query has a selection item which
+	 *         is not basic-typed
+	 * @throws UnsupportedOperationException if this is a
+	 *         {@link org.hibernate.procedure.ProcedureCall}, whose results
+	 *         are not read column by column
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void forEachChunk(int chunkSize, Consumer<ResultColumns> action);
+
 	@Override
 	SelectionQuery<R> setHint(String hintName, Object value);
 
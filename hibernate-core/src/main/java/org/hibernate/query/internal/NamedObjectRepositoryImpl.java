@@ -5,8 +5,9 @@
 package org.hibernate.query.internal;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
@@ -43,6 +44,7 @@
 
 import jakarta.persistence.TypedQueryReference;
 
+import static org.hibernate.internal.util.BackgroundWorkHelper.forEachInParallel;
 import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
 
 /**
@@ -56,6 +58,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private int backgroundThreadCount = 1;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento<?>> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento<?>> sqlMementoMap,
@@ -261,6 +265,8 @@ public NamedQueryMemento<?> resolve(
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		backgroundThreadCount = sessionFactory.getSessionFactoryOptions().getBackgroundThreadCount();
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento<?> resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -316,13 +322,15 @@ public void validateNamedQueries(QueryEngine queryEngine) {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 
-		// Check named HQL queries
-		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+		// Check named HQL queries, interpreting them in parallel since
+		// HQL translation is by far the most expensive part of checking
+		final List<NamedSqmQueryMemento<?>> hqlMementos = List.copyOf( sqmMementoMap.values() );
+		log.debugf( "Checking %s named HQL queries", hqlMementos.size() );
+		forEachInParallel( hqlMementos, hqlMemento -> {
 			final String queryString = hqlMemento.getHqlString();
 			final String registrationName = hqlMemento.getRegistrationName();
 			try {
@@ -342,7 +350,7 @@ public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine
 			catch ( EntityTypeException e ) {
 				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
 			}
-		}
+		}, backgroundThreadCount, "Hibernate named query validation" );
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", sqlMementoMap.size() );
@@ -382,7 +390,6 @@ public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine
 		return errors;
 	}
 
-
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
 
@@ -186,7 +186,9 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final boolean recordQueries =
+					ConfigurationHelper.getString( AvailableSettings.QUERY_INTERPRETATION_WORKLOAD, properties ) != null;
+			return new QueryInterpretationCacheStandardImpl( size, recordQueries, serviceRegistry );
 		}
 		else {
 			// disabled
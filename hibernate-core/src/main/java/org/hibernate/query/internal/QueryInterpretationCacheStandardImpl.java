@@ -4,7 +4,15 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +24,9 @@
 import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.spi.QueryPlanFootprint;
+import org.hibernate.query.spi.QueryWarmUpCoverage;
+import org.hibernate.query.spi.QueryWorkloadEntry;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
@@ -43,15 +54,42 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 
+	/**
+	 * the queries observed by the cache, if recording is enabled
+	 */
+	private final Set<QueryWorkloadEntry> recordedQueries;
+	private final AtomicInteger recordedQueryCount = new AtomicInteger();
+	private final int maxRecordedQueries;
+
+	/**
+	 * the warmed up queries which have not been used yet, keyed exactly
+	 * like the interpretation caches, so that a cache hit can check for
+	 * a warmed up query without allocating
+	 */
+	private final Map<Object, QueryWorkloadEntry> unusedWarmedUpHqlQueries = new ConcurrentHashMap<>();
+	private final Map<String, QueryWorkloadEntry> unusedWarmedUpNativeQueries = new ConcurrentHashMap<>();
+	private final LongAdder warmedUpQueries = new LongAdder();
+	private final LongAdder warmedUpQueriesUsed = new LongAdder();
+	private final LongAdder queriesInterpretedOnDemand = new LongAdder();
+
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, false, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			boolean recordQueries,
+			ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.serviceRegistry = serviceRegistry;
+		this.recordedQueries = recordQueries ? ConcurrentHashMap.newKeySet() : null;
+		this.maxRecordedQueries = maxQueryPlanCount;
 	}
 
 	@Override
@@ -124,6 +162,7 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
+			markUsed( unusedWarmedUpHqlQueries, cacheKey, statistics );
 			//noinspection unchecked
 			return (HqlInterpretation<R>) existing;
 		}
@@ -133,6 +172,7 @@ else if ( expectedResultType != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
+				markUsed( unusedWarmedUpHqlQueries, queryString, statistics );
 				//noinspection unchecked
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
@@ -141,9 +181,28 @@ else if ( expectedResultType != null ) {
 		final HqlInterpretation<R> hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		interpretedOnDemand( statistics );
+		record( new QueryWorkloadEntry( queryString, expectedResultType, false ) );
 		return hqlInterpretation;
 	}
 
+	@Override
+	public <R> void warmUpHqlInterpretation(
+			String queryString,
+			Class<R> expectedResultType,
+			HqlTranslator translator) {
+		final Object cacheKey = expectedResultType != null
+				? new HqlInterpretationCacheKey( queryString, expectedResultType )
+				: queryString;
+		if ( !hqlInterpretationCache.containsKey( cacheKey ) ) {
+			final StatisticsImplementor statistics = getStatistics();
+			hqlInterpretationCache.put( cacheKey,
+					createHqlInterpretation( queryString, expectedResultType, translator, statistics ) );
+			warmedUp( unusedWarmedUpHqlQueries, cacheKey,
+					new QueryWorkloadEntry( queryString, expectedResultType, false ), statistics );
+		}
+	}
+
 	@Override
 	public <R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation) {
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
@@ -184,27 +243,142 @@ public ParameterInterpretation resolveNativeQueryParameters(
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		final ParameterInterpretation existing = nativeQueryParamCache.get( queryString );
+		if ( existing != null ) {
+			markUsed( unusedWarmedUpNativeQueries, queryString, getStatistics() );
+			return existing;
+		}
 		return nativeQueryParamCache.computeIfAbsent(
 				queryString,
 				s -> {
 					final ParameterInterpretation interpretation = creator.apply( queryString );
 					log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
+					interpretedOnDemand( getStatistics() );
+					record( new QueryWorkloadEntry( queryString, null, true ) );
 					return interpretation;
 				}
 		);
 	}
 
+	@Override
+	public void warmUpNativeQueryParameters(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		if ( !nativeQueryParamCache.containsKey( queryString ) ) {
+			nativeQueryParamCache.put( queryString, creator.apply( queryString ) );
+			warmedUp( unusedWarmedUpNativeQueries, queryString,
+					new QueryWorkloadEntry( queryString, null, true ), getStatistics() );
+		}
+	}
+
+	private <K> void warmedUp(
+			Map<K, QueryWorkloadEntry> unusedWarmedUpQueries,
+			K cacheKey,
+			QueryWorkloadEntry query,
+			StatisticsImplementor statistics) {
+		if ( unusedWarmedUpQueries.putIfAbsent( cacheKey, query ) == null ) {
+			warmedUpQueries.increment();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryWarmedUp();
+			}
+		}
+	}
+
+	private <K> void markUsed(
+			Map<K, QueryWorkloadEntry> unusedWarmedUpQueries,
+			K cacheKey,
+			StatisticsImplementor statistics) {
+		// this is called for every cache hit, so look up the
+		// existing cache key, and never allocate anything here
+		if ( !unusedWarmedUpQueries.isEmpty() ) {
+			final QueryWorkloadEntry query = unusedWarmedUpQueries.remove( cacheKey );
+			if ( query != null ) {
+				warmedUpQueriesUsed.increment();
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.warmedUpQueryUsed();
+				}
+				record( query );
+			}
+		}
+	}
+
+	private void interpretedOnDemand(StatisticsImplementor statistics) {
+		queriesInterpretedOnDemand.increment();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretedOnDemand();
+		}
+	}
+
+	private void record(QueryWorkloadEntry query) {
+		if ( recordedQueries != null && !recordedQueries.contains( query ) ) {
+			// reserve a slot before adding, so that concurrent
+			// callers never exceed the maximum number of queries
+			if ( recordedQueryCount.incrementAndGet() > maxRecordedQueries
+					|| !recordedQueries.add( query ) ) {
+				recordedQueryCount.decrementAndGet();
+			}
+		}
+	}
+
+	@Override
+	public List<QueryWorkloadEntry> getRecordedQueries() {
+		return recordedQueries == null ? List.of() : List.copyOf( recordedQueries );
+	}
+
+	@Override
+	public QueryWarmUpCoverage getWarmUpCoverage() {
+		return new QueryWarmUpCoverage(
+				warmedUpQueries.sum(),
+				warmedUpQueriesUsed.sum(),
+				queriesInterpretedOnDemand.sum()
+		);
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return true;
 	}
 
+	@Override
+	public List<QueryPlanFootprint> getQueryPlanFootprints() {
+		final List<Map.Entry<Key, List<String>>> retainedSql = new ArrayList<>( queryPlanCache.size() );
+		// count the entries holding each SQL string instance
+		final IdentityHashMap<String, Integer> holders = new IdentityHashMap<>();
+		for ( Map.Entry<Key, QueryPlan> entry : queryPlanCache.entrySet() ) {
+			final List<String> sqlStrings = entry.getValue().getRetainedSql();
+			retainedSql.add( Map.entry( entry.getKey(), sqlStrings ) );
+			for ( String sql : sqlStrings ) {
+				holders.merge( sql, 1, Integer::sum );
+			}
+		}
+		final List<QueryPlanFootprint> footprints = new ArrayList<>( retainedSql.size() );
+		for ( Map.Entry<Key, List<String>> entry : retainedSql ) {
+			long sqlLength = 0;
+			long sharedSqlLength = 0;
+			for ( String sql : entry.getValue() ) {
+				sqlLength += sql.length();
+				if ( holders.get( sql ) > 1 ) {
+					sharedSqlLength += sql.length();
+				}
+			}
+			footprints.add( new QueryPlanFootprint(
+					entry.getKey().getQueryString(),
+					entry.getValue().size(),
+					sqlLength,
+					sharedSqlLength
+			) );
+		}
+		return footprints;
+	}
+
 	@Override
 	public void close() {
 		log.debug( "Closing QueryInterpretationCache" );
 		hqlInterpretationCache.clear();
 		nativeQueryParamCache.clear();
 		queryPlanCache.clear();
+		unusedWarmedUpHqlQueries.clear();
+		unusedWarmedUpNativeQueries.clear();
 	}
 
 	/**
@@ -13,6 +13,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -37,6 +38,7 @@
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
@@ -155,6 +157,27 @@ public List<R> list() {
 		}
 	}
 
+	@Override
+	public void forEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		boolean success = false;
+		try {
+			doForEachChunk( chunkSize, action );
+			success = true;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+		}
+	}
+
+	protected abstract void doForEachChunk(int chunkSize, Consumer<ResultColumns> action);
+
 	protected HashSet<String> beforeQueryHandlingFetchProfiles() {
 		beforeQuery();
 		final MutableQueryOptions options = getQueryOptions();
@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -53,6 +54,58 @@ static Key createInterpretationsKey(InterpretationsKeySource keySource) {
 
 	boolean isEnabled();
 
+	/**
+	 * Report the SQL retained by each cached query plan.
+	 *
+	 * @since 7.0
+	 */
+	default List<QueryPlanFootprint> getQueryPlanFootprints() {
+		return List.of();
+	}
+
+	/**
+	 * Interpret the given HQL query ahead of its first use, and cache the
+	 * interpretation.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 *
+	 * @since 7.0
+	 */
+	default <R> void warmUpHqlInterpretation(String queryString, Class<R> expectedResultType, HqlTranslator translator) {
+	}
+
+	/**
+	 * Interpret the parameters of the given native query ahead of its first
+	 * use, and cache the interpretation.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 *
+	 * @since 7.0
+	 */
+	default void warmUpNativeQueryParameters(String queryString, Function<String, ParameterInterpretation> creator) {
+	}
+
+	/**
+	 * The HQL and native queries which were interpreted via this cache, if
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 * recording} is enabled.
+	 *
+	 * @since 7.0
+	 */
+	default List<QueryWorkloadEntry> getRecordedQueries() {
+		return List.of();
+	}
+
+	/**
+	 * Report how many of the queries used since startup were interpreted
+	 * during warm-up.
+	 *
+	 * @since 7.0
+	 */
+	default QueryWarmUpCoverage getWarmUpCoverage() {
+		return new QueryWarmUpCoverage( 0, 0, 0 );
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
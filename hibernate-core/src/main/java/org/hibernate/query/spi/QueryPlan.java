@@ -4,6 +4,8 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.List;
+
 import org.hibernate.Incubating;
 
 /**
@@ -13,4 +15,14 @@
  */
 @Incubating
 public interface QueryPlan {
+	/**
+	 * The SQL strings currently held by this plan, for reporting the
+	 * {@linkplain QueryInterpretationCache#getQueryPlanFootprints footprint}
+	 * of the plan cache.
+	 *
+	 * @since 7.0
+	 */
+	default List<String> getRetainedSql() {
+		return List.of();
+	}
 }
@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Describes the SQL retained by an entry of the query plan cache.
+ *
+ * @param queryString the query string of the cache key
+ * @param sqlCount the number of SQL strings held by the plan
+ * @param sqlLength the total length of the SQL strings held by the plan
+ * @param sharedSqlLength the total length of those SQL strings which are the
+ *        very same instances as SQL held by other cache entries, and which
+ *        therefore do not add to the overall footprint of the cache
+ *
+ * @see QueryInterpretationCache#getQueryPlanFootprints()
+ *
+ * @since 7.0
+ */
+@Incubating
+public record QueryPlanFootprint(String queryString, int sqlCount, long sqlLength, long sharedSqlLength) {
+}
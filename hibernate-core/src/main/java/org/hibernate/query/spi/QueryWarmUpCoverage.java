@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Describes how much of the actual query workload was covered by the
+ * queries interpreted ahead of their first use.
+ *
+ * @param warmedUpQueries the number of queries interpreted during warm-up
+ * @param warmedUpQueriesUsed the number of those queries which were later
+ *        executed
+ * @param queriesInterpretedOnDemand the number of queries which were not
+ *        warmed up, and were interpreted on their first use
+ *
+ * @see QueryInterpretationCache#getWarmUpCoverage()
+ *
+ * @since 7.0
+ */
+@Incubating
+public record QueryWarmUpCoverage(long warmedUpQueries, long warmedUpQueriesUsed, long queriesInterpretedOnDemand) {
+	/**
+	 * The fraction of queries used since startup whose interpretation was
+	 * already cached by the warm-up, or {@code 1} if no query was used.
+	 */
+	public double coverage() {
+		final long used = warmedUpQueriesUsed + queriesInterpretedOnDemand;
+		return used == 0 ? 1 : (double) warmedUpQueriesUsed / used;
+	}
+}
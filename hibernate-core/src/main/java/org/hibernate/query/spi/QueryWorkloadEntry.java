@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * A query observed by the {@link QueryInterpretationCache}, which may be
+ * interpreted ahead of its first use when the {@code SessionFactory} is
+ * next started.
+ *
+ * @param queryString the HQL or native SQL query
+ * @param expectedResultType the result type requested for an HQL query, or
+ *        {@code null}
+ * @param nativeQuery whether the query is a native SQL query
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+ *
+ * @since 7.0
+ */
+@Incubating
+public record QueryWorkloadEntry(String queryString, Class<?> expectedResultType, boolean nativeQuery) {
+}
@@ -54,6 +54,7 @@
 import org.hibernate.query.PathException;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
@@ -96,6 +97,7 @@
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.Fetchable;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.BasicType;
@@ -427,10 +429,18 @@ private ParameterInterpretation resolveParameterInterpretation(
 						s -> parameterInterpretation( sqlString, session ) );
 	}
 
-	private static ParameterInterpretationImpl parameterInterpretation(
+	private static ParameterInterpretation parameterInterpretation(
 			String sqlString, SharedSessionContractImplementor session) {
+		return parameterInterpretation( sqlString, session.getFactory() );
+	}
+
+	/**
+	 * Recognize the parameters of the given native query.
+	 */
+	public static ParameterInterpretation parameterInterpretation(
+			String sqlString, SessionFactoryImplementor factory) {
 		final ParameterRecognizerImpl parameterRecognizer = new ParameterRecognizerImpl();
-		session.getFactory().getServiceRegistry()
+		factory.getServiceRegistry()
 				.requireService( NativeQueryInterpreter.class )
 				.recognizeParameters( sqlString, parameterRecognizer );
 		return new ParameterInterpretationImpl( parameterRecognizer );
@@ -958,6 +968,11 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected void doForEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		resolveSelectQueryPlan().executeQuery( this, new ColumnarResultsConsumer<>( chunkSize, action ) );
+	}
+
 	protected int doExecuteUpdate() {
 		return resolveNonSelectQueryPlan().executeUpdate( this );
 	}
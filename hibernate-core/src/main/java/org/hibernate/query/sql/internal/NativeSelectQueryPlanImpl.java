@@ -49,7 +49,7 @@ public NativeSelectQueryPlanImpl(
 			SessionFactoryImplementor sessionFactory) {
 		final ResultSetMappingProcessor processor = new ResultSetMappingProcessor( resultSetMapping, sessionFactory );
 		final SQLQueryParser parser = new SQLQueryParser( sql, processor.process(), sessionFactory );
-		this.sql = parser.process();
+		this.sql = sessionFactory.getSqlTranslationEngine().internSql( parser.process() );
 		this.parameterList = parameterList;
 		this.resultSetMapping = processor.generateResultMapping( parser.queryHasAliases() );
 		if ( affectedTableNames == null ) {
@@ -61,6 +61,11 @@ public NativeSelectQueryPlanImpl(
 		this.affectedTableNames = affectedTableNames;
 	}
 
+	@Override
+	public List<String> getRetainedSql() {
+		return List.of( sql );
+	}
+
 	@Override
 	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
 		final List<JdbcParameterBinder> jdbcParameterBinders;
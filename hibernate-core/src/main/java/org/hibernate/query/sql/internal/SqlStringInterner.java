@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sql.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes equal SQL strings, so that the many query plans, loaders,
+ * and mutation operations which render the same SQL share a single instance
+ * of the string. The canonical instances are only weakly referenced, and are
+ * discarded once no plan or operation holds them anymore.
+ * <p>
+ * Since every SQL AST translation goes through the interner, it does not
+ * hold any lock shared by the threads of the session factory.
+ *
+ * @since 7.0
+ */
+class SqlStringInterner {
+	private final ConcurrentHashMap<Key, Key> strings = new ConcurrentHashMap<>();
+	private final ReferenceQueue<String> collected = new ReferenceQueue<>();
+
+	String intern(String sql) {
+		expungeCollected();
+		final Key key = new Key( sql, collected );
+		while ( true ) {
+			final Key existing = strings.putIfAbsent( key, key );
+			if ( existing == null ) {
+				return sql;
+			}
+			final String interned = existing.get();
+			if ( interned != null ) {
+				return interned;
+			}
+			// the canonical instance was collected, but not yet expunged
+			strings.remove( existing, existing );
+		}
+	}
+
+	int size() {
+		expungeCollected();
+		return strings.size();
+	}
+
+	private void expungeCollected() {
+		Reference<? extends String> reference;
+		while ( ( reference = collected.poll() ) != null ) {
+			strings.remove( reference, reference );
+		}
+	}
+
+	/**
+	 * A weak reference to a SQL string, equal to any other key referencing
+	 * an equal string, as long as the string was not collected.
+	 */
+	private static final class Key extends WeakReference<String> {
+		private final int hashCode;
+
+		private Key(String sql, ReferenceQueue<String> queue) {
+			super( sql, queue );
+			hashCode = sql.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			else if ( !( object instanceof Key that ) || hashCode != that.hashCode ) {
+				return false;
+			}
+			else {
+				final String sql = get();
+				return sql != null && sql.equals( that.get() );
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
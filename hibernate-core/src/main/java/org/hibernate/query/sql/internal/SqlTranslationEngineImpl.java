@@ -23,6 +23,7 @@ public class SqlTranslationEngineImpl implements SqlTranslationEngine {
 	private final SessionFactoryImplementor factory;
 	private final TypeConfiguration typeConfiguration;
 	private final Map<String, FetchProfile> fetchProfiles;
+	private final SqlStringInterner sqlStringInterner = new SqlStringInterner();
 
 	public SqlTranslationEngineImpl(
 			SessionFactoryImplementor factory,
@@ -77,4 +78,14 @@ public boolean containsFetchProfileDefinition(String name) {
 	public Set<String> getDefinedFetchProfileNames() {
 		return unmodifiableSet( fetchProfiles.keySet() );
 	}
+
+	@Override
+	public String internSql(String sql) {
+		return sqlStringInterner.intern( sql );
+	}
+
+	@Override
+	public int getNumberOfInternedSqlStrings() {
+		return sqlStringInterner.size();
+	}
 }
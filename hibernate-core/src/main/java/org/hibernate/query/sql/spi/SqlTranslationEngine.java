@@ -25,4 +25,24 @@ public interface SqlTranslationEngine extends SqlAstCreationContext {
 	boolean containsFetchProfileDefinition(String name);
 
 	Set<String> getDefinedFetchProfileNames();
+
+	/**
+	 * Obtain a canonical instance of the given rendered SQL string, shared
+	 * by every {@linkplain org.hibernate.sql.exec.spi.JdbcOperation JDBC
+	 * operation} of this factory which renders the same SQL.
+	 *
+	 * @since 7.0
+	 */
+	default String internSql(String sql) {
+		return sql;
+	}
+
+	/**
+	 * The number of distinct SQL strings currently {@linkplain #internSql interned}.
+	 *
+	 * @since 7.0
+	 */
+	default int getNumberOfInternedSqlStrings() {
+		return 0;
+	}
 }
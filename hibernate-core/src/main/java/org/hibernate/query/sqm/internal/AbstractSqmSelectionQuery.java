@@ -14,6 +14,7 @@
 import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.Page;
 import org.hibernate.query.QueryLogging;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.hql.internal.QuerySplitter;
@@ -35,9 +36,11 @@
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
 import org.hibernate.type.BasicTypeRegistry;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
@@ -105,7 +108,14 @@ protected void errorOrLogForPaginationWithCollectionFetch() {
 	public abstract SqmStatement<R> getSqmStatement();
 	protected abstract void setSqmStatement(SqmSelectStatement<R> statement);
 	public abstract DomainParameterXref getDomainParameterXref();
+	public abstract Object getQueryStringCacheKey();
 	public abstract TupleMetadata getTupleMetadata();
+	protected abstract SelectQueryPlan<R> resolveSelectQueryPlan();
+
+	@Override
+	protected void doForEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		resolveSelectQueryPlan().executeQuery( this, new ColumnarResultsConsumer<>( chunkSize, action ) );
+	}
 
 	private SqmSelectStatement<R> getSqmSelectStatement() {
 		if ( getSqmStatement() instanceof SqmSelectStatement<R> selectStatement ) {
@@ -264,6 +274,7 @@ protected <T> ConcreteSqmSelectQueryPlan<T> buildConcreteQueryPlan(
 				concreteSqmStatement,
 				getQueryString(),
 				getDomainParameterXref(),
+				getQueryStringCacheKey() instanceof SqmCriteriaCacheKey criteriaCacheKey ? criteriaCacheKey : null,
 				expectedResultType,
 				tupleMetadata,
 				queryOptions
@@ -304,6 +315,18 @@ protected TupleMetadata buildTupleMetadata(SqmStatement<?> statement, Class<R> r
 		}
 	}
 
+	/**
+	 * The {@link TupleMetadata} for a query without a
+	 * {@link org.hibernate.query.TupleTransformer}.
+	 */
+	static TupleMetadata tupleMetadata(SqmSelectStatement<?> select, Class<?> resultType) {
+		final List<SqmSelection<?>> selections =
+				select.getQueryPart().getFirstQuerySpec().getSelectClause().getSelections();
+		return isTupleMetadataRequired( resultType, selections.get(0) )
+				? new TupleMetadata( buildTupleElementArray( selections ), buildTupleAliasArray( selections ) )
+				: null;
+	}
+
 	private static <R> boolean isTupleMetadataRequired(Class<R> resultType, SqmSelection<?> selection) {
 		return isHqlTuple( selection )
 			|| !isInstantiableWithoutMetadata( resultType )
@@ -26,6 +26,15 @@ public AggregatedSelectQueryPlanImpl(SelectQueryPlan<R>[] aggregatedQueryPlans)
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
 	}
 
+	@Override
+	public List<String> getRetainedSql() {
+		final List<String> retainedSql = new ArrayList<>();
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			retainedSql.addAll( aggregatedQueryPlan.getRetainedSql() );
+		}
+		return retainedSql;
+	}
+
 	@Override
 	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
 		throw new UnsupportedOperationException();
@@ -0,0 +1,526 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.NonUniqueResultException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedMapping;
+import org.hibernate.metamodel.mapping.Bindable;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.CompiledSelectionQuery;
+import org.hibernate.query.QueryArgumentException;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.JpaCriteriaParameter;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import jakarta.persistence.Parameter;
+
+import static org.hibernate.query.sqm.internal.AbstractSqmSelectionQuery.tupleMetadata;
+import static org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan.determineRowTransformer;
+import static org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan.interpretIntExpression;
+import static org.hibernate.query.sqm.internal.SqmUtil.determineParameterType;
+import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
+
+/**
+ * Standard implementation of {@link CompiledSelectionQuery}. The SQM tree is
+ * translated to a SQL AST once, and the JDBC parameters of each query parameter
+ * are resolved once, along with the type used to bind them, so that an execution
+ * only needs to populate a {@link JdbcParameterBindings} from the arguments. The
+ * SQL AST is translated to a {@link JdbcOperationQuerySelect} by the first
+ * execution, since binding the arguments may require a session.
+ *
+ * @since 7.0
+ */
+public class CompiledSqmSelectionQuery<R> implements CompiledSelectionQuery<R> {
+	private final SessionFactoryImplementor factory;
+	private final String queryString;
+	private final SqmSelectStatement<R> sqm;
+	private final boolean criteria;
+	private final Class<R> resultType;
+	private final Class<R> determinedResultType;
+	private final RowTransformer<R> rowTransformer;
+	private final ListResultsConsumer.UniqueSemantic uniqueSemantic;
+
+	private final SelectStatement sqlAst;
+	// the fetch profiles which were enabled when the SQL AST was built
+	private final Set<String> fetchProfiles;
+	private volatile JdbcOperationQuerySelect jdbcSelect;
+	private final int jdbcParameterCount;
+
+	// one element for each parameter of the query, including
+	// criteria parameters which were given a value up front
+	private final ParameterLayout[] parameterLayouts;
+	private final List<Parameter<?>> parameters;
+	private final Map<String, ParameterLayout> parametersByName;
+	private final boolean ordinalParameters;
+
+	public static <R> CompiledSqmSelectionQuery<R> fromHql(
+			String hql,
+			Class<R> resultType,
+			SessionFactoryImplementor factory) {
+		final QueryEngine queryEngine = factory.getQueryEngine();
+		final HqlInterpretation<R> interpretation =
+				queryEngine.getInterpretationCache()
+						.resolveHqlInterpretation( hql, resultType, queryEngine.getHqlTranslator() );
+		SqmUtil.verifyIsSelectStatement( interpretation.getSqmStatement(), hql );
+		final SqmSelectStatement<R> sqm = (SqmSelectStatement<R>) interpretation.getSqmStatement();
+		interpretation.validateResultType( SqmSelectionQueryImpl.determineResultType( sqm, resultType ) );
+		return new CompiledSqmSelectionQuery<>(
+				hql,
+				sqm,
+				false,
+				interpretation.getDomainParameterXref(),
+				interpretation.getParameterMetadata(),
+				resultType,
+				factory
+		);
+	}
+
+	public static <R> CompiledSqmSelectionQuery<R> fromCriteria(
+			SqmSelectStatement<R> criteria,
+			SessionFactoryImplementor factory) {
+		final SqmSelectStatement<R> sqm = criteria.copy( SqmCopyContext.simpleContext() );
+		final DomainParameterXref domainParameterXref = DomainParameterXref.from( sqm );
+		final ParameterMetadataImplementor parameterMetadata = domainParameterXref.hasParameters()
+				? new ParameterMetadataImpl( domainParameterXref.getQueryParameters() )
+				: ParameterMetadataImpl.EMPTY;
+		return new CompiledSqmSelectionQuery<>(
+				sqm.toHqlString(),
+				sqm,
+				true,
+				domainParameterXref,
+				parameterMetadata,
+				sqm.getResultType(),
+				factory
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompiledSqmSelectionQuery(
+			String queryString,
+			SqmSelectStatement<R> sqm,
+			boolean criteria,
+			DomainParameterXref domainParameterXref,
+			ParameterMetadataImplementor parameterMetadata,
+			Class<R> resultType,
+			SessionFactoryImplementor factory) {
+		this.factory = factory;
+		this.queryString = queryString;
+		this.sqm = sqm;
+		this.criteria = criteria;
+		this.resultType = resultType;
+		determinedResultType = (Class<R>) SqmSelectionQueryImpl.determineResultType( sqm, resultType );
+		rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata( sqm, resultType ), QueryOptions.NONE );
+		uniqueSemantic = sqm.producesUniqueResults()
+				? ListResultsConsumer.UniqueSemantic.NONE
+				: ListResultsConsumer.UniqueSemantic.ALLOW;
+
+		final QueryParameterBindings parameterBindings = parameterMetadata.createBindings( factory );
+		for ( SqmParameter<?> sqmParameter : domainParameterXref.getParameterResolutions().getSqmParameters() ) {
+			if ( sqmParameter instanceof SqmJpaCriteriaParameterWrapper<?> wrapper ) {
+				bindCriteriaParameter( wrapper.getJpaCriteriaParameter(), parameterBindings );
+			}
+		}
+
+		final LoadQueryInfluencers loadQueryInfluencers = new LoadQueryInfluencers( factory );
+		fetchProfiles = Set.copyOf( loadQueryInfluencers.getEnabledFetchProfileNames() );
+		final SqmTranslation<SelectStatement> translation =
+				factory.getQueryEngine().getSqmTranslatorFactory()
+						.createSelectTranslator(
+								sqm,
+								QueryOptions.NONE,
+								domainParameterXref,
+								parameterBindings,
+								loadQueryInfluencers,
+								factory.getSqlTranslationEngine(),
+								true
+						)
+						.translate();
+		sqlAst = translation.getSqlAst();
+		final var jdbcParamsXref = generateJdbcParamsXref( domainParameterXref, translation::getJdbcParamsBySqmParam );
+		final SqmParameterMappingModelResolutionAccess resolutionAccess = new SqmParameterMappingModelResolutionAccess() {
+			@Override @SuppressWarnings("unchecked")
+			public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+				return (MappingModelExpressible<T>)
+						translation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+			}
+		};
+
+		final List<ParameterLayout> layouts = new ArrayList<>();
+		final List<ParameterLayout> argumentLayouts = new ArrayList<>();
+		int jdbcParameterCount = 0;
+		for ( var entry : domainParameterXref.getQueryParameters().entrySet() ) {
+			final ParameterLayout layout =
+					parameterLayout( entry.getKey(), entry.getValue(), parameterBindings,
+							jdbcParamsXref.get( entry.getKey() ), resolutionAccess );
+			layouts.add( layout );
+			if ( !layout.fixed ) {
+				argumentLayouts.add( layout );
+			}
+			for ( JdbcParametersList jdbcParameters : layout.jdbcParameters ) {
+				jdbcParameterCount += jdbcParameters.size();
+			}
+		}
+		this.jdbcParameterCount = jdbcParameterCount;
+		parameterLayouts = layouts.toArray( new ParameterLayout[0] );
+
+		argumentLayouts.sort( (x, y) -> {
+			final Integer xPosition = x.parameter.getPosition();
+			final Integer yPosition = y.parameter.getPosition();
+			return xPosition == null || yPosition == null ? 0 : xPosition.compareTo( yPosition );
+		} );
+		final List<Parameter<?>> parameters = new ArrayList<>( argumentLayouts.size() );
+		parametersByName = new HashMap<>( argumentLayouts.size() );
+		boolean ordinalParameters = false;
+		for ( int i = 0; i < argumentLayouts.size(); i++ ) {
+			final ParameterLayout layout = argumentLayouts.get( i );
+			layout.argumentIndex = i;
+			parameters.add( layout.parameter );
+			if ( layout.parameter.getName() != null ) {
+				parametersByName.put( layout.parameter.getName(), layout );
+			}
+			else if ( layout.parameter.getPosition() != null ) {
+				ordinalParameters = true;
+			}
+			else {
+				throw new IllegalArgumentException( "Parameters of a compiled criteria query must be named" );
+			}
+		}
+		this.parameters = List.copyOf( parameters );
+		this.ordinalParameters = ordinalParameters;
+	}
+
+	private static <T> void bindCriteriaParameter(
+			JpaCriteriaParameter<T> criteriaParameter,
+			QueryParameterBindings parameterBindings) {
+		final T value = criteriaParameter.getValue();
+		if ( value != null || criteriaParameter.getNodeType() == null ) {
+			parameterBindings.getBinding( criteriaParameter )
+					.setBindValue( value, criteriaParameter.getAnticipatedType() );
+		}
+	}
+
+	private ParameterLayout parameterLayout(
+			QueryParameterImplementor<?> parameter,
+			List<SqmParameter<?>> sqmParameters,
+			QueryParameterBindings parameterBindings,
+			Map<SqmParameter<?>, List<JdbcParametersList>> jdbcParamsBySqmParameter,
+			SqmParameterMappingModelResolutionAccess resolutionAccess) {
+		final QueryParameterBinding<?> binding = parameterBindings.getBinding( parameter );
+		final List<JdbcParametersList> jdbcParameters = new ArrayList<>();
+		for ( SqmParameter<?> sqmParameter : sqmParameters ) {
+			final MappingModelExpressible<?> resolvedType =
+					resolutionAccess.getResolvedMappingModelType( sqmParameter );
+			if ( resolvedType != null ) {
+				//noinspection unchecked,rawtypes
+				( (QueryParameterBinding) binding ).setType( resolvedType );
+			}
+			final List<JdbcParametersList> uses =
+					jdbcParamsBySqmParameter == null ? null : jdbcParamsBySqmParameter.get( sqmParameter );
+			if ( uses != null ) {
+				jdbcParameters.addAll( uses );
+			}
+		}
+		final Bindable type = determineParameterType( binding, parameter, sqmParameters, resolutionAccess, factory );
+		final boolean fixed = parameter instanceof JpaCriteriaParameter<?> && binding.isBound();
+		return new ParameterLayout(
+				parameter,
+				type,
+				basicJdbcMapping( type, jdbcParameters ),
+				jdbcParameters.toArray( new JdbcParametersList[0] ),
+				fixed,
+				fixed ? binding.getBindValue() : null
+		);
+	}
+
+	/**
+	 * The {@link JdbcMapping} of a parameter of basic type, bound to a single
+	 * JDBC parameter in each place it occurs, or {@code null}.
+	 */
+	private static JdbcMapping basicJdbcMapping(Bindable type, List<JdbcParametersList> jdbcParameters) {
+		if ( type instanceof BasicValuedMapping basicValuedMapping ) {
+			for ( JdbcParametersList parameters : jdbcParameters ) {
+				if ( parameters.size() != 1 ) {
+					return null;
+				}
+			}
+			return basicValuedMapping.getJdbcMapping();
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public List<Parameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public List<R> getResultList(SharedSessionContract session, Map<String, ?> arguments) {
+		if ( ordinalParameters ) {
+			throw new IllegalArgumentException( "Query has ordinal parameters: " + queryString );
+		}
+		final Object[] argumentArray = new Object[parameters.size()];
+		for ( ParameterLayout layout : parametersByName.values() ) {
+			final String name = layout.parameter.getName();
+			if ( !arguments.containsKey( name ) ) {
+				throw new IllegalArgumentException( "No argument for parameter ':" + name + "'" );
+			}
+			argumentArray[layout.argumentIndex] = arguments.get( name );
+		}
+		return list( (SharedSessionContractImplementor) session, argumentArray );
+	}
+
+	@Override
+	public List<R> getResultList(SharedSessionContract session, Object... arguments) {
+		if ( !parametersByName.isEmpty() ) {
+			throw new IllegalArgumentException( "Query has named parameters: " + queryString );
+		}
+		if ( arguments.length != parameters.size() ) {
+			throw new IllegalArgumentException( "Query has " + parameters.size()
+					+ " parameters, but " + arguments.length + " arguments were given" );
+		}
+		return list( (SharedSessionContractImplementor) session, arguments );
+	}
+
+	@Override
+	public R getSingleResultOrNull(SharedSessionContract session, Map<String, ?> arguments) {
+		return singleResult( getResultList( session, arguments ) );
+	}
+
+	@Override
+	public R getSingleResultOrNull(SharedSessionContract session, Object... arguments) {
+		return singleResult( getResultList( session, arguments ) );
+	}
+
+	private static <R> R singleResult(List<R> results) {
+		return switch ( results.size() ) {
+			case 0 -> null;
+			case 1 -> results.get( 0 );
+			default -> throw new NonUniqueResultException( results.size() );
+		};
+	}
+
+	private List<R> list(SharedSessionContractImplementor session, Object[] arguments) {
+		if ( session.getFactory() != factory ) {
+			throw new IllegalArgumentException( "Session does not belong to the SessionFactory which compiled the query" );
+		}
+		session.checkOpen();
+		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
+		if ( loadQueryInfluencers.hasEnabledFilters()
+				|| !loadQueryInfluencers.getEnabledFetchProfileNames().equals( fetchProfiles ) ) {
+			// the SQL of the query depends on the filters and fetch profiles
+			return createSelectionQuery( session, arguments ).getResultList();
+		}
+
+		session.prepareForQueryExecution( false );
+		boolean success = false;
+		try {
+			final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( arguments, session );
+			final JdbcOperationQuerySelect select = resolveJdbcSelect( jdbcParameterBindings );
+			session.autoPreFlush();
+			session.autoFlushIfRequired( select.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqlAst.getQueryPart().getFetchClauseExpression();
+			final List<R> results = factory.getJdbcServices().getJdbcSelectExecutor().list(
+					select,
+					jdbcParameterBindings,
+					new CompiledQueryExecutionContext( session ),
+					rowTransformer,
+					determinedResultType,
+					uniqueSemantic,
+					fetchExpression == null ? -1 : interpretIntExpression( fetchExpression, jdbcParameterBindings )
+			);
+			success = true;
+			return results;
+		}
+		catch (HibernateException e) {
+			throw session.getExceptionConverter().convert( e );
+		}
+		finally {
+			if ( !session.isTransactionInProgress() ) {
+				session.getJdbcCoordinator().getLogicalConnection().afterTransaction();
+			}
+			session.afterOperation( success );
+		}
+	}
+
+	private SelectionQuery<R> createSelectionQuery(SharedSessionContractImplementor session, Object[] arguments) {
+		final SelectionQuery<R> query = criteria
+				? session.createSelectionQuery( sqm )
+				: session.createSelectionQuery( queryString, resultType );
+		for ( ParameterLayout layout : parameterLayouts ) {
+			if ( !layout.fixed ) {
+				final Object argument = arguments[layout.argumentIndex];
+				if ( layout.parameter.getName() != null ) {
+					query.setParameter( layout.parameter.getName(), argument );
+				}
+				else {
+					query.setParameter( layout.parameter.getPosition(), argument );
+				}
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * The {@link JdbcOperationQuerySelect} is translated by the first execution,
+	 * and is only translated again if some parameter was rendered as a literal.
+	 */
+	private JdbcOperationQuerySelect resolveJdbcSelect(JdbcParameterBindings jdbcParameterBindings) {
+		final JdbcOperationQuerySelect select = jdbcSelect;
+		if ( select == null ) {
+			// translating twice in concurrent first executions is harmless
+			final JdbcOperationQuerySelect translated = translate( jdbcParameterBindings );
+			jdbcSelect = translated;
+			return translated;
+		}
+		else {
+			return !select.dependsOnParameterBindings()
+				|| select.isCompatibleWith( jdbcParameterBindings, QueryOptions.NONE )
+					? select
+					: translate( jdbcParameterBindings );
+		}
+	}
+
+	private JdbcOperationQuerySelect translate(JdbcParameterBindings jdbcParameterBindings) {
+		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildSelectTranslator( factory, sqlAst )
+				.translate( jdbcParameterBindings, QueryOptions.NONE );
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			Object[] arguments,
+			SharedSessionContractImplementor session) {
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameterCount );
+		for ( ParameterLayout layout : parameterLayouts ) {
+			final Object value = layout.fixed ? layout.fixedValue : arguments[layout.argumentIndex];
+			if ( layout.jdbcMapping != null ) {
+				final Object jdbcValue = layout.jdbcMapping.convertToRelationalValue( coerce( layout, value ) );
+				for ( JdbcParametersList jdbcParameters : layout.jdbcParameters ) {
+					jdbcParameterBindings.addBinding( jdbcParameters.get( 0 ),
+							new JdbcParameterBindingImpl( layout.jdbcMapping, jdbcValue ) );
+				}
+			}
+			else if ( value == null ) {
+				for ( JdbcParametersList jdbcParameters : layout.jdbcParameters ) {
+					layout.type.forEachJdbcType( (position, jdbcMapping) ->
+							jdbcParameterBindings.addBinding( jdbcParameters.get( position ),
+									new JdbcParameterBindingImpl( jdbcMapping, null ) ) );
+				}
+			}
+			else {
+				for ( JdbcParametersList jdbcParameters : layout.jdbcParameters ) {
+					jdbcParameterBindings.registerParametersForEachJdbcValue( value, layout.type, jdbcParameters, session );
+				}
+			}
+		}
+		return jdbcParameterBindings;
+	}
+
+	private Object coerce(ParameterLayout layout, Object value) {
+		if ( value == null ) {
+			return null;
+		}
+		final JavaType<?> javaType = layout.jdbcMapping.getMappedJavaType();
+		if ( javaType.isInstance( value ) ) {
+			return value;
+		}
+		else {
+			final Object coerced = javaType.coerce( value, factory::getTypeConfiguration );
+			if ( !javaType.isInstance( coerced ) ) {
+				throw new QueryArgumentException(
+						"Argument to parameter '" + layout.parameter + "' is not of type '"
+								+ javaType.getTypeName() + "'",
+						javaType.getJavaTypeClass(),
+						value
+				);
+			}
+			return coerced;
+		}
+	}
+
+	private static class ParameterLayout {
+		private final QueryParameterImplementor<?> parameter;
+		private final Bindable type;
+		private final JdbcMapping jdbcMapping;
+		private final JdbcParametersList[] jdbcParameters;
+		private final boolean fixed;
+		private final Object fixedValue;
+		private int argumentIndex = -1;
+
+		private ParameterLayout(
+				QueryParameterImplementor<?> parameter,
+				Bindable type,
+				JdbcMapping jdbcMapping,
+				JdbcParametersList[] jdbcParameters,
+				boolean fixed,
+				Object fixedValue) {
+			this.parameter = parameter;
+			this.type = type;
+			this.jdbcMapping = jdbcMapping;
+			this.jdbcParameters = jdbcParameters;
+			this.fixed = fixed;
+			this.fixedValue = fixedValue;
+		}
+	}
+
+	private class CompiledQueryExecutionContext extends BaseExecutionContext {
+		private CompiledQueryExecutionContext(SharedSessionContractImplementor session) {
+			super( session );
+		}
+
+		@Override
+		public String getQueryIdentifier(String sql) {
+			return criteria ? "[CRITERIA] " + sql : queryString;
+		}
+
+		@Override
+		public boolean hasQueryExecutionToBeAddedToStatistics() {
+			return true;
+		}
+	}
+}
@@ -5,8 +5,10 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jakarta.persistence.Tuple;
 
@@ -24,9 +26,11 @@
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.spi.CacheabilityInfluencers;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.internal.SqmParameterInterpretation;
@@ -58,6 +62,7 @@
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
 import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
@@ -75,6 +80,7 @@
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
+	private final SqmCriteriaCacheKey criteriaCacheKey;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
@@ -89,8 +95,20 @@ public ConcreteSqmSelectQueryPlan(
 			Class<R> resultType,
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
+		this( sqm, hql, domainParameterXref, null, resultType, tupleMetadata, queryOptions );
+	}
+
+	ConcreteSqmSelectQueryPlan(
+			SqmSelectStatement<?> sqm,
+			String hql,
+			DomainParameterXref domainParameterXref,
+			SqmCriteriaCacheKey criteriaCacheKey,
+			Class<R> resultType,
+			TupleMetadata tupleMetadata,
+			QueryOptions queryOptions) {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
+		this.criteriaCacheKey = criteriaCacheKey;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
@@ -125,7 +143,7 @@ public ConcreteSqmSelectQueryPlan(
 				);
 			}
 			finally {
-				domainParameterXref.clearExpansions();
+				sqmInterpretation.domainParameterXref.clearExpansions();
 			}
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
@@ -157,7 +175,7 @@ public ConcreteSqmSelectQueryPlan(
 				);
 			}
 			finally {
-				domainParameterXref.clearExpansions();
+				sqmInterpretation.domainParameterXref.clearExpansions();
 			}
 		};
 
@@ -191,7 +209,7 @@ public ConcreteSqmSelectQueryPlan(
 				);
 			}
 			finally {
-				domainParameterXref.clearExpansions();
+				sqmInterpretation.domainParameterXref.clearExpansions();
 			}
 		};
 
@@ -375,6 +393,12 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 				: withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public List<String> getRetainedSql() {
+		final CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		return localCopy == null ? List.of() : List.of( localCopy.jdbcSelect.getSqlString() );
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
@@ -386,59 +410,88 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 
 		executionContext.getSession().autoPreFlush();
 
+		final QueryParameterBindings parameterBindings = parameterBindings( executionContext );
 		if ( localCopy == null ) {
 			synchronized ( this ) {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, parameterBindings, executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
 				}
 				else {
-					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-						jdbcParameterBindings = localCopy.firstParameterBindings;
-						localCopy.firstParameterBindings = null;
-						cacheableSqmInterpretation = localCopy;
-					}
+					final PreparedInterpretation prepared = prepare( localCopy, parameterBindings, executionContext );
+					localCopy = prepared.interpretation();
+					jdbcParameterBindings = prepared.jdbcParameterBindings();
 				}
 			}
 		}
 		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
-			}
+			final PreparedInterpretation prepared = prepare( localCopy, parameterBindings, executionContext );
+			localCopy = prepared.interpretation();
+			jdbcParameterBindings = prepared.jdbcParameterBindings();
 		}
 
 		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+			jdbcParameterBindings = createJdbcParameterBindings( localCopy, parameterBindings, executionContext );
 		}
 
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
-	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
+	/**
+	 * Returns the given interpretation if it may be used to execute the query with the given
+	 * parameter bindings, or builds a new one, along with the JDBC parameter bindings if they
+	 * had to be created already.
+	 */
+	private PreparedInterpretation prepare(
+			CacheableSqmInterpretation localCopy,
+			QueryParameterBindings parameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		// If the multi-valued parameters were expanded, or are not bound to multiple values
+		// in the same way, we have to translate from SQM to SQL AST again
+		if ( !localCopy.isReusableFor( parameterBindings ) ) {
+			return rebuild( parameterBindings, executionContext );
+		}
+
+		// If the translation depends on parameter bindings or it isn't compatible with the current query options,
+		// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+			jdbcParameterBindings = createJdbcParameterBindings( localCopy, parameterBindings, executionContext );
+		}
+		// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
+		// We could avoid this by putting the lock options into the cache key
+		if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			return rebuild( parameterBindings, executionContext );
+		}
+		else {
+			return new PreparedInterpretation( localCopy, jdbcParameterBindings );
+		}
+	}
+
+	private PreparedInterpretation rebuild(
+			QueryParameterBindings parameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		final CacheableSqmInterpretation interpretation =
+				buildCacheableSqmInterpretation( sqm, domainParameterXref, parameterBindings, executionContext );
+		// An interpretation with expanded parameters is only valid for this execution
+		if ( !interpretation.expandsParameters ) {
+			cacheableSqmInterpretation = interpretation;
+		}
+		final JdbcParameterBindings jdbcParameterBindings = interpretation.firstParameterBindings;
+		interpretation.firstParameterBindings = null;
+		return new PreparedInterpretation( interpretation, jdbcParameterBindings );
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			CacheableSqmInterpretation sqmInterpretation,
+			QueryParameterBindings parameterBindings,
+			DomainQueryExecutionContext executionContext) {
 		return SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				parameterBindings,
+				sqmInterpretation.domainParameterXref,
 				sqmInterpretation.getJdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -451,20 +504,42 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		);
 	}
 
+	/**
+	 * The parameter bindings of the executing query. If this plan is shared by
+	 * structurally equal criteria queries, the bindings are adapted so that they
+	 * may be accessed via the parameters of the query from which the plan was
+	 * built.
+	 */
+	private QueryParameterBindings parameterBindings(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+		return criteriaCacheKey != null && executionContext instanceof CacheabilityInfluencers query
+				? criteriaCacheKey.adapt( parameterBindings, query.getQueryStringCacheKey() )
+				: parameterBindings;
+	}
+
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref sharedDomainParameterXref,
+			QueryParameterBindings parameterBindings,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
+		// The translation might expand multi-valued parameters, so it must not
+		// register the expansions in the xref shared with concurrent executions
+		final Set<QueryParameterImplementor<?>> multiValuedParameters =
+				multiValuedParameters( sharedDomainParameterXref, parameterBindings );
+		final DomainParameterXref domainParameterXref = multiValuedParameters.isEmpty()
+				? sharedDomainParameterXref
+				: sharedDomainParameterXref.copy();
+
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
 						.createSelectTranslator(
 								sqm,
 								executionContext.getQueryOptions(),
 								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
+								parameterBindings,
 								executionContext.getSession().getLoadQueryInfluencers(),
 								sessionFactory.getSqlTranslationEngine(),
 								true
@@ -479,7 +554,7 @@ private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 				generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
+				parameterBindings,
 				domainParameterXref,
 				jdbcParamsXref,
 				new SqmParameterMappingModelResolutionAccess() {
@@ -495,12 +570,29 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				domainParameterXref,
+				multiValuedParameters,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	private static Set<QueryParameterImplementor<?>> multiValuedParameters(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings parameterBindings) {
+		if ( !parameterBindings.hasAnyMultiValuedBindings() ) {
+			return emptySet();
+		}
+		final Set<QueryParameterImplementor<?>> multiValuedParameters = new HashSet<>();
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( parameterBindings.getBinding( parameter ).isMultiValued() ) {
+				multiValuedParameters.add( parameter );
+			}
+		}
+		return multiValuedParameters;
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -509,9 +601,17 @@ T interpret(
 				JdbcParameterBindings jdbcParameterBindings);
 	}
 
+	private record PreparedInterpretation(
+			CacheableSqmInterpretation interpretation,
+			JdbcParameterBindings jdbcParameterBindings) {
+	}
+
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final DomainParameterXref domainParameterXref;
+		private final Set<QueryParameterImplementor<?>> multiValuedParameters;
+		private final boolean expandsParameters;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -519,16 +619,46 @@ private static class CacheableSqmInterpretation {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
+				Set<QueryParameterImplementor<?>> multiValuedParameters,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.domainParameterXref = domainParameterXref;
+			this.multiValuedParameters = multiValuedParameters;
+			// multi-valued parameters which were not bound as a single array
+			// make the translation depend on the number of bound values
+			this.expandsParameters = domainParameterXref.hasExpansions();
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
 		}
 
+		/**
+		 * Whether this interpretation may be used to execute the query with the given
+		 * parameter bindings, that is, if its translation did not expand multi-valued
+		 * parameters, and the same parameters are bound to multiple values.
+		 */
+		boolean isReusableFor(QueryParameterBindings parameterBindings) {
+			if ( expandsParameters ) {
+				return false;
+			}
+			else if ( multiValuedParameters.isEmpty() ) {
+				return !parameterBindings.hasAnyMultiValuedBindings();
+			}
+			else {
+				for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+					if ( parameterBindings.getBinding( parameter ).isMultiValued()
+							!= multiValuedParameters.contains( parameter ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+		}
+
 		JdbcOperationQuerySelect getJdbcSelect() {
 			return jdbcSelect;
 		}
@@ -211,6 +211,13 @@ public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		}
 	}
 
+	/**
+	 * Does this xref contain any expansions of multi-valued parameters?
+	 */
+	public boolean hasExpansions() {
+		return expansions != null && !expansions.isEmpty();
+	}
+
 	public void clearExpansions() {
 		if ( expansions != null ) {
 			for ( List<SqmParameter<?>> expansionList : expansions.values() ) {
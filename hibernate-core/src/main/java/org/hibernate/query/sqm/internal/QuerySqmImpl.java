@@ -38,6 +38,7 @@
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryFlushMode;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
@@ -87,6 +88,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import static java.util.Collections.emptyMap;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
@@ -211,7 +213,7 @@ public QuerySqmImpl(
 		if ( copyAst ) {
 			sqm = criteria.copy( SqmCopyContext.simpleContext() );
 			if ( producer.isCriteriaPlanCacheEnabled() ) {
-				queryStringCacheKey = sqm.toHqlString();
+				queryStringCacheKey = SqmCriteriaCacheKey.from( sqm );
 				setQueryPlanCacheable( true );
 			}
 			else {
@@ -221,7 +223,7 @@ public QuerySqmImpl(
 		else {
 			sqm = criteria;
 			if ( producer.isCriteriaPlanCacheEnabled() ) {
-				queryStringCacheKey = sqm.toHqlString();
+				queryStringCacheKey = SqmCriteriaCacheKey.from( sqm );
 			}
 			else {
 				queryStringCacheKey = sqm;
@@ -475,6 +477,12 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected void doForEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		verifySelect();
+		super.doForEachChunk( chunkSize, action );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
@@ -487,7 +495,8 @@ public boolean isQueryPlanCacheable() {
 				: super.isQueryPlanCacheable();
 	}
 
-	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		return cacheKey != null
 				? interpretationCache().resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan )
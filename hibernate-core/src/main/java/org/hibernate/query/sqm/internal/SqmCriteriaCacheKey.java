@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.tree.SqmRenderContext;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+
+/**
+ * The key under which the plan of a criteria query is cached when
+ * {@value org.hibernate.cfg.QuerySettings#CRITERIA_PLAN_CACHE_ENABLED}
+ * is enabled. Two criteria queries have equal keys if they have the same
+ * structure, regardless of the values bound to their parameters, including
+ * the values passed to the {@link org.hibernate.query.criteria.HibernateCriteriaBuilder}
+ * which are bound to implicit parameters.
+ * <p>
+ * A plan built for one criteria query binds the arguments of a structurally
+ * equal query by matching up the unnamed parameters of the two queries in
+ * the order in which they occur.
+ */
+final class SqmCriteriaCacheKey {
+	private final String structure;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final List<Class<?>> parameterTypes;
+	private final int hashCode;
+
+	private SqmCriteriaCacheKey(String structure, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.parameters = parameters;
+		this.parameterTypes = new ArrayList<>( parameters.size() );
+		for ( JpaCriteriaParameter<?> parameter : parameters ) {
+			parameterTypes.add( parameter.getParameterType() );
+		}
+		this.hashCode = structure.hashCode();
+	}
+
+	/**
+	 * Compute the key of the given criteria query by rendering its structure
+	 * as HQL, with every unnamed parameter, and every value bound to a
+	 * parameter, rendered as a named parameter reference.
+	 */
+	static SqmCriteriaCacheKey from(SqmStatement<?> statement) {
+		final StructureRenderContext context = new StructureRenderContext();
+		final StringBuilder structure = new StringBuilder();
+		statement.appendHqlString( structure, context );
+		return new SqmCriteriaCacheKey( structure.toString(), context.parameters );
+	}
+
+	/**
+	 * Adapt the parameter bindings of a query with the given key, which is
+	 * structurally equal to this key, so that they may be accessed via the
+	 * parameters of the query from which this key was computed.
+	 */
+	QueryParameterBindings adapt(QueryParameterBindings bindings, Object executingQueryKey) {
+		if ( parameters.isEmpty()
+				|| !( executingQueryKey instanceof SqmCriteriaCacheKey executingKey )
+				|| executingKey.parameters == parameters ) {
+			return bindings;
+		}
+		else {
+			assert equals( executingKey );
+			return new AdaptedParameterBindings( bindings, parameters, executingKey.parameters );
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if ( this == object ) {
+			return true;
+		}
+		else if ( !( object instanceof SqmCriteriaCacheKey that ) ) {
+			return false;
+		}
+		else {
+			return hashCode == that.hashCode
+				&& structure.equals( that.structure )
+				&& parameterTypes.equals( that.parameterTypes );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+
+	private static class StructureRenderContext implements SqmRenderContext {
+		private final IdentityHashMap<SqmFrom<?, ?>, String> fromAliases = new IdentityHashMap<>();
+		private final IdentityHashMap<JpaCriteriaParameter<?>, String> parameterNames = new IdentityHashMap<>();
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+
+		@Override
+		public String resolveAlias(SqmFrom<?, ?> from) {
+			final String explicitAlias = from.getExplicitAlias();
+			return explicitAlias != null
+					? explicitAlias
+					: fromAliases.computeIfAbsent( from, f -> "alias_" + fromAliases.size() );
+		}
+
+		@Override
+		public String resolveParameterName(JpaCriteriaParameter<?> parameter) {
+			return parameterNames.computeIfAbsent( parameter, p -> {
+				parameters.add( p );
+				return "__param_" + ( parameters.size() - 1 );
+			} );
+		}
+
+		@Override
+		public boolean renderValuesAsParameters() {
+			return true;
+		}
+	}
+
+	private static class AdaptedParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		// maps each parameter of the plan to the corresponding
+		// parameter of the executing query
+		private final IdentityHashMap<JpaCriteriaParameter<?>, JpaCriteriaParameter<?>> executingParameters;
+
+		private AdaptedParameterBindings(
+				QueryParameterBindings delegate,
+				List<JpaCriteriaParameter<?>> planParameters,
+				List<JpaCriteriaParameter<?>> executingParameters) {
+			this.delegate = delegate;
+			this.executingParameters = new IdentityHashMap<>( planParameters.size() );
+			for ( int i = 0; i < planParameters.size(); i++ ) {
+				this.executingParameters.put( planParameters.get( i ), executingParameters.get( i ) );
+			}
+		}
+
+		private <P> QueryParameterImplementor<P> resolve(QueryParameterImplementor<P> parameter) {
+			final JpaCriteriaParameter<?> executingParameter = executingParameters.get( parameter );
+			//noinspection unchecked
+			return executingParameter == null ? parameter : (QueryParameterImplementor<P>) executingParameter;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<? super QueryParameter<?>, ? super QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -9,11 +9,14 @@
 import java.util.Set;
 
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+
 
 /**
  * @author Steve Ebersole
@@ -66,13 +69,19 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
 			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean();
+				// Multi-valued parameters are expanded per-execution based on the "static" SQM,
+				// unless they are bound as a single array parameter, in which case the translation
+				// does not depend on the number of values. ConcreteSqmSelectQueryPlan translates
+				// with a method-local clone of the domainParameterXref when multi-valued params
+				// exist, and only reuses translations which did not expand any parameter
+			&& ( inClauseArrayParameterEnabled( keySource )
+					|| !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean() );
+	}
+
+	private static boolean inClauseArrayParameterEnabled(InterpretationsKeySource keySource) {
+		final SessionFactoryImplementor factory = keySource.getLoadQueryInfluencers().getSessionFactory();
+		return factory.getSessionFactoryOptions().inClauseArrayParameterEnabled()
+			&& supportsSqlArrayType( factory.getJdbcServices().getDialect() );
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
@@ -124,7 +133,7 @@ public QueryInterpretationCache.Key prepareForStore() {
 
 	@Override
 	public String getQueryString() {
-		return query instanceof String ? (String) query : null;
+		return query instanceof String || query instanceof SqmCriteriaCacheKey ? query.toString() : null;
 	}
 
 	@Override
@@ -176,7 +176,7 @@ public SqmSelectionQueryImpl(
 		if ( copyAst ) {
 			sqm = criteria.copy( SqmCopyContext.simpleContext() );
 			if ( session.isCriteriaPlanCacheEnabled() ) {
-				queryStringCacheKey = sqm.toHqlString();
+				queryStringCacheKey = SqmCriteriaCacheKey.from( sqm );
 				setQueryPlanCacheable( true );
 			}
 			else {
@@ -186,7 +186,7 @@ public SqmSelectionQueryImpl(
 		else {
 			sqm = criteria;
 			if ( session.isCriteriaPlanCacheEnabled() ) {
-				queryStringCacheKey = sqm.toHqlString();
+				queryStringCacheKey = SqmCriteriaCacheKey.from( sqm );
 			}
 			else {
 				queryStringCacheKey = sqm;
@@ -245,7 +245,7 @@ <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> ke
 				original.getSqmStatement().nodeBuilder()
 		);
 		if ( getSession().isCriteriaPlanCacheEnabled() ) {
-			queryStringCacheKey = sqm.toHqlString();
+			queryStringCacheKey = SqmCriteriaCacheKey.from( sqm );
 			setQueryPlanCacheable( true );
 		}
 		else {
@@ -307,7 +307,7 @@ private <T> void setBindValues(QueryParameter<?> parameter, QueryParameterBindin
 	}
 
 
-	private static Class<?> determineResultType(SqmSelectStatement<?> sqm, Class<?> expectedResultType) {
+	static Class<?> determineResultType(SqmSelectStatement<?> sqm, Class<?> expectedResultType) {
 		final List<SqmSelection<?>> selections = sqm.getQuerySpec().getSelectClause().getSelections();
 		if ( selections.size() == 1 ) {
 			if ( Object[].class.equals( expectedResultType ) ) {
@@ -428,7 +428,7 @@ protected List<R> doList() {
 				statement.containsCollectionFetches();
 		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
 		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
-		final List<R> list = resolveQueryPlan()
+		final List<R> list = resolveSelectQueryPlan()
 				.performList( executionContext( hasLimit, containsCollectionFetches ) );
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
@@ -480,12 +480,12 @@ public QueryOptions getQueryOptions() {
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveQueryPlan().performScroll( scrollMode, this );
+		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
 	@Override
 	public <T> T executeQuery(ResultsConsumer<T, R> resultsConsumer) {
-		return resolveQueryPlan().executeQuery( this, resultsConsumer );
+		return resolveSelectQueryPlan().executeQuery( this, resultsConsumer );
 	}
 
 	@Override
@@ -496,7 +496,8 @@ public Class<R> getExpectedResultType() {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
 
-	private SelectQueryPlan<R> resolveQueryPlan() {
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSessionFactory().getQueryEngine().getInterpretationCache()
@@ -61,6 +61,7 @@
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmToSqlAstConverter;
+import org.hibernate.query.sqm.sql.internal.InListArrayJdbcParameter;
 import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmJoinType;
@@ -580,23 +581,33 @@ else if ( domainParamBinding.isMultiValued() ) {
 				final Iterator<?> valueIterator = bindValues.iterator();
 				// the original SqmParameter is the one we are processing - create a binding for it
 				final Object firstValue = valueIterator.next();
+				int parameterUseCount = 0;
 				for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 					final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
-					createValueBindings(
-							jdbcParameterBindings,
-							queryParameter,
-							domainParamBinding,
-							parameterType,
-							jdbcParams,
-							firstValue,
-							session
-					);
+					if ( jdbcParams.size() == 1
+							&& jdbcParams.get( 0 ) instanceof InListArrayJdbcParameter arrayParameter ) {
+						// all values are bound to a single array parameter, and there are no expansions
+						jdbcParameterBindings.addBinding( arrayParameter,
+								new JdbcParameterBindingImpl( arrayParameter.getJdbcMapping(),
+										arrayParameter.toJdbcArray( bindValues, session ) ) );
+					}
+					else {
+						createValueBindings(
+								jdbcParameterBindings,
+								queryParameter,
+								domainParamBinding,
+								parameterType,
+								jdbcParams,
+								firstValue,
+								session
+						);
+						parameterUseCount++;
+					}
 				}
 
 				// and then one for each of the expansions
 				final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
 				final int expansionCount = bindValues.size() - 1;
-				final int parameterUseCount = jdbcParamsBinds.size();
 				assert expansions.size() == expansionCount * parameterUseCount;
 				int expansionPosition = 0;
 				while ( valueIterator.hasNext() ) {
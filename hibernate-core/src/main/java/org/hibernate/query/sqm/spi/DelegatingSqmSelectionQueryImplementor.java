@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -28,6 +29,7 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryFlushMode;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryOptions;
@@ -116,6 +118,11 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		return getDelegate().getKeyedResultList( page );
 	}
 
+	@Override
+	public void forEachChunk(int chunkSize, Consumer<ResultColumns> action) {
+		getDelegate().forEachChunk( chunkSize, action );
+	}
+
 	@Override
 	public ScrollableResults<R> scroll() {
 		return getDelegate().scroll();
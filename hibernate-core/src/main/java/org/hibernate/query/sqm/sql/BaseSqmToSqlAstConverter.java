@@ -29,6 +29,7 @@
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.*;
@@ -96,6 +97,7 @@
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedExpression;
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.EntityValuedPathInterpretation;
+import org.hibernate.query.sqm.sql.internal.InListArrayJdbcParameter;
 import org.hibernate.query.sqm.sql.internal.NonAggregatedCompositeValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.PluralValuedSimplePathInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqlAstProcessingStateImpl;
@@ -242,6 +244,7 @@
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -5795,7 +5798,8 @@ private void replaceJdbcParametersType(
 					for ( List<JdbcParameter> parameters : jdbcParamsForSqmParameter ) {
 						assert parameters.size() == 1;
 						final JdbcParameter jdbcParameter = parameters.get( 0 );
-						if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
+						if ( !( jdbcParameter instanceof InListArrayJdbcParameter )
+								&& ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
 							final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
 							parameters.set( 0, newJdbcParameter );
 							jdbcParameters.getJdbcParameters().remove( jdbcParameter );
@@ -7976,9 +7980,11 @@ public Predicate visitInListPredicate(SqmInListPredicate<?> predicate) {
 			final SqmExpression<?> sqmExpression = predicate.getListExpressions().get( 0 );
 			if ( sqmExpression instanceof SqmParameter<?> sqmParameter ) {
 				if ( sqmParameter.allowMultiValuedBinding() ) {
-					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
+					final Predicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
-						handleTypeComparison( specialCase );
+						if ( specialCase instanceof InListPredicate inListPredicate ) {
+							handleTypeComparison( inListPredicate );
+						}
 						return specialCase;
 					}
 				}
@@ -8045,7 +8051,7 @@ private void handleTypeComparison(InListPredicate inPredicate) {
 		}
 	}
 
-	private InListPredicate processInListWithSingleParameter(
+	private Predicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
 		assert sqmParameter.allowMultiValuedBinding();
@@ -8055,7 +8061,7 @@ private InListPredicate processInListWithSingleParameter(
 
 	}
 
-	private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+	private Predicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
 		final QueryParameterImplementor<?> domainParam = domainParameterXref.getQueryParameter( sqmParameter );
 		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
 		return !domainParamBinding.isMultiValued()
@@ -8063,7 +8069,7 @@ private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPre
 				: processInSingleParameter( sqmPredicate, sqmParameter, domainParam, domainParamBinding );
 	}
 
-	private InListPredicate processInSingleCriteriaParameter(
+	private Predicate processInSingleCriteriaParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			JpaCriteriaParameter<?> jpaCriteriaParameter) {
 		assert jpaCriteriaParameter.allowsMultiValuedBinding();
@@ -8078,7 +8084,7 @@ private InListPredicate processInSingleCriteriaParameter(
 	}
 
 	@SuppressWarnings( "rawtypes" )
-	private InListPredicate processInSingleParameter(
+	private Predicate processInSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
@@ -8100,6 +8106,16 @@ private InListPredicate processInSingleParameter(
 			return inListPredicate;
 		}
 
+		final Predicate arrayPredicate = processInSingleParameterAsArray(
+				inListPredicate,
+				sqmParameter,
+				domainParamBinding,
+				determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex )
+		);
+		if ( arrayPredicate != null ) {
+			return arrayPredicate;
+		}
+
 		inferrableTypeAccessStack.push(
 				() -> determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex )
 		);
@@ -8121,6 +8137,53 @@ private InListPredicate processInSingleParameter(
 		}
 	}
 
+	/**
+	 * Bind all values of a multi-valued parameter to a single JDBC parameter
+	 * of array type, if {@value org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER}
+	 * is enabled and the dialect and the type of the test expression allow it.
+	 *
+	 * @return the predicate, or {@code null} if the parameter must be expanded
+	 */
+	@SuppressWarnings( "rawtypes" )
+	private Predicate processInSingleParameterAsArray(
+			InListPredicate inListPredicate,
+			SqmParameter<?> sqmParameter,
+			QueryParameterBinding<?> domainParamBinding,
+			MappingModelExpressible<?> valueMapping) {
+		final SessionFactoryImplementor factory = creationContext.getSessionFactory();
+		if ( !factory.getSessionFactoryOptions().inClauseArrayParameterEnabled()
+				|| !MultiKeyLoadHelper.supportsSqlArrayType( factory.getJdbcServices().getDialect() )
+				|| inListPredicate.getTestExpression() instanceof DiscriminatorPathInterpretation<?>
+				|| !( valueMapping instanceof BasicValuedMapping basicValuedMapping ) ) {
+			return null;
+		}
+		final JdbcMapping elementJdbcMapping = basicValuedMapping.getJdbcMapping();
+		final Class<?> elementClass = elementJdbcMapping.getJdbcJavaType().getJavaTypeClass();
+		if ( elementJdbcMapping.getValueConverter() != null
+				|| elementClass.isEnum()
+				|| elementClass.isArray() ) {
+			return null;
+		}
+
+		final JdbcParameter arrayParameter = new InListArrayJdbcParameter(
+				MultiKeyLoadHelper.resolveArrayJdbcMapping( elementJdbcMapping, elementClass, factory ),
+				elementJdbcMapping
+		);
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( arrayParameter );
+		jdbcParameters.addParameters( jdbcParametersForSqm );
+		jdbcParamsBySqmParam.computeIfAbsent( sqmParameter, k -> new ArrayList<>( 1 ) )
+				.add( jdbcParametersForSqm );
+		domainParamBinding.setType( (MappingModelExpressible) valueMapping );
+
+		final Predicate predicate = new InArrayPredicate(
+				inListPredicate.getTestExpression(),
+				arrayParameter,
+				getBooleanType()
+		);
+		return inListPredicate.isNegated() ? new NegatedPredicate( predicate ) : predicate;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.sql.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A {@link org.hibernate.sql.ast.tree.expression.JdbcParameter} of SQL array
+ * type, to which all the values of a multi-valued query parameter occurring
+ * in an {@code IN} predicate are bound.
+ *
+ * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+ *
+ * @since 7.0
+ */
+public class InListArrayJdbcParameter extends JdbcParameterImpl {
+	private final JdbcMapping elementJdbcMapping;
+
+	public InListArrayJdbcParameter(JdbcMapping arrayJdbcMapping, JdbcMapping elementJdbcMapping) {
+		super( arrayJdbcMapping );
+		this.elementJdbcMapping = elementJdbcMapping;
+	}
+
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+
+	/**
+	 * Collect the given argument values into an array, to be bound to this parameter.
+	 */
+	@AllowReflection
+	public Object[] toJdbcArray(Collection<?> values, SharedSessionContractImplementor session) {
+		final JavaType<?> elementJavaType = elementJdbcMapping.getJdbcJavaType();
+		final Object[] array = (Object[]) Array.newInstance(
+				getJdbcMapping().getJdbcJavaType().getJavaTypeClass().getComponentType(),
+				values.size()
+		);
+		int i = 0;
+		for ( Object value : values ) {
+			array[i++] = elementJavaType.wrap( value, session );
+		}
+		return array;
+	}
+}
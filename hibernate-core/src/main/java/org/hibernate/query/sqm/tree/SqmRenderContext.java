@@ -26,6 +26,14 @@ public interface SqmRenderContext {
 
 	String resolveParameterName(JpaCriteriaParameter<?> parameter);
 
+	/**
+	 * Whether a value bound to a criteria parameter should be rendered as a
+	 * reference to the parameter, instead of as a literal value.
+	 */
+	default boolean renderValuesAsParameters() {
+		return false;
+	}
+
 	static SqmRenderContext simpleContext() {
 		return new SimpleSqmRenderContext();
 	}
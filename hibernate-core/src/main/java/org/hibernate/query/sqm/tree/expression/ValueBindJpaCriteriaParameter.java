@@ -42,7 +42,12 @@ public T getValue() {
 
 	@Override
 	public void appendHqlString(StringBuilder hql, SqmRenderContext context) {
-		SqmLiteral.appendHqlString( hql, getJavaTypeDescriptor(), value );
+		if ( context.renderValuesAsParameters() ) {
+			super.appendHqlString( hql, context );
+		}
+		else {
+			SqmLiteral.appendHqlString( hql, getJavaTypeDescriptor(), value );
+		}
 	}
 
 	@Override
@@ -7,9 +7,14 @@
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A registry for tracking JDBC resources.
  *
@@ -41,6 +46,38 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Register a JDBC prepared statement which may be kept open for
+	 * {@linkplain #reuseStatement reuse} after it is {@linkplain #release(Statement) released},
+	 * instead of being closed.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL of the statement.
+	 * @param resultSetType The {@linkplain ResultSet#getType() type} of the result sets
+	 * produced by the statement.
+	 * @param autoGeneratedKeys Whether the statement was prepared to
+	 * {@linkplain Statement#RETURN_GENERATED_KEYS return generated keys}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void registerReusable(PreparedStatement statement, String sql, int resultSetType, int autoGeneratedKeys) {
+		register( statement, true );
+	}
+
+	/**
+	 * Obtain a statement previously {@linkplain #registerReusable registered as reusable}
+	 * with the same SQL and options, and since released, and register it again.
+	 *
+	 * @return The released statement, or {@code null} if there is none.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable PreparedStatement reuseStatement(String sql, int resultSetType, int autoGeneratedKeys) {
+		return null;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p>
@@ -7,11 +7,14 @@
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -20,10 +23,17 @@
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Helps to track {@link Statement}s and {@link ResultSet}s which need to be closed.
  * This class is not threadsafe.
  * <p>
+ * If a {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE statement cache size}
+ * is given, a bounded number of released {@linkplain #registerReusable reusable} statements
+ * are kept open, until the resources are {@linkplain #releaseResources released}, so that
+ * they may be {@linkplain #reuseStatement reused}.
+ * <p>
  * Note regarding performance: we had evidence that allocating {@code Iterator}s
  * to implement the cleanup on each element recursively was the dominant
  * resource cost, so we decided to use "for each" and lambdas in this case.
@@ -58,12 +68,30 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	// the maximum number of released statements kept open for reuse
+	private final int statementCacheSize;
+	// the statements which may be kept open for reuse, with the key under which they are cached
+	private HashMap<Statement,StatementKey> reusableStatements;
+	// the released reusable statements, from the least recently to the most recently released
+	private LinkedHashMap<StatementKey,PreparedStatement> idleStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, 0 );
+	}
+
+	/**
+	 * @param statementCacheSize The maximum number of released
+	 * {@linkplain #registerReusable reusable} statements to keep open
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler, int statementCacheSize) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
@@ -103,13 +131,128 @@ public void release(Statement statement) {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( !keepForReuse( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	@Override
+	public void registerReusable(PreparedStatement statement, String sql, int resultSetType, int autoGeneratedKeys) {
+		register( statement, true );
+		if ( statementCacheSize > 0 ) {
+			if ( reusableStatements == null ) {
+				reusableStatements = new HashMap<>();
+			}
+			reusableStatements.put( statement, new StatementKey( sql, resultSetType, autoGeneratedKeys ) );
+		}
+	}
+
+	@Override
+	public @Nullable PreparedStatement reuseStatement(String sql, int resultSetType, int autoGeneratedKeys) {
+		if ( idleStatements == null || idleStatements.isEmpty() ) {
+			return null;
+		}
+		final PreparedStatement statement =
+				idleStatements.remove( new StatementKey( sql, resultSetType, autoGeneratedKeys ) );
+		if ( statement == null ) {
+			return null;
+		}
+		else if ( isClosed( statement ) ) {
+			// closed behind our back
+			reusableStatements.remove( statement );
+			return null;
+		}
+		else {
+			log.tracef( "Reusing statement [%s]", statement );
+			register( statement, true );
+			return statement;
+		}
+	}
+
+	private static boolean isClosed(Statement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to check if JDBC statement is closed [%s]", e.getMessage() );
+			return true;
+		}
+	}
+
+	/**
+	 * Keep a released statement open for reuse, if it was registered as reusable,
+	 * no other statement with the same SQL is already kept, and it may be cleaned.
+	 *
+	 * @return {@code true} if the statement was kept, or {@code false} if it should be closed
+	 */
+	private boolean keepForReuse(Statement statement) {
+		final StatementKey key = reusableStatements == null ? null : reusableStatements.get( statement );
+		if ( key == null ) {
+			return false;
+		}
+
+		if ( idleStatements == null ) {
+			idleStatements = new LinkedHashMap<>();
+		}
+		final PreparedStatement idleStatement = idleStatements.get( key );
+		if ( idleStatement == statement ) {
+			// released twice
+			return true;
+		}
+		else if ( idleStatement != null || !clean( (PreparedStatement) statement ) ) {
+			reusableStatements.remove( statement );
+			return false;
+		}
+
+		log.tracef( "Keeping statement [%s] for reuse", statement );
+		idleStatements.put( key, (PreparedStatement) statement );
+		if ( idleStatements.size() > statementCacheSize ) {
+			final Map.Entry<StatementKey,PreparedStatement> eldest = idleStatements.entrySet().iterator().next();
+			idleStatements.remove( eldest.getKey() );
+			reusableStatements.remove( eldest.getValue() );
+			close( eldest.getValue() );
+		}
+		return true;
+	}
+
+	/**
+	 * Reset the state of a released statement which might affect its next use.
+	 *
+	 * @return {@code false} if the statement could not be cleaned
+	 */
+	private static boolean clean(PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != 0 ) {
+				statement.setFetchSize( 0 );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void releaseIdleStatement(StatementKey key, PreparedStatement statement) {
+		close( statement );
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -332,6 +475,14 @@ public void releaseResources() {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( idleStatements != null ) {
+			idleStatements.forEach( ResourceRegistryStandardImpl::releaseIdleStatement );
+			idleStatements.clear();
+		}
+		if ( reusableStatements != null ) {
+			reusableStatements.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -383,4 +534,7 @@ private boolean hasRegistered(final HashMap resource) {
 	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
+
+	private record StatementKey(String sql, int resultSetType, int autoGeneratedKeys) {
+	}
 }
@@ -96,6 +96,17 @@ public void jdbcPrepareStatementEnd() {
 		}
 	}
 
+	/**
+	 * A cached statement was reused instead of preparing a new one.
+	 *
+	 * @since 7.0
+	 */
+	public void jdbcReuseStatement() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.reuseStatement();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
@@ -65,6 +65,7 @@
 import org.hibernate.query.internal.NullPrecedenceHelper;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sql.spi.SqlTranslationEngine;
 import org.hibernate.query.sqm.BinaryArithmeticOperator;
 import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.query.common.FetchClauseType;
@@ -411,6 +412,16 @@ public String getSql() {
 		return sqlBuffer.toString();
 	}
 
+	/**
+	 * The rendered SQL, as a canonical instance shared by all operations
+	 * of the session factory with the same SQL
+	 */
+	protected String getInternedSql() {
+		final SqlTranslationEngine sqlTranslationEngine = sessionFactory.getSqlTranslationEngine();
+		// null while the session factory is being built
+		return sqlTranslationEngine == null ? getSql() : sqlTranslationEngine.internSql( getSql() );
+	}
+
 	// For Blaze-Persistence until its function rendering code doesn't depend on SQL fragments anymore
 	@Internal
 	public StringBuilder getSqlBuffer() {
@@ -783,7 +794,7 @@ protected JdbcOperationQueryDelete translateDelete(DeleteStatement sqlAst) {
 		visitDeleteStatement( sqlAst );
 
 		return new JdbcOperationQueryDelete(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getAppliedParameterBindings()
@@ -794,7 +805,7 @@ protected JdbcOperationQueryUpdate translateUpdate(UpdateStatement sqlAst) {
 		visitUpdateStatement( sqlAst );
 
 		return new JdbcOperationQueryUpdate(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getAppliedParameterBindings()
@@ -805,7 +816,7 @@ protected JdbcOperationQueryInsert translateInsert(InsertSelectStatement sqlAst)
 		visitInsertStatement( sqlAst );
 
 		return new JdbcOperationQueryInsertImpl(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getUniqueConstraintNameThatMayFail(sqlAst)
@@ -834,7 +845,7 @@ protected JdbcOperationQuerySelect translateSelect(SelectStatement selectStateme
 
 		final int rowsToSkip;
 		return new JdbcOperationQuerySelect(
-				getSql(),
+				getInternedSql(),
 				getParameterBinders(),
 				buildJdbcValuesMappingProducer( selectStatement ),
 				getAffectedTableNames(),
@@ -8587,7 +8598,7 @@ public void merge(LockOptions lockOptions) {
 	private T translateTableMutation(TableMutation<?> mutation) {
 		mutation.accept( this );
 		//noinspection unchecked
-		return (T) mutation.createMutationOperation( getSql(), parameterBinders );
+		return (T) mutation.createMutationOperation( getInternedSql(), parameterBinders );
 	}
 
 	@Override
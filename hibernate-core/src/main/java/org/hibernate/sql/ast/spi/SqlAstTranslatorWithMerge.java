@@ -42,7 +42,7 @@ public MergeOperation createMergeOperation(OptionalTableUpdate optionalTableUpda
 		return new MergeOperation(
 				optionalTableUpdate.getMutatingTable().getTableMapping(),
 				optionalTableUpdate.getMutationTarget(),
-				getSql(),
+				getInternedSql(),
 				getParameterBinders()
 		);
 	}
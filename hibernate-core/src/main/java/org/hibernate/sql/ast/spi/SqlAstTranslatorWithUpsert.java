@@ -35,7 +35,7 @@ public MutationOperation createMergeOperation(OptionalTableUpdate optionalTableU
 		final UpsertOperation upsertOperation = new UpsertOperation(
 				optionalTableUpdate.getMutatingTable().getTableMapping(),
 				optionalTableUpdate.getMutationTarget(),
-				getSql(),
+				getInternedSql(),
 				getParameterBinders()
 		);
 
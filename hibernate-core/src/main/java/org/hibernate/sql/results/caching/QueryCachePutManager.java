@@ -4,7 +4,10 @@
  */
 package org.hibernate.sql.results.caching;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.graph.DomainResult;
 
 /**
  * @author Steve Ebersole
@@ -12,6 +15,18 @@
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object values);
 
+	/**
+	 * Register the complete list of domain results built from the
+	 * registered JDBC rows.
+	 *
+	 * @since 7.0
+	 */
+	default void registerDomainResults(
+			List<?> results,
+			List<DomainResult<?>> domainResults,
+			SharedSessionContractImplementor session) {
+	}
+
 	/**
 	 * @deprecated Use {@link #finishUp(int, SharedSessionContractImplementor)} instead
 	 */
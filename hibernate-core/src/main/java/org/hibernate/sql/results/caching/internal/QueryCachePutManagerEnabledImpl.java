@@ -6,11 +6,15 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.cache.internal.QueryCacheInvalidationKeys;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -26,6 +30,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
 	private final List<Object> dataToCache = new ArrayList<>();
+	private Set<Object> invalidationKeys;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -47,6 +52,25 @@ public void registerJdbcRow(Object values) {
 		dataToCache.add( values );
 	}
 
+	@Override
+	public void registerDomainResults(
+			List<?> results,
+			List<DomainResult<?>> domainResults,
+			SharedSessionContractImplementor session) {
+		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+			invalidationKeys = QueryCacheInvalidationKeys.resultKeys( results, hasJoinFetches( domainResults ), session );
+		}
+	}
+
+	private static boolean hasJoinFetches(List<DomainResult<?>> domainResults) {
+		for ( DomainResult<?> domainResult : domainResults ) {
+			if ( domainResult instanceof FetchParent fetchParent && fetchParent.hasJoinFetches() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		finishUp( dataToCache.size() - 1, session );
@@ -57,11 +81,9 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		if ( !dataToCache.isEmpty() ) {
 			dataToCache.add( resultCount );
 		}
-		final boolean put = queryCache.put(
-				queryKey,
-				dataToCache,
-				session
-		);
+		final boolean put = invalidationKeys == null
+				? queryCache.put( queryKey, dataToCache, session )
+				: queryCache.put( queryKey, dataToCache, invalidationKeys, session );
 		if ( put && statistics.isStatisticsEnabled() ) {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
@@ -94,6 +94,22 @@ public JavaType<J> getAssembledJavaType() {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the raw value in the JDBC values array
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
+	/**
+	 * Whether {@link #assemble} simply returns the JDBC value at the
+	 * {@linkplain #getValuesArrayPosition() position} of this assembler,
+	 * without any conversion, so that callers may read it directly
+	 */
+	public boolean isRawValuePassThrough() {
+		return valueConverter == null && !unwrapRowProcessingState;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
@@ -34,4 +34,9 @@ public Object extractRawValue(RowProcessingState rowProcessingState) {
 				rowProcessingState.getSession()
 		);
 	}
+
+	@Override
+	public boolean isRawValuePassThrough() {
+		return false;
+	}
 }
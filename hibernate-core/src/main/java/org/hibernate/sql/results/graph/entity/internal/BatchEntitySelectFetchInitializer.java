@@ -8,6 +8,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.LockMode;
 
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -100,6 +103,9 @@ public void endLoading(BatchEntitySelectFetchInitializerData data) {
 		if ( toBatchLoad != null ) {
 			final SharedSessionContractImplementor session = data.getRowProcessingState().getSession();
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			if ( toBatchLoad.size() > 1 && !affectedByFilter ) {
+				loadFromSecondLevelCache( toBatchLoad.keySet(), session );
+			}
 			for ( Map.Entry<EntityKey, List<ParentInfo>> entry : toBatchLoad.entrySet() ) {
 				final EntityKey entityKey = entry.getKey();
 				final List<ParentInfo> parentInfos = entry.getValue();
@@ -121,6 +127,32 @@ public void endLoading(BatchEntitySelectFetchInitializerData data) {
 		}
 	}
 
+	/**
+	 * Resolve the entities which are not yet associated with the persistence context
+	 * from the second-level cache, accessing the cache region in bulk, so that the
+	 * subsequent calls to {@link #loadInstance} find them in the session instead of
+	 * hitting the cache once per key.
+	 */
+	private void loadFromSecondLevelCache(Set<EntityKey> entityKeys, SharedSessionContractImplementor session) {
+		final EntityPersister persister = concreteDescriptor;
+		// entities with a natural id are resolved one by one, since
+		// the load event also caches the natural id resolution
+		if ( persister.canReadFromCache()
+				&& !persister.hasNaturalIdentifier()
+				&& session.getCacheMode().isGetEnabled() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<EntityKey> keysToLoad = new ArrayList<>( entityKeys.size() );
+			for ( EntityKey entityKey : entityKeys ) {
+				if ( persistenceContext.getEntity( entityKey ) == null ) {
+					keysToLoad.add( entityKey );
+				}
+			}
+			if ( keysToLoad.size() > 1 ) {
+				session.loadFromSecondLevelCache( persister, keysToLoad.toArray( new EntityKey[0] ), LockMode.NONE );
+			}
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "BatchEntitySelectFetchInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
@@ -20,6 +20,8 @@
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.StateValuesExtractor;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -131,6 +133,10 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 	private final @Nullable DomainResultAssembler<Object> rowIdAssembler;
 
 	private final DomainResultAssembler<?>[][] assemblers;
+	// per concrete type, the position of the JDBC value which is the state of each attribute, or -1
+	private final int[][] rawValuePositions;
+	// per concrete type, the generated extractor of the state values, if enabled
+	private final @Nullable StateValuesExtractor @Nullable [] stateValuesExtractors;
 	private final @Nullable Initializer<?>[] allInitializers;
 	private final @Nullable Initializer<?>[][] subInitializers;
 	private final @Nullable Initializer<?>[][] subInitializersForResolveFromInitialized;
@@ -425,6 +431,13 @@ public EntityInitializerImpl(
 		}
 
 		this.assemblers = assemblers;
+		this.rawValuePositions = rawValuePositions( assemblers );
+		this.stateValuesExtractors = stateValuesExtractors(
+				creationState.getSqlAstCreationContext().getSessionFactory(),
+				rootEntityDescriptor,
+				assemblers,
+				rawValuePositions
+		);
 		this.allInitializers = allInitializers;
 		this.subInitializers = subInitializers;
 		this.subInitializersForResolveFromInitialized =
@@ -444,6 +457,69 @@ public EntityInitializerImpl(
 		this.affectedByFilter = affectedByFilter;
 	}
 
+	/**
+	 * Determine, for each concrete type, which attributes have a basic state
+	 * that is simply the raw JDBC value, so that {@link #extractConcreteTypeStateValues}
+	 * can read these values directly instead of going through the assemblers.
+	 * For wide entities this avoids a megamorphic call for every attribute of
+	 * every row.
+	 */
+	private static int[][] rawValuePositions(DomainResultAssembler<?>[][] assemblers) {
+		final int[][] rawValuePositions = new int[assemblers.length][];
+		for ( int i = 0; i < assemblers.length; i++ ) {
+			final DomainResultAssembler<?>[] concreteAssemblers = assemblers[i];
+			if ( concreteAssemblers != null ) {
+				final int[] positions = new int[concreteAssemblers.length];
+				for ( int j = 0; j < concreteAssemblers.length; j++ ) {
+					positions[j] = concreteAssemblers[j] instanceof BasicResultAssembler<?> basicAssembler
+								&& basicAssembler.isRawValuePassThrough()
+							? basicAssembler.getValuesArrayPosition()
+							: -1;
+				}
+				rawValuePositions[i] = positions;
+			}
+		}
+		return rawValuePositions;
+	}
+
+	/**
+	 * Obtain, for each concrete type, a {@link StateValuesExtractor} generated for
+	 * the shape of its state, if {@value org.hibernate.cfg.BytecodeSettings#GENERATE_STATE_VALUES_EXTRACTORS}
+	 * is enabled.
+	 */
+	private static @Nullable StateValuesExtractor @Nullable [] stateValuesExtractors(
+			SessionFactoryImplementor factory,
+			EntityPersister rootEntityDescriptor,
+			DomainResultAssembler<?>[][] assemblers,
+			int[][] rawValuePositions) {
+		if ( !factory.getSessionFactoryOptions().isStateValuesExtractorGenerationEnabled() ) {
+			return null;
+		}
+		final BytecodeProvider bytecodeProvider = factory.getServiceRegistry().requireService( BytecodeProvider.class );
+		final StateValuesExtractor[] stateValuesExtractors = new StateValuesExtractor[assemblers.length];
+		stateValuesExtractors[rootEntityDescriptor.getSubclassId()] =
+				stateValuesExtractor( bytecodeProvider, rootEntityDescriptor, assemblers, rawValuePositions );
+		for ( EntityMappingType subMappingType : rootEntityDescriptor.getSubMappingTypes() ) {
+			stateValuesExtractors[subMappingType.getSubclassId()] =
+					stateValuesExtractor( bytecodeProvider, subMappingType, assemblers, rawValuePositions );
+		}
+		return stateValuesExtractors;
+	}
+
+	private static @Nullable StateValuesExtractor stateValuesExtractor(
+			BytecodeProvider bytecodeProvider,
+			EntityMappingType concreteType,
+			DomainResultAssembler<?>[][] assemblers,
+			int[][] rawValuePositions) {
+		final int subclassId = concreteType.getSubclassId();
+		return bytecodeProvider.getStateValuesExtractor(
+				concreteType.getEntityName(),
+				assemblers[subclassId],
+				rawValuePositions[subclassId],
+				concreteType.getNumberOfAttributeMappings()
+		);
+	}
+
 	private static boolean isPreviousRowReuse(@Nullable InitializerParent<?> parent) {
 		// Traverse up the parents to find out if one of our parents has row reuse enabled
 		while ( parent != null ) {
@@ -1619,9 +1695,23 @@ protected Object[] extractConcreteTypeStateValues(EntityInitializerData data) {
 		final RowProcessingState rowProcessingState = data.getRowProcessingState();
 		final Object[] values = new Object[data.concreteDescriptor.getNumberOfAttributeMappings()];
 		final DomainResultAssembler<?>[] concreteAssemblers = assemblers[data.concreteDescriptor.getSubclassId()];
+		final int[] concreteRawValuePositions = rawValuePositions[data.concreteDescriptor.getSubclassId()];
+		final StateValuesExtractor stateValuesExtractor = stateValuesExtractors == null
+				? null
+				: stateValuesExtractors[data.concreteDescriptor.getSubclassId()];
+		if ( stateValuesExtractor != null ) {
+			stateValuesExtractor.extractStateValues( rowProcessingState, concreteAssemblers, concreteRawValuePositions, values );
+			return values;
+		}
 		for ( int i = 0; i < values.length; i++ ) {
-			final DomainResultAssembler<?> assembler = concreteAssemblers[i];
-			values[i] = assembler == null ? UNFETCHED_PROPERTY : assembler.assemble( rowProcessingState );
+			final int rawValuePosition = concreteRawValuePositions[i];
+			if ( rawValuePosition >= 0 ) {
+				values[i] = rowProcessingState.getJdbcValue( rawValuePosition );
+			}
+			else {
+				final DomainResultAssembler<?> assembler = concreteAssemblers[i];
+				values[i] = assembler == null ? UNFETCHED_PROPERTY : assembler.assemble( rowProcessingState );
+			}
 		}
 		return values;
 	}
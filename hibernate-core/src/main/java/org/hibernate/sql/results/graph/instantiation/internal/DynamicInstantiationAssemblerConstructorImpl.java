@@ -5,10 +5,10 @@
 package org.hibernate.sql.results.graph.instantiation.internal;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.internal.util.ConstructorInvoker;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
@@ -19,7 +19,7 @@
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
-	private final Constructor<R> targetConstructor;
+	private final ConstructorInvoker<R> targetConstructor;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
 
@@ -27,7 +27,7 @@ public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
-		this.targetConstructor = targetConstructor;
+		this.targetConstructor = ConstructorInvoker.of( targetConstructor );
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
 	}
@@ -46,15 +46,11 @@ public R assemble(RowProcessingState rowProcessingState) {
 		}
 
 		try {
-			return targetConstructor.newInstance( args );
-		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+			return targetConstructor.invoke( args );
 		}
 		catch (Exception e) {
 			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+					+ targetConstructor.getConstructor().getDeclaringClass().getName() + "'", e );
 		}
 	}
 
@@ -6,14 +6,13 @@
 
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.internal.util.ConstructorInvoker;
 import org.hibernate.internal.util.beans.BeanInfoHelper;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
@@ -30,6 +29,7 @@
 public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResultAssembler<T> {
 	private final JavaType<T> target;
 	private final List<BeanInjection> beanInjections;
+	private ConstructorInvoker<T> defaultConstructor;
 
 	public DynamicInstantiationAssemblerInjectionImpl(
 			JavaType<T> target,
@@ -92,12 +92,12 @@ public JavaType<T> getAssembledJavaType() {
 	public T assemble(RowProcessingState rowProcessingState) {
 		final T result;
 		try {
-			final Constructor<T> constructor = target.getJavaTypeClass().getDeclaredConstructor();
-			constructor.setAccessible( true );
-			result = constructor.newInstance();
+			if ( defaultConstructor == null ) {
+				defaultConstructor = ConstructorInvoker.of( target.getJavaTypeClass().getDeclaredConstructor() );
+			}
+			result = defaultConstructor.invoke();
 		}
-		catch ( NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException
-				| java.lang.InstantiationException e ) {
+		catch ( Exception e ) {
 			throw new InstantiationException( "Error instantiating class '"
 					+ target.getTypeName() + "' using default constructor: " + e.getMessage(), e );
 		}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import java.lang.reflect.Array;
+import java.util.BitSet;
+
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.query.ResultColumns;
+
+/**
+ * Standard implementation of {@link ResultColumns}, whose arrays are
+ * filled in by a {@link org.hibernate.sql.results.spi.ColumnarResultsConsumer}.
+ *
+ * @since 7.0
+ */
+public class ResultColumnsImpl implements ResultColumns {
+	private final Class<?>[] javaTypes;
+	// each element is a long[], a double[], or an array of the Java type
+	private final Object[] columns;
+	private final BitSet[] nulls;
+	private int rowCount;
+
+	/**
+	 * @param javaTypes the Java types of the values of the columns
+	 * @param componentTypes {@code long.class}, {@code double.class},
+	 *        or the component type of the array of values, for each column
+	 * @param capacity the maximum number of rows in a chunk
+	 */
+	@AllowReflection // the arrays of values have the Java types of the columns
+	public ResultColumnsImpl(Class<?>[] javaTypes, Class<?>[] componentTypes, int capacity) {
+		this.javaTypes = javaTypes;
+		columns = new Object[componentTypes.length];
+		nulls = new BitSet[componentTypes.length];
+		for ( int i = 0; i < componentTypes.length; i++ ) {
+			columns[i] = Array.newInstance( componentTypes[i], capacity );
+			nulls[i] = new BitSet( capacity );
+		}
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	@Override
+	public Class<?> getJavaType(int column) {
+		return javaTypes[column];
+	}
+
+	@Override
+	public boolean isLongColumn(int column) {
+		return columns[column] instanceof long[];
+	}
+
+	@Override
+	public boolean isDoubleColumn(int column) {
+		return columns[column] instanceof double[];
+	}
+
+	@Override
+	public boolean isNull(int column, int row) {
+		return nulls[column].get( row );
+	}
+
+	@Override
+	public long[] getLongs(int column) {
+		if ( columns[column] instanceof long[] longs ) {
+			return longs;
+		}
+		else {
+			throw new IllegalArgumentException( "Column " + column + " is not of integral numeric type" );
+		}
+	}
+
+	@Override
+	public double[] getDoubles(int column) {
+		if ( columns[column] instanceof double[] doubles ) {
+			return doubles;
+		}
+		else {
+			throw new IllegalArgumentException( "Column " + column + " is not of floating point numeric type" );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T[] getValues(int column, Class<T> type) {
+		if ( columns[column] instanceof Object[] values
+				&& type.isAssignableFrom( values.getClass().getComponentType() ) ) {
+			return (T[]) values;
+		}
+		else {
+			throw new IllegalArgumentException( "Values of column " + column + " are not of type '"
+					+ type.getName() + "'" );
+		}
+	}
+
+	/**
+	 * Access to the array of values of the given column, for populating it
+	 */
+	public Object getColumn(int column) {
+		return columns[column];
+	}
+
+	/**
+	 * Record that the given column has a null value in the given row
+	 */
+	public void setNull(int column, int row) {
+		nulls[column].set( row );
+	}
+
+	/**
+	 * Record that all columns of another row have been populated
+	 */
+	public void addRow() {
+		rowCount++;
+	}
+
+	/**
+	 * Empty this chunk, so that it can be repopulated with the next chunk of rows
+	 */
+	public void clear() {
+		rowCount = 0;
+		for ( BitSet columnNulls : nulls ) {
+			columnNulls.clear();
+		}
+	}
+}
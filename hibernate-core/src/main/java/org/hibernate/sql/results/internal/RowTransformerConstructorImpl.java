@@ -6,6 +6,7 @@
 
 import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
+import org.hibernate.internal.util.ConstructorInvoker;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import java.lang.reflect.Constructor;
@@ -25,7 +26,7 @@
  */
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
-	private final Constructor<T> constructor;
+	private final ConstructorInvoker<T> constructor;
 
 	public RowTransformerConstructorImpl(
 			Class<T> type,
@@ -41,11 +42,11 @@ public RowTransformerConstructorImpl(
 			throw new InstantiationException( "Cannot instantiate query result type, argument types are unknown ", type );
 		}
 
-		constructor = findMatchingConstructor( type, argumentTypes, typeConfiguration );
-		if ( constructor == null ) {
+		final Constructor<T> matchingConstructor = findMatchingConstructor( type, argumentTypes, typeConfiguration );
+		if ( matchingConstructor == null ) {
 			throw new InstantiationException( "Cannot instantiate query result type, found no matching constructor", type );
 		}
-		constructor.setAccessible( true );
+		constructor = ConstructorInvoker.of( matchingConstructor );
 	}
 
 	private static Class<?> resolveElementJavaType(TupleElement<?> element) {
@@ -62,7 +63,7 @@ private static Class<?> resolveElementJavaType(TupleElement<?> element) {
 	@Override
 	public T transformRow(Object[] row) {
 		try {
-			return constructor.newInstance( row );
+			return constructor.invoke( row );
 		}
 		catch (Exception e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
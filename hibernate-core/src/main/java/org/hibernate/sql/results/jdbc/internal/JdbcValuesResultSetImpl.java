@@ -8,6 +8,7 @@
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.List;
 
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
@@ -327,6 +328,13 @@ public void readCurrentRowValues() {
 		initializedIndexes.clear();
 	}
 
+	@Override
+	public void registerDomainResults(List<?> results, SharedSessionContractImplementor session) {
+		if ( queryCachePutManager != null ) {
+			queryCachePutManager.registerDomainResults( results, valuesMapping.getDomainResults(), session );
+		}
+	}
+
 	@Override
 	public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
@@ -399,6 +407,62 @@ public Object getCurrentRowValue(int valueIndex) {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	@Override
+	public boolean readCurrentRowValue(int valueIndex, long[] target, int targetIndex) {
+		if ( queryCachePutManager != null || initializedIndexes.get( valueIndex ) ) {
+			// the boxed value is needed for the query cache, or was already read
+			final Object value = getCurrentRowValue( valueIndex );
+			if ( value == null ) {
+				return false;
+			}
+			target[targetIndex] = ( (Number) value ).longValue();
+			return true;
+		}
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		try {
+			final long value = resultSet.getLong( sqlSelection.getJdbcResultSetIndex() );
+			if ( resultSet.wasNull() ) {
+				return false;
+			}
+			target[targetIndex] = value;
+			return true;
+		}
+		catch ( SQLException e ) {
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+			);
+		}
+	}
+
+	@Override
+	public boolean readCurrentRowValue(int valueIndex, double[] target, int targetIndex) {
+		if ( queryCachePutManager != null || initializedIndexes.get( valueIndex ) ) {
+			// the boxed value is needed for the query cache, or was already read
+			final Object value = getCurrentRowValue( valueIndex );
+			if ( value == null ) {
+				return false;
+			}
+			target[targetIndex] = ( (Number) value ).doubleValue();
+			return true;
+		}
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		try {
+			final double value = resultSet.getDouble( sqlSelection.getJdbcResultSetIndex() );
+			if ( resultSet.wasNull() ) {
+				return false;
+			}
+			target[targetIndex] = value;
+			return true;
+		}
+		catch ( SQLException e ) {
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+			);
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
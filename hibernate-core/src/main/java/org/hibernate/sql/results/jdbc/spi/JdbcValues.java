@@ -4,6 +4,9 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -74,8 +77,62 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Read the JDBC value of numeric type at the given index for the row
+	 * currently positioned at within this source, and store it as a
+	 * {@code long} in the given array, avoiding boxing where possible.
+	 *
+	 * @return {@code false} if the value is null, in which case the array
+	 * is not modified
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean readCurrentRowValue(int valueIndex, long[] target, int targetIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		if ( value == null ) {
+			return false;
+		}
+		else {
+			target[targetIndex] = ( (Number) value ).longValue();
+			return true;
+		}
+	}
+
+	/**
+	 * Read the JDBC value of numeric type at the given index for the row
+	 * currently positioned at within this source, and store it as a
+	 * {@code double} in the given array, avoiding boxing where possible.
+	 *
+	 * @return {@code false} if the value is null, in which case the array
+	 * is not modified
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean readCurrentRowValue(int valueIndex, double[] target, int targetIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		if ( value == null ) {
+			return false;
+		}
+		else {
+			target[targetIndex] = ( (Number) value ).doubleValue();
+			return true;
+		}
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
+	/**
+	 * Give implementations a chance to inspect the complete list of domain
+	 * results read from this source, before they {@linkplain #finishUp finish
+	 * processing}.
+	 *
+	 * @since 7.0
+	 */
+	default void registerDomainResults(List<?> results, SharedSessionContractImplementor session) {
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
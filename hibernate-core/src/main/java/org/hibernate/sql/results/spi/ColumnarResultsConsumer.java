@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.ResultColumns;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * Reads the rows of a query with only {@linkplain BasicResult basic-typed}
+ * selection items into {@link ResultColumns}, chunk by chunk, bypassing the
+ * {@link RowReader} and {@link RowTransformer}. Values of numeric types
+ * without a converter are read from the {@link JdbcValues} directly into
+ * primitive arrays.
+ *
+ * @see org.hibernate.query.SelectionQuery#forEachChunk(int, Consumer)
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ColumnarResultsConsumer<R> implements ResultsConsumer<Void, R> {
+	private final int chunkSize;
+	private final Consumer<ResultColumns> action;
+
+	public ColumnarResultsConsumer(int chunkSize, Consumer<ResultColumns> action) {
+		if ( chunkSize < 1 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive" );
+		}
+		this.chunkSize = chunkSize;
+		this.action = action;
+	}
+
+	@Override
+	public Void consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		RuntimeException ex = null;
+		persistenceContext.beforeLoad();
+		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+		try {
+			readChunks( jdbcValues, rowProcessingState );
+			jdbcValuesSourceProcessingState.finishUp( true );
+			return null;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				jdbcValues.finishUp( session );
+				persistenceContext.afterLoad();
+				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	private void readChunks(JdbcValues jdbcValues, RowProcessingStateStandardImpl rowProcessingState) {
+		final List<DomainResult<?>> domainResults = jdbcValues.getValuesMapping().getDomainResults();
+		final SqlSelection[] sqlSelections = new SqlSelection[jdbcValues.getValuesMapping().getRowSize()];
+		for ( SqlSelection sqlSelection : jdbcValues.getValuesMapping().getSqlSelections() ) {
+			sqlSelections[sqlSelection.getValuesArrayPosition()] = sqlSelection;
+		}
+
+		final int columnCount = domainResults.size();
+		final BasicResultAssembler<?>[] assemblers = new BasicResultAssembler<?>[columnCount];
+		final int[] positions = new int[columnCount];
+		final Class<?>[] javaTypes = new Class<?>[columnCount];
+		final Class<?>[] componentTypes = new Class<?>[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			if ( domainResults.get( i ) instanceof BasicResult<?> basicResult
+					&& basicResult.getAssembler() instanceof BasicResultAssembler<?> assembler ) {
+				assemblers[i] = assembler;
+				positions[i] = assembler.getValuesArrayPosition();
+				javaTypes[i] = assembler.getAssembledJavaType().getJavaTypeClass();
+				componentTypes[i] = componentType( assembler, javaTypes[i], sqlSelections[positions[i]] );
+			}
+			else {
+				throw new IllegalQueryOperationException(
+						"Columnar results are only supported for queries with basic-typed selection items" );
+			}
+		}
+
+		final ResultColumnsImpl columns = new ResultColumnsImpl( javaTypes, componentTypes, chunkSize );
+		while ( rowProcessingState.next() ) {
+			final int row = columns.getRowCount();
+			for ( int i = 0; i < columnCount; i++ ) {
+				final Object column = columns.getColumn( i );
+				if ( column instanceof long[] longs ) {
+					if ( !jdbcValues.readCurrentRowValue( positions[i], longs, row ) ) {
+						longs[row] = 0L;
+						columns.setNull( i, row );
+					}
+				}
+				else if ( column instanceof double[] doubles ) {
+					if ( !jdbcValues.readCurrentRowValue( positions[i], doubles, row ) ) {
+						doubles[row] = 0.0;
+						columns.setNull( i, row );
+					}
+				}
+				else {
+					final Object value = assemblers[i].assemble( rowProcessingState );
+					( (Object[]) column )[row] = value;
+					if ( value == null ) {
+						columns.setNull( i, row );
+					}
+				}
+			}
+			columns.addRow();
+			rowProcessingState.finishRowProcessing( true );
+			if ( columns.getRowCount() == chunkSize ) {
+				action.accept( columns );
+				columns.clear();
+			}
+		}
+		if ( columns.getRowCount() > 0 ) {
+			action.accept( columns );
+		}
+	}
+
+	/**
+	 * Values of numeric JDBC type, of a primitive wrapper Java type, and
+	 * without a converter are read into a primitive array.
+	 */
+	private static Class<?> componentType(
+			BasicResultAssembler<?> assembler,
+			Class<?> javaType,
+			SqlSelection sqlSelection) {
+		if ( assembler.getValueConverter() == null && isNumeric( sqlSelection ) ) {
+			if ( javaType == Long.class || javaType == Integer.class
+					|| javaType == Short.class || javaType == Byte.class ) {
+				return long.class;
+			}
+			else if ( javaType == Double.class || javaType == Float.class ) {
+				return double.class;
+			}
+		}
+		return javaType.isPrimitive() ? Object.class : javaType;
+	}
+
+	private static boolean isNumeric(SqlSelection sqlSelection) {
+		if ( sqlSelection == null ) {
+			return false;
+		}
+		else {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			return expressionType != null
+				&& expressionType.getJdbcTypeCount() == 1
+				&& expressionType.getSingleJdbcMapping().getJdbcType().isNumber();
+		}
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return true;
+	}
+}
@@ -166,6 +166,7 @@ public List<R> consume(
 			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
+			jdbcValues.registerDomainResults( results.getResults(), session );
 			return transformList( rowProcessingState, results );
 		}
 		catch (RuntimeException e) {
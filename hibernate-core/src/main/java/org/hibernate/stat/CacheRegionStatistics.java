@@ -71,4 +71,34 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of cache look-ups against the region satisfied by its
+	 * in-process {@linkplain org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 * near cache} since the last Statistics clearing. These look-ups are also
+	 * counted by {@link #getHitCount()}.
+	 * <p>
+	 * If the region has no near cache, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 7.0
+	 */
+	default long getNearCacheHitCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of cache look-ups against the region which were not satisfied
+	 * by its in-process {@linkplain org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 * near cache}, and were passed on to the underlying cache, since the last
+	 * Statistics clearing.
+	 * <p>
+	 * If the region has no near cache, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 7.0
+	 */
+	default long getNearCacheMissCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
@@ -391,6 +391,16 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements that were reused from the
+	 * statement cache of a session, instead of being prepared again.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	long getReuseStatementCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -406,4 +416,36 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The number of queries which were interpreted ahead of their first use
+	 * by the warm-up from the recorded query workload.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 *
+	 * @since 7.0
+	 */
+	long getQueryWarmUpCount();
+
+	/**
+	 * The number of distinct queries interpreted by the warm-up which were
+	 * later used.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 *
+	 * @since 7.0
+	 */
+	long getWarmedUpQueryUseCount();
+
+	/**
+	 * The number of distinct queries which were not interpreted by the
+	 * warm-up, and were interpreted on their first use instead. Together
+	 * with {@link #getWarmedUpQueryUseCount()}, this measures how much of
+	 * the actual query workload was covered by the warm-up.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_WORKLOAD
+	 *
+	 * @since 7.0
+	 */
+	long getQueryInterpretedOnDemandCount();
 }
@@ -7,8 +7,11 @@
 import java.io.Serializable;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
 import org.hibernate.stat.CacheRegionStatistics;
 
 /**
@@ -68,6 +71,29 @@ public long getSizeInMemory() {
 				: NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public long getNearCacheHitCount() {
+		final @Nullable NearCacheStorageAccess nearCache = nearCache( region );
+		return nearCache == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: nearCache.getHitCount();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		final @Nullable NearCacheStorageAccess nearCache = nearCache( region );
+		return nearCache == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: nearCache.getMissCount();
+	}
+
+	static @Nullable NearCacheStorageAccess nearCache(Region region) {
+		return region instanceof DomainDataRegionTemplate template
+			&& template.getCacheStorageAccess() instanceof NearCacheStorageAccess nearCache
+				? nearCache
+				: null;
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -90,6 +116,8 @@ public String toString() {
 				",elementCountInMemory=" + this.getElementCountInMemory() +
 				",elementCountOnDisk=" + this.getElementCountOnDisk() +
 				",sizeInMemory=" + this.getSizeInMemory() +
+				",nearCacheHitCount=" + this.getNearCacheHitCount() +
+				",nearCacheMissCount=" + this.getNearCacheMissCount() +
 				']';
 		return buf;
 	}
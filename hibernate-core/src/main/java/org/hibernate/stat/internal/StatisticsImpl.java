@@ -19,6 +19,7 @@
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.NullnessUtil;
@@ -63,6 +64,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder reuseStatementCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -97,6 +99,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryWarmUpCount = new LongAdder();
+	private final LongAdder warmedUpQueryUseCount = new LongAdder();
+	private final LongAdder queryInterpretedOnDemandCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -171,6 +176,7 @@ public void clear() {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		reuseStatementCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -206,13 +212,26 @@ public void clear() {
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		clearNearCacheStatistics();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryWarmUpCount.reset();
+		warmedUpQueryUseCount.reset();
+		queryInterpretedOnDemandCount.reset();
 
 		resetStart();
 	}
 
+	private void clearNearCacheStatistics() {
+		for ( String regionName : cache.getCacheRegionNames() ) {
+			final @Nullable NearCacheStorageAccess nearCache = CacheRegionStatisticsImpl.nearCache( cache.getRegion( regionName ) );
+			if ( nearCache != null ) {
+				nearCache.clearStatistics();
+			}
+		}
+	}
+
 	private void resetStart(@UnknownInitialization StatisticsImpl this) {
 		startTime = Instant.now();
 	}
@@ -778,6 +797,36 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryWarmUpCount() {
+		return queryWarmUpCount.sum();
+	}
+
+	@Override
+	public long getWarmedUpQueryUseCount() {
+		return warmedUpQueryUseCount.sum();
+	}
+
+	@Override
+	public long getQueryInterpretedOnDemandCount() {
+		return queryInterpretedOnDemandCount.sum();
+	}
+
+	@Override
+	public void queryWarmedUp() {
+		queryWarmUpCount.increment();
+	}
+
+	@Override
+	public void warmedUpQueryUsed() {
+		warmedUpQueryUseCount.increment();
+	}
+
+	@Override
+	public void queryInterpretedOnDemand() {
+		queryInterpretedOnDemandCount.increment();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -857,6 +906,11 @@ public long getPrepareStatementCount() {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getReuseStatementCount() {
+		return reuseStatementCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -887,6 +941,11 @@ public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void reuseStatement() {
+		reuseStatementCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -953,6 +1012,7 @@ public String toString() {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statements reused=" + reuseStatementCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -982,6 +1042,9 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",queries warmed up=" + queryWarmUpCount +
+				",warmed up queries used=" + warmedUpQueryUseCount +
+				",queries interpreted on demand=" + queryInterpretedOnDemandCount +
 				']';
 	}
 
@@ -50,6 +50,39 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a cached statement being reused.
+	 *
+	 * @since 7.0
+	 */
+	default void reuseStatement() {
+	}
+
+	/**
+	 * Callback about a query being interpreted by the warm-up.
+	 *
+	 * @since 7.0
+	 */
+	default void queryWarmedUp() {
+	}
+
+	/**
+	 * Callback about the first use of a query interpreted by the warm-up.
+	 *
+	 * @since 7.0
+	 */
+	default void warmedUpQueryUsed() {
+	}
+
+	/**
+	 * Callback about a query which was not warmed up being interpreted on
+	 * its first use.
+	 *
+	 * @since 7.0
+	 */
+	default void queryInterpretedOnDemand() {
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.usertype;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.collection.spi.PersistentOperationLogSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link UserCollectionType} for sets, which tracks changes in an operation log
+ * instead of a snapshot of the elements, using a {@link PersistentOperationLogSet}.
+ * It is meant for large sets of elements which are not modified in place, for example:
+ * <pre>
+ * &#64;ManyToMany
+ * &#64;CollectionType(type = OperationLogSetType.class)
+ * Set&lt;Tag&gt; tags;
+ * </pre>
+ *
+ * @see PersistentOperationLogSet
+ *
+ * @since 7.0
+ */
+@Incubating
+public class OperationLogSetType implements UserCollectionType {
+	@Override
+	public CollectionClassification getClassification() {
+		return CollectionClassification.SET;
+	}
+
+	@Override
+	public Class<?> getCollectionClass() {
+		return Set.class;
+	}
+
+	@Override
+	public PersistentCollection<?> instantiate(SharedSessionContractImplementor session, CollectionPersister persister)
+			throws HibernateException {
+		return new PersistentOperationLogSet<>( session );
+	}
+
+	@Override
+	public PersistentCollection<?> wrap(SharedSessionContractImplementor session, Object collection) {
+		return new PersistentOperationLogSet<>( session, (Set<?>) collection );
+	}
+
+	@Override
+	public Iterator<?> getElementsIterator(Object collection) {
+		return ( (Set<?>) collection ).iterator();
+	}
+
+	@Override
+	public boolean contains(Object collection, Object entity) {
+		return ( (Set<?>) collection ).contains( entity );
+	}
+
+	@Override
+	public Object indexOf(Object collection, Object entity) {
+		return null;
+	}
+
+	@Override
+	public Object replaceElements(
+			Object original,
+			Object target,
+			CollectionPersister persister,
+			Object owner,
+			Map copyCache,
+			SharedSessionContractImplementor session) throws HibernateException {
+		final Type elementType = persister.getElementType();
+		final Set<Object> replacements = CollectionHelper.setOfSize( ( (Collection<?>) original ).size() );
+		for ( Object element : (Collection<?>) original ) {
+			//noinspection unchecked
+			replacements.add( elementType.replace( element, null, session, owner, copyCache ) );
+		}
+		//noinspection unchecked
+		final Set<Object> result = (Set<Object>) target;
+		// only apply the differences, so that unchanged elements are not logged
+		result.retainAll( replacements );
+		result.addAll( replacements );
+		return result;
+	}
+
+	@Override
+	public Object instantiate(int anticipatedSize) {
+		return anticipatedSize < 1 ? new HashSet<>() : CollectionHelper.setOfSize( anticipatedSize );
+	}
+}
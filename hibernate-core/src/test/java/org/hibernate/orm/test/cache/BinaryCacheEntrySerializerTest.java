@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.BinaryCacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel( annotatedClasses = BinaryCacheEntrySerializerTest.Product.class )
+public class BinaryCacheEntrySerializerTest {
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final CacheEntry entry = cacheEntry( scope, session );
+			final byte[] bytes = BinaryCacheEntrySerializer.INSTANCE.serialize( entry, scope.getSessionFactory() );
+			assertThat( bytes ).isNotNull();
+
+			final CacheEntry deserialized =
+					BinaryCacheEntrySerializer.INSTANCE.deserialize( bytes, scope.getSessionFactory() );
+			assertThat( deserialized ).isNotNull();
+			assertThat( deserialized.getSubclass() ).isEqualTo( entry.getSubclass() );
+			assertThat( deserialized.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( deserialized.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	// a regression check: the encoding is driven by the mapping, and
+	// so should remain much smaller than the serialized entry
+	@Test
+	public void testSmallerThanJavaSerialization(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final CacheEntry entry = cacheEntry( scope, session );
+			final byte[] binary = BinaryCacheEntrySerializer.INSTANCE.serialize( entry, scope.getSessionFactory() );
+			final byte[] serialized = SerializationHelper.serialize( entry );
+			assertThat( binary ).isNotNull();
+			assertThat( binary.length ).isLessThan( serialized.length / 2 );
+		} );
+	}
+
+	@Test
+	public void testStaleEntryRejected(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final CacheEntry entry = cacheEntry( scope, session );
+			final byte[] bytes = BinaryCacheEntrySerializer.INSTANCE.serialize( entry, scope.getSessionFactory() );
+			assertThat( bytes ).isNotNull();
+
+			// the fingerprint follows the format version and the length-prefixed entity name
+			final int fingerprintOffset = 5 + entry.getSubclass().getBytes( StandardCharsets.UTF_8 ).length;
+			bytes[fingerprintOffset] ^= 1;
+			assertThat( BinaryCacheEntrySerializer.INSTANCE.deserialize( bytes, scope.getSessionFactory() ) )
+					.isNull();
+		} );
+	}
+
+	private static CacheEntry cacheEntry(SessionFactoryScope scope, SessionImplementor session) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		final Product product = new Product();
+		product.id = 1L;
+		product.name = "Widget";
+		product.code = UUID.randomUUID();
+		product.price = new BigDecimal( "12.50" );
+		product.released = LocalDate.of( 2024, 3, 1 );
+		product.stock = 42;
+		product.active = true;
+		product.dimensions = new Dimensions( 1.5d, 2.5d, 3.5d );
+		product.color = Color.GREEN;
+		product.tags = new String[] { "new", "sale" };
+		product.version = 3;
+		return persister.buildCacheEntry( product, persister.getValues( product ), product.version, session );
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		Long id;
+		String name;
+		UUID code;
+		BigDecimal price;
+		LocalDate released;
+		int stock;
+		boolean active;
+		Dimensions dimensions;
+		@Enumerated(EnumType.STRING)
+		Color color;
+		@Convert(converter = TagsConverter.class)
+		String[] tags;
+		@Version
+		Integer version;
+	}
+
+	public enum Color {
+		RED, GREEN, BLUE
+	}
+
+	// the disassembled value does not have the Java type of the attribute
+	@Converter
+	public static class TagsConverter implements AttributeConverter<String[], String> {
+		@Override
+		public String convertToDatabaseColumn(String[] tags) {
+			return tags == null ? null : String.join( ",", tags );
+		}
+
+		@Override
+		public String[] convertToEntityAttribute(String tags) {
+			return tags == null ? null : tags.split( "," );
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double width;
+		double height;
+		double depth;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height, double depth) {
+			this.width = width;
+			this.height = height;
+			this.depth = depth;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a value read from the underlying storage concurrently with
+ * an invalidation is never kept in the near tier.
+ */
+public class NearCacheStorageAccessTest {
+
+	@Test
+	public void testRemoveDuringGet() throws Exception {
+		testInvalidationDuringRead( near -> near.removeFromCache( "key", null ), false );
+	}
+
+	@Test
+	public void testEvictDuringGet() throws Exception {
+		testInvalidationDuringRead( near -> near.evictData( "key" ), false );
+	}
+
+	@Test
+	public void testRemoveDuringGetAll() throws Exception {
+		testInvalidationDuringRead( near -> near.removeFromCache( "key", null ), true );
+	}
+
+	@Test
+	public void testGetWithoutInvalidation() {
+		final NearCacheStorageAccess near = new NearCacheStorageAccess( new MapStorageAccessImpl(), 10, 0 );
+		near.getDelegate().putIntoCache( "key", "value", null );
+		assertThat( near.getFromCache( "key", null ) ).isEqualTo( "value" );
+		assertThat( near.getEntryCount() ).isEqualTo( 1 );
+	}
+
+	private static void testInvalidationDuringRead(Consumer<NearCacheStorageAccess> invalidation, boolean bulk)
+			throws Exception {
+		final BlockingStorageAccess delegate = new BlockingStorageAccess();
+		delegate.putIntoCache( "key", "stale", null );
+		final NearCacheStorageAccess near = new NearCacheStorageAccess( delegate, 10, 0 );
+
+		// the read takes the stale value from the underlying storage,
+		// and then waits while the entry is invalidated
+		final CompletableFuture<Object> read = CompletableFuture.supplyAsync(
+				() -> bulk
+						? near.getAllFromCache( List.of( "key" ), null ).get( "key" )
+						: near.getFromCache( "key", null )
+		);
+		assertThat( delegate.read.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		invalidation.accept( near );
+		delegate.invalidated.countDown();
+
+		assertThat( read.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "stale" );
+		assertThat( near.getEntryCount() ).isEqualTo( 0 );
+		assertThat( near.getFromCache( "key", null ) ).isNull();
+	}
+
+	private static class BlockingStorageAccess extends MapStorageAccessImpl {
+		final CountDownLatch read = new CountDownLatch( 1 );
+		final CountDownLatch invalidated = new CountDownLatch( 1 );
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			final Object value = super.getFromCache( key, session );
+			awaitInvalidation();
+			return value;
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			final Map<Object, Object> values = new HashMap<>();
+			for ( Object key : keys ) {
+				values.put( key, super.getFromCache( key, session ) );
+			}
+			awaitInvalidation();
+			return values;
+		}
+
+		private void awaitInvalidation() {
+			if ( read.getCount() > 0 ) {
+				read.countDown();
+				try {
+					invalidated.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+}
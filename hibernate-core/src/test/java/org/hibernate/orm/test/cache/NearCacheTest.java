@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.stat.CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+
+@DomainModel( annotatedClasses = { NearCacheTest.Book.class, NearCacheTest.Author.class } )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.NEAR_CACHE_MAX_ENTRIES + ".Book", value = "100" )
+} )
+public class NearCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Author( 1L, "Gavin King" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNearCacheHit(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findTitle( scope ) ).isEqualTo( "Hibernate in Action" );
+		assertThat( findTitle( scope ) ).isEqualTo( "Hibernate in Action" );
+
+		final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics( "Book" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUpdateRefreshesNearCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		statistics.clear();
+
+		assertThat( findTitle( scope ) ).isEqualTo( "Java Persistence with Hibernate" );
+		final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics( "Book" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictInvalidatesNearCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictEntityData( Book.class, 1L );
+
+		assertThat( findTitle( scope ) ).isEqualTo( "Hibernate in Action" );
+		final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics( "Book" );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( 1 );
+
+		// the entry loaded from the database is put into the near cache
+		assertThat( findTitle( scope ) ).isEqualTo( "Hibernate in Action" );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testNearCacheConfiguredPerRegion(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> assertThat( session.find( Author.class, 1L ) ).isNotNull() );
+
+		final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics( "Author" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( NO_EXTENDED_STAT_SUPPORT_RETURN );
+	}
+
+	private static String findTitle(SessionFactoryScope scope) {
+		return scope.fromSession( session -> session.find( Book.class, 1L ).title );
+	}
+
+	@Entity( name = "Book" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity( name = "Author" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "Author" )
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -58,6 +58,7 @@
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.collection.CollectionPage;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.DiscriminatorMetadata;
 import org.hibernate.persister.entity.EntityPersister;
@@ -1243,6 +1244,15 @@ public Object getElementByIndex(Object key, Object index, SharedSessionContractI
 			return null;  //To change body of implemented methods use File | Settings | File Templates.
 		}
 
+		@Override
+		public CollectionPage loadPage(
+				Object key,
+				@Nullable Object lastOrderingValue,
+				int pageSize,
+				SharedSessionContractImplementor session) {
+			return null;
+		}
+
 		@Override
 		public String getMappedByProperty() {
 			return null;
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.paging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentCollection#pages(int)} and for the caching
+ * of the size and of the elements of uninitialized collections.
+ */
+@DomainModel(annotatedClasses = {
+		CollectionPagingTest.Library.class,
+		CollectionPagingTest.Book.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class CollectionPagingTest {
+	private static final int ELEMENT_COUNT = 25;
+	private static final int PAGE_SIZE = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = new Library( 1 );
+			session.persist( library );
+			for ( int i = 0; i < ELEMENT_COUNT; i++ ) {
+				final Book book = new Book( i, library );
+				library.books.add( book );
+				session.persist( book );
+				library.tags.add( "tag" + (char) ( 'a' + i ) );
+				library.notes.add( "note" + i );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOneToManyPages(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1 );
+			statementInspector.clear();
+
+			final List<List<?>> pages = readPages( library.books );
+			assertThat( pages ).hasSize( 3 );
+			assertThat( pages.get( 0 ) ).hasSize( PAGE_SIZE );
+			assertThat( pages.get( 2 ) ).hasSize( ELEMENT_COUNT - 2 * PAGE_SIZE );
+			final List<Integer> ids = new ArrayList<>();
+			for ( List<?> page : pages ) {
+				for ( Object book : page ) {
+					ids.add( ( (Book) book ).id );
+				}
+			}
+			assertThat( ids ).hasSize( ELEMENT_COUNT ).isSorted().doesNotHaveDuplicates();
+			// the last page is not full, so no query is needed to find out there are no more pages
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( Hibernate.isInitialized( library.books ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testElementCollectionPages(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1 );
+
+			final List<Object> tags = new ArrayList<>();
+			readPages( library.tags ).forEach( tags::addAll );
+			assertThat( tags ).hasSize( ELEMENT_COUNT ).isSorted();
+
+			final List<Object> notes = new ArrayList<>();
+			readPages( library.notes ).forEach( notes::addAll );
+			assertThat( notes ).containsExactlyElementsOf( library.notes );
+		} );
+	}
+
+	@Test
+	public void testInitializedCollectionPages(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1 );
+			Hibernate.initialize( library.notes );
+			statementInspector.clear();
+
+			final List<Object> notes = new ArrayList<>();
+			readPages( library.notes ).forEach( notes::addAll );
+			assertThat( notes ).containsExactlyElementsOf( library.notes );
+			assertThat( statementInspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testSizeAndContainsAreCached(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1 );
+			statementInspector.clear();
+
+			assertThat( Hibernate.size( library.tags ) ).isEqualTo( ELEMENT_COUNT );
+			assertThat( Hibernate.size( library.tags ) ).isEqualTo( ELEMENT_COUNT );
+			assertThat( Hibernate.contains( library.tags, "taga" ) ).isTrue();
+			assertThat( Hibernate.contains( library.tags, "taga" ) ).isTrue();
+			assertThat( Hibernate.contains( library.tags, "missing" ) ).isFalse();
+			assertThat( Hibernate.contains( library.tags, "missing" ) ).isFalse();
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+
+			// modifying the collection discards the cached results
+			library.tags.add( "missing" );
+			session.flush();
+			statementInspector.clear();
+			assertThat( Hibernate.size( library.tags ) ).isEqualTo( ELEMENT_COUNT + 1 );
+			assertThat( Hibernate.contains( library.tags, "missing" ) ).isTrue();
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	private static List<List<?>> readPages(Object collection) {
+		final List<List<?>> pages = new ArrayList<>();
+		final Iterator<List<?>> iterator = ( (PersistentCollection<?>) collection ).pages( PAGE_SIZE );
+		while ( iterator.hasNext() ) {
+			pages.add( iterator.next() );
+		}
+		return pages;
+	}
+
+	@Entity(name = "Library")
+	public static class Library {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "library")
+		private Set<Book> books = new HashSet<>();
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		@OrderColumn
+		private List<String> notes = new ArrayList<>();
+
+		public Library() {
+		}
+
+		public Library(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Library library;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Library library) {
+			this.id = id;
+			this.library = library;
+		}
+	}
+}
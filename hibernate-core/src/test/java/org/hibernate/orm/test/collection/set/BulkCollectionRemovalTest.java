@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.set;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#BULK_COLLECTION_REMOVAL}.
+ */
+@DomainModel(annotatedClasses = { BulkCollectionRemovalTest.Owner.class, BulkCollectionRemovalTest.Region.class })
+@ServiceRegistry(settings = @Setting(name = BatchSettings.BULK_COLLECTION_REMOVAL, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class BulkCollectionRemovalTest {
+	private static final int OWNER_COUNT = 5;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < OWNER_COUNT; i++ ) {
+				final Owner owner = new Owner( i );
+				owner.tags.add( "a" + i );
+				owner.tags.add( "b" + i );
+				session.persist( owner );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCollectionsRemovedInBulk(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createSelectionQuery( "from Owner", Owner.class ).getResultList();
+			statementInspector.clear();
+			owners.forEach( session::remove );
+		} );
+		final long collectionTableDeletes = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "delete from owner_tags" ) )
+				.count();
+		assertThat( collectionTableDeletes ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Owner", Owner.class ).getResultList() ).isEmpty();
+			assertThat( session.createNativeQuery( "select count(*) from Owner_tags", Long.class ).getSingleResult() )
+					.isEqualTo( 0L );
+		} );
+	}
+
+	@Test
+	public void testConvertedKeys(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Code code : Code.values() ) {
+				final Region region = new Region( code );
+				region.tags.add( "x" + code );
+				session.persist( region );
+			}
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Region> regions = session.createSelectionQuery( "from Region", Region.class ).getResultList();
+			statementInspector.clear();
+			regions.forEach( session::remove );
+		} );
+		final long collectionTableDeletes = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "delete from region_tags" ) )
+				.count();
+		assertThat( collectionTableDeletes ).isEqualTo( 1 );
+
+		scope.inTransaction( session ->
+				assertThat( session.createNativeQuery( "select count(*) from Region_tags", Long.class ).getSingleResult() )
+						.isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void testCollectionsReplaced(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createSelectionQuery( "from Owner", Owner.class ).getResultList();
+			for ( Owner owner : owners ) {
+				owner.tags = new HashSet<>( Set.of( "c" + owner.id ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < OWNER_COUNT; i++ ) {
+				assertThat( session.find( Owner.class, i ).tags ).containsExactly( "c" + i );
+			}
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	public enum Code {
+		NORTH,
+		SOUTH,
+		EAST
+	}
+
+	@Entity(name = "Region")
+	public static class Region {
+		@Id
+		@Enumerated(EnumType.STRING)
+		private Code id;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Region() {
+		}
+
+		public Region(Code id) {
+			this.id = id;
+		}
+	}
+}
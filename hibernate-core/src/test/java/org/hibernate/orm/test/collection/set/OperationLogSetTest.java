@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.set;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.hibernate.annotations.CollectionType;
+import org.hibernate.collection.spi.PersistentOperationLogSet;
+import org.hibernate.usertype.OperationLogSetType;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentOperationLogSet}.
+ */
+@DomainModel(annotatedClasses = OperationLogSetTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class OperationLogSetTest {
+	private static final int TAG_COUNT = 100;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document( 1 );
+			for ( int i = 0; i < TAG_COUNT; i++ ) {
+				document.tags.add( "t" + i );
+			}
+			session.persist( document );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyChangesAreWritten(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.tags ).isInstanceOf( PersistentOperationLogSet.class ).hasSize( TAG_COUNT );
+			statementInspector.clear();
+
+			document.tags.add( "new" );
+			document.tags.remove( "t1" );
+			// adding and removing an element is not a change
+			document.tags.add( "transient" );
+			document.tags.remove( "transient" );
+			// removing and adding an element is not a change either
+			document.tags.remove( "t2" );
+			document.tags.add( "t2" );
+		} );
+		// a single row is deleted and inserted, without reading or rewriting the other rows
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+		assertThat( statementInspector.getSqlQueries().get( 1 ) ).startsWithIgnoringCase( "insert" );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.tags ).hasSize( TAG_COUNT ).contains( "new", "t2" ).doesNotContain( "t1" );
+		} );
+	}
+
+	@Test
+	public void testNoChanges(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.tags ).hasSize( TAG_COUNT );
+			statementInspector.clear();
+		} );
+		assertThat( statementInspector.getSqlQueries() ).isEmpty();
+	}
+
+	@Test
+	public void testIteratorRemoveAndRetainAll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			final Iterator<String> iterator = document.tags.iterator();
+			while ( iterator.hasNext() ) {
+				if ( iterator.next().endsWith( "0" ) ) {
+					iterator.remove();
+				}
+			}
+			document.tags.retainAll( Set.of( "t1", "t2", "t3", "t10" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.tags ).containsExactlyInAnyOrder( "t1", "t2", "t3" );
+		} );
+	}
+
+	@Test
+	public void testClear(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			document.tags.clear();
+			document.tags.add( "t5" );
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.tags ).containsExactly( "t5" );
+		} );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionType(type = OperationLogSetType.class)
+		private Set<String> tags = new HashSet<>();
+
+		public Document() {
+		}
+
+		public Document(Integer id) {
+			this.id = id;
+		}
+	}
+}
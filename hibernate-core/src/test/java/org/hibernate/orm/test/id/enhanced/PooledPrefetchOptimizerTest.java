@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledPrefetchOptimizer;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PooledPrefetchOptimizer}.
+ */
+@BaseUnitTest
+public class PooledPrefetchOptimizerTest {
+
+	@Test
+	public void testNextBlockIsPrefetched() {
+		final PrefetchingSourceMock sequence = new PrefetchingSourceMock( 1, 4 );
+		final Optimizer optimizer = buildOptimizer( 4 );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertThat( optimizer.generate( sequence ) ).isEqualTo( (long) i );
+		}
+		assertThat( sequence.getTimesCalled() ).isEqualTo( 2 );
+		// the second block was obtained in the background
+		assertThat( sequence.getIsolatedCalls() ).isEqualTo( 1 );
+		assertThat( optimizer.getLastSourceValue().makeValue() ).isEqualTo( 5L );
+	}
+
+	@Test
+	public void testWithoutIsolatedCallback() {
+		final SourceMock sequence = new SourceMock( 1, 4 );
+		final Optimizer optimizer = buildOptimizer( 4 );
+
+		for ( int i = 1; i <= 9; i++ ) {
+			assertThat( optimizer.generate( sequence ) ).isEqualTo( (long) i );
+		}
+		assertThat( sequence.getTimesCalled() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testValuesAreUniqueAcrossStripes() {
+		final int increment = 1000;
+		final PrefetchingSourceMock sequence = new PrefetchingSourceMock( 1, increment );
+		final Optimizer optimizer = buildOptimizer( increment );
+
+		final Set<Object> generated = new HashSet<>();
+		for ( int i = 0; i < 3 * increment; i++ ) {
+			assertThat( generated.add( optimizer.generate( sequence ) ) ).isTrue();
+		}
+		// all the values of the first three blocks were handed out
+		assertThat( generated ).allSatisfy( value -> assertThat( (Long) value ).isBetween( 1L, 3L * increment ) );
+	}
+
+	private static Optimizer buildOptimizer(int increment) {
+		return OptimizerFactory.buildOptimizer( StandardOptimizerDescriptor.POOLED_PREFETCH, Long.class, increment, 1 );
+	}
+
+	private static class PrefetchingSourceMock extends SourceMock {
+		private final AtomicInteger isolatedCalls = new AtomicInteger();
+
+		PrefetchingSourceMock(long initialValue, int increment) {
+			super( initialValue, increment );
+		}
+
+		@Override
+		public CompletableFuture<IntegralDataTypeHolder> getNextValueInBackground() {
+			isolatedCalls.incrementAndGet();
+			return CompletableFuture.completedFuture( getNextValue() );
+		}
+
+		int getIsolatedCalls() {
+			return isolatedCalls.get();
+		}
+	}
+}
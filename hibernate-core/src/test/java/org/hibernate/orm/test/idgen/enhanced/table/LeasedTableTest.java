@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.table;
+
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( xmlMappings = "org/hibernate/orm/test/idgen/enhanced/table/Leased.hbm.xml" )
+@SessionFactory
+public class LeasedTableTest {
+
+	private static final int ENTITY_COUNT = 1000;
+
+	@Test
+	public void testLeasedRanges(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Entity.class.getName() );
+		assertThat( persister.getIdentifierGenerator() ).isInstanceOf( TableGenerator.class );
+
+		final TableGenerator generator = (TableGenerator) persister.getIdentifierGenerator();
+		assertThat( generator.isLeasingSegment() ).isTrue();
+		final int increment = generator.getIncrementSize();
+
+		scope.inTransaction(
+				(s) -> {
+					// the first lease holds increment size values
+					for ( int i = 1; i <= increment; i++ ) {
+						final Entity entity = new Entity( "" + i );
+						s.persist( entity );
+						assertThat( entity.getId() ).isEqualTo( i );
+					}
+					assertThat( generator.getTableAccessCount() ).isEqualTo( 1 );
+
+					// the following leases grow, since they are exhausted quickly
+					for ( int i = increment + 1; i <= ENTITY_COUNT; i++ ) {
+						final Entity entity = new Entity( "" + i );
+						s.persist( entity );
+						assertThat( entity.getId() ).isEqualTo( i );
+					}
+					assertThat( generator.getTableAccessCount() ).isLessThan( ENTITY_COUNT / increment );
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (s) -> s.createMutationQuery( "delete Entity" ).executeUpdate() );
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.internal.util;
+
+import java.io.IOException;
+
+import org.hibernate.InstantiationException;
+import org.hibernate.internal.util.ConstructorInvoker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConstructorInvokerTest {
+
+	@Test
+	public void testInvoke() throws Exception {
+		final ConstructorInvoker<Dto> invoker =
+				ConstructorInvoker.of( Dto.class.getDeclaredConstructor( String.class, long.class ) );
+
+		final Dto dto = invoker.invoke( "name", 5L );
+		assertThat( dto.name ).isEqualTo( "name" );
+		assertThat( dto.value ).isEqualTo( 5L );
+
+		// widening of the unboxed argument, as with Constructor.newInstance()
+		assertThat( invoker.invoke( "widened", 7 ).value ).isEqualTo( 7L );
+	}
+
+	@Test
+	public void testRecord() throws Exception {
+		final ConstructorInvoker<Point> invoker =
+				ConstructorInvoker.of( Point.class.getDeclaredConstructor( int.class, int.class ) );
+		assertThat( invoker.invoke( new Object[] { 1, 2 } ) ).isEqualTo( new Point( 1, 2 ) );
+	}
+
+	@Test
+	public void testExceptionIsNotWrapped() throws Exception {
+		final ConstructorInvoker<Dto> invoker =
+				ConstructorInvoker.of( Dto.class.getDeclaredConstructor( String.class, long.class ) );
+		assertThatThrownBy( () -> invoker.invoke( null, 1L ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessage( "name is required" );
+	}
+
+	@Test
+	public void testCheckedExceptionIsWrapped() throws Exception {
+		final ConstructorInvoker<Resource> invoker =
+				ConstructorInvoker.of( Resource.class.getDeclaredConstructor() );
+		assertThatThrownBy( () -> invoker.invoke() )
+				.isInstanceOf( InstantiationException.class )
+				.hasCauseInstanceOf( IOException.class );
+	}
+
+	private static class Dto {
+		private final String name;
+		private final long value;
+
+		private Dto(String name, long value) {
+			if ( name == null ) {
+				throw new IllegalArgumentException( "name is required" );
+			}
+			this.name = name;
+			this.value = value;
+		}
+	}
+
+	private static class Resource {
+		private Resource() throws IOException {
+			throw new IOException( "unavailable" );
+		}
+	}
+
+	private record Point(int x, int y) {
+	}
+}
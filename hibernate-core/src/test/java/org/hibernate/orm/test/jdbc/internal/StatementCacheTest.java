@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSettings#STATEMENT_CACHE_SIZE}.
+ */
+@DomainModel(annotatedClasses = StatementCacheTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"))
+@SessionFactory(generateStatistics = true)
+public class StatementCacheTest {
+	private static final int ITEM_COUNT = 10;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testStatementsReusedWithinTransaction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+			}
+		} );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				final Item item = session.find( Item.class, i );
+				assertThat( item.name ).isEqualTo( "item" + i );
+				session.detach( item );
+			}
+		} );
+		// the loader statement is prepared once, and then reused
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getReuseStatementCount() ).isEqualTo( ITEM_COUNT - 1 );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.find( Item.class, i ).name = "changed" + i;
+				session.flush();
+				session.clear();
+			}
+		} );
+		// one select and one update statement, reused for every item
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getReuseStatementCount() ).isEqualTo( 2 * ( ITEM_COUNT - 1 ) );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				assertThat( session.find( Item.class, i ).name ).isEqualTo( "changed" + i );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -33,6 +33,7 @@
 import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.SharedCacheMode;
 import jakarta.persistence.Table;
 
@@ -425,6 +426,105 @@ public void testUnorderedMultiLoadFrom2ndLevelCache(SessionFactoryScope scope) {
 		);
 	}
 
+	@Test
+	public void testMultiLoadAllFrom2ndLevelCache(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.getSessionFactory().getCache().evictAll();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					// Load the items, putting them in the Level 2 cache
+					List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 5 ) );
+					assertEquals( 5, entities.size() );
+				}
+		);
+
+		for ( boolean ordered : new boolean[] { true, false } ) {
+			statistics.clear();
+			statementInspector.clear();
+
+			scope.inTransaction(
+					session -> {
+						// Multi-load the items and ensure that all are resolved from the cache
+						List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+								.with( CacheMode.NORMAL )
+								.enableOrderedReturn( ordered )
+								.multiLoad( ids( 5 ) );
+						assertEquals( 5, entities.size() );
+						assertEquals( 5, statistics.getSecondLevelCacheHitCount() );
+						assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+						assertEquals( 0, statementInspector.getSqlQueries().size() );
+
+						for ( SimpleEntity entity : entities ) {
+							assertTrue( session.contains( entity ) );
+							assertEquals( "Entity #" + entity.getId(), entity.getText() );
+						}
+						if ( ordered ) {
+							for ( int i = 0; i < 5; i++ ) {
+								assertEquals( Integer.valueOf( i + 1 ), entities.get( i ).getId() );
+							}
+						}
+						else {
+							assertThat( entities.stream().map( SimpleEntity::getId ).sorted().toList(),
+									is( List.of( ids( 5 ) ) ) );
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testMultiLoadDuplicatedIdsFrom2ndLevelCache(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.getSessionFactory().getCache().evictAll();
+
+		scope.inTransaction(
+				session -> {
+					// Load the items, putting them in the Level 2 cache
+					List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 3 ) );
+					assertEquals( 3, entities.size() );
+				}
+		);
+
+		for ( boolean ordered : new boolean[] { true, false } ) {
+			statementInspector.clear();
+			SimpleEntity.postLoadCount = 0;
+
+			scope.inTransaction(
+					session -> {
+						// Multi-load the items with duplicated ids, and ensure
+						// that each is resolved from the cache and post-loaded once
+						List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+								.with( CacheMode.NORMAL )
+								.enableOrderedReturn( ordered )
+								.multiLoad( 1, 2, 3, 2, 2 );
+						assertEquals( 0, statementInspector.getSqlQueries().size() );
+						assertEquals( 3, SimpleEntity.postLoadCount );
+						if ( ordered ) {
+							assertEquals( 5, entities.size() );
+							assertEquals( Integer.valueOf( 1 ), entities.get( 0 ).getId() );
+							assertEquals( Integer.valueOf( 2 ), entities.get( 1 ).getId() );
+							assertEquals( Integer.valueOf( 3 ), entities.get( 2 ).getId() );
+							assertSame( entities.get( 1 ), entities.get( 3 ) );
+							assertSame( entities.get( 1 ), entities.get( 4 ) );
+						}
+						else {
+							assertEquals( 3, entities.size() );
+							assertThat( entities.stream().map( SimpleEntity::getId ).sorted().toList(),
+									is( List.of( 1, 2, 3 ) ) );
+						}
+						for ( SimpleEntity entity : entities ) {
+							assertEquals( "Entity #" + entity.getId(), entity.getText() );
+						}
+					}
+			);
+		}
+	}
+
 	@Test
 	@JiraKey(value = "HHH-12944")
 	public void testOrderedMultiLoadFrom2ndLevelCachePendingDelete(SessionFactoryScope scope) {
@@ -644,6 +744,8 @@ private Integer[] ids(int count) {
 	@Cacheable()
 	@BatchSize( size = 15 )
 	public static class SimpleEntity {
+		static int postLoadCount;
+
 		Integer id;
 		String text;
 
@@ -671,5 +773,10 @@ public String getText() {
 		public void setText(String text) {
 			this.text = text;
 		}
+
+		@PostLoad
+		void postLoad() {
+			postLoadCount++;
+		}
 	}
 }
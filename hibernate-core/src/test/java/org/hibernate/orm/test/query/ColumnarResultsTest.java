@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.ResultColumns;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#forEachChunk}.
+ */
+@DomainModel(annotatedClasses = ColumnarResultsTest.Sale.class)
+@SessionFactory
+public class ColumnarResultsTest {
+	private static final int SALE_COUNT = 25;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < SALE_COUNT; i++ ) {
+				session.persist( new Sale( i, "region" + ( i % 3 ), i * 1.5, i % 5 == 0 ? null : i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testChunks(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> chunkSizes = new ArrayList<>();
+			final List<Long> ids = new ArrayList<>();
+			final List<Double> amounts = new ArrayList<>();
+			final List<String> regions = new ArrayList<>();
+			final List<Long> quantities = new ArrayList<>();
+			session.createSelectionQuery( "select id, amount, region, quantity from Sale order by id", Object[].class )
+					.forEachChunk( 10, columns -> {
+						assertThat( columns.getColumnCount() ).isEqualTo( 4 );
+						assertThat( columns.isLongColumn( 0 ) ).isTrue();
+						assertThat( columns.isDoubleColumn( 1 ) ).isTrue();
+						assertThat( columns.isLongColumn( 2 ) ).isFalse();
+						assertThat( columns.isDoubleColumn( 2 ) ).isFalse();
+						assertThat( columns.getJavaType( 2 ) ).isEqualTo( String.class );
+						chunkSizes.add( columns.getRowCount() );
+						final long[] idColumn = columns.getLongs( 0 );
+						final double[] amountColumn = columns.getDoubles( 1 );
+						final String[] regionColumn = columns.getValues( 2, String.class );
+						final long[] quantityColumn = columns.getLongs( 3 );
+						for ( int row = 0; row < columns.getRowCount(); row++ ) {
+							ids.add( idColumn[row] );
+							amounts.add( amountColumn[row] );
+							regions.add( regionColumn[row] );
+							quantities.add( columns.isNull( 3, row ) ? null : quantityColumn[row] );
+						}
+					} );
+			assertThat( chunkSizes ).containsExactly( 10, 10, 5 );
+			final List<Object[]> rows =
+					session.createSelectionQuery( "select id, amount, region, quantity from Sale order by id", Object[].class )
+							.getResultList();
+			assertThat( ids ).hasSize( SALE_COUNT );
+			for ( int i = 0; i < SALE_COUNT; i++ ) {
+				final Object[] row = rows.get( i );
+				assertThat( ids.get( i ) ).isEqualTo( ( (Integer) row[0] ).longValue() );
+				assertThat( amounts.get( i ) ).isEqualTo( row[1] );
+				assertThat( regions.get( i ) ).isEqualTo( row[2] );
+				assertThat( quantities.get( i ) ).isEqualTo( row[3] == null ? null : ( (Integer) row[3] ).longValue() );
+			}
+		} );
+	}
+
+	@Test
+	public void testAggregation(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final double[] total = new double[1];
+			final long[] count = new long[1];
+			session.createSelectionQuery( "select region, count(*), sum(amount) from Sale group by region", Object[].class )
+					.forEachChunk( 2, columns -> {
+						final long[] counts = columns.getLongs( 1 );
+						final double[] sums = columns.getDoubles( 2 );
+						for ( int row = 0; row < columns.getRowCount(); row++ ) {
+							count[0] += counts[row];
+							total[0] += sums[row];
+						}
+					} );
+			assertThat( count[0] ).isEqualTo( SALE_COUNT );
+			assertThat( total[0] ).isEqualTo( 1.5 * SALE_COUNT * ( SALE_COUNT - 1 ) / 2 );
+		} );
+	}
+
+	@Test
+	public void testEntitySelectionRejected(SessionFactoryScope scope) {
+		scope.inSession( session ->
+				assertThatThrownBy( () -> session.createSelectionQuery( "from Sale", Sale.class )
+						.forEachChunk( 10, columns -> {} ) )
+						.isInstanceOf( IllegalStateException.class )
+		);
+	}
+
+	@Entity(name = "Sale")
+	public static class Sale {
+		@Id
+		private Integer id;
+
+		private String region;
+
+		private double amount;
+
+		private Integer quantity;
+
+		public Sale() {
+		}
+
+		public Sale(Integer id, String region, double amount, Integer quantity) {
+			this.id = id;
+			this.region = region;
+			this.amount = amount;
+			this.quantity = quantity;
+		}
+	}
+}
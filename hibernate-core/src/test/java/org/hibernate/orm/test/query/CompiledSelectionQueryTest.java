@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Map;
+
+import org.hibernate.NonUniqueResultException;
+import org.hibernate.query.CompiledSelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CompiledSelectionQuery}.
+ */
+@DomainModel(annotatedClasses = CompiledSelectionQueryTest.Book.class)
+@SessionFactory
+public class CompiledSelectionQueryTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", 2004 ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", 2006 ) );
+			session.persist( new Book( 3L, "Java Persistence with Hibernate", 2015 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNamedParameters(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<Book> query = scope.getSessionFactory()
+				.compileSelectionQuery( "from Book where id = :id", Book.class );
+		assertThat( query.getParameters() ).hasSize( 1 );
+		scope.inSession( session -> {
+			assertThat( query.getSingleResultOrNull( session, Map.of( "id", 1L ) ).title )
+					.isEqualTo( "Hibernate in Action" );
+			assertThat( query.getSingleResultOrNull( session, Map.of( "id", 3L ) ).published ).isEqualTo( 2015 );
+			assertThat( query.getSingleResultOrNull( session, Map.of( "id", 4L ) ) ).isNull();
+			// the argument is coerced to the type of the parameter
+			assertThat( query.getSingleResultOrNull( session, Map.of( "id", 2 ) ).published ).isEqualTo( 2006 );
+			// the entity is managed by the session
+			assertThat( query.getSingleResultOrNull( session, Map.of( "id", 1L ) ) )
+					.isSameAs( session.find( Book.class, 1L ) );
+		} );
+		scope.inSession( session ->
+				assertThatThrownBy( () -> query.getResultList( session, Map.of() ) )
+						.isInstanceOf( IllegalArgumentException.class )
+		);
+	}
+
+	@Test
+	public void testOrdinalParameters(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<String> query = scope.getSessionFactory()
+				.compileSelectionQuery( "select title from Book where published > ?1 and published < ?2 order by published",
+						String.class );
+		scope.inSession( session -> {
+			assertThat( query.getResultList( session, 2000, 2010 ) )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+			assertThat( query.getResultList( session, 2010, 2020 ) )
+					.containsExactly( "Java Persistence with Hibernate" );
+			assertThatThrownBy( () -> query.getResultList( session, 2010 ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Test
+	public void testSingleResult(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<Book> query = scope.getSessionFactory()
+				.compileSelectionQuery( "from Book where title = :title", Book.class );
+		scope.inSession( session ->
+				assertThatThrownBy( () -> query.getSingleResultOrNull( session,
+						Map.of( "title", "Java Persistence with Hibernate" ) ) )
+						.isInstanceOf( NonUniqueResultException.class )
+		);
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		final CriteriaBuilder builder = scope.getSessionFactory().getCriteriaBuilder();
+		final CriteriaQuery<Long> criteria = builder.createQuery( Long.class );
+		final Root<Book> book = criteria.from( Book.class );
+		final ParameterExpression<String> title = builder.parameter( String.class, "title" );
+		criteria.select( book.get( "id" ) )
+				.where( builder.equal( book.get( "title" ), title ), builder.gt( book.get( "published" ), 2005 ) )
+				.orderBy( builder.asc( book.get( "id" ) ) );
+		final CompiledSelectionQuery<Long> query = scope.getSessionFactory().compileSelectionQuery( criteria );
+		scope.inSession( session -> {
+			assertThat( query.getResultList( session, Map.of( "title", "Java Persistence with Hibernate" ) ) )
+					.containsExactly( 2L, 3L );
+			assertThat( query.getResultList( session, Map.of( "title", "Hibernate in Action" ) ) ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testAutoFlush(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<Long> query = scope.getSessionFactory()
+				.compileSelectionQuery( "select count(*) from Book where published >= :published", Long.class );
+		scope.inTransaction( session -> {
+			assertThat( query.getSingleResultOrNull( session, Map.of( "published", 2020 ) ) ).isEqualTo( 0L );
+			session.persist( new Book( 4L, "Hibernate 7", 2025 ) );
+			assertThat( query.getSingleResultOrNull( session, Map.of( "published", 2020 ) ) ).isEqualTo( 1L );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private int published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#IN_CLAUSE_ARRAY_PARAMETER}.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "title" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select id from Book where id in :ids order by id", Integer.class )
+					.setParameterList( "ids", List.of( 1, 3 ) )
+					.getResultList() ).containsExactly( 1, 3 );
+			assertThat( session.createSelectionQuery( "select id from Book where id in :ids order by id", Integer.class )
+					.setParameterList( "ids", List.of( 2, 4, 6, 8, 11 ) )
+					.getResultList() ).containsExactly( 2, 4, 6, 8 );
+			assertThat( session.createSelectionQuery( "select title from Book where title in :titles", String.class )
+					.setParameterList( "titles", List.of( "title5", "title7", "other" ) )
+					.getResultList() ).containsExactlyInAnyOrder( "title5", "title7" );
+		} );
+		assertSameSql( scope, statementInspector );
+	}
+
+	@Test
+	public void testInListSharesPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			assertThat( idsIn( session, List.of( 1, 3 ) ) ).containsExactly( 1, 3 );
+			assertThat( idsIn( session, List.of( 2, 4, 6 ) ) ).containsExactly( 2, 4, 6 );
+			// a single value is not bound as an array, so the plan translates the query again
+			assertThat( session.createSelectionQuery( "select id from Book where id in :ids order by id", Integer.class )
+					.setParameter( "ids", 5 )
+					.getResultList() ).containsExactly( 5 );
+			assertThat( idsIn( session, List.of( 7, 8, 9, 10 ) ) ).containsExactly( 7, 8, 9, 10 );
+		} );
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			// the HQL interpretation and the select plan are both cached
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 6 );
+		}
+		else {
+			// only the HQL interpretation is cached
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 3 );
+		}
+	}
+
+	@Test
+	public void testNotInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select id from Book where id not in :ids order by id", Integer.class )
+					.setParameterList( "ids", List.of( 1, 2, 3, 4, 5, 6, 7 ) )
+					.getResultList() ).containsExactly( 8, 9, 10 );
+			assertThat( session.createSelectionQuery( "select id from Book where id not in :ids order by id", Integer.class )
+					.setParameterList( "ids", List.of( 1, 2, 3, 4, 5, 6, 7, 8, 9 ) )
+					.getResultList() ).containsExactly( 10 );
+		} );
+		assertSameSql( scope, statementInspector );
+	}
+
+	@Test
+	public void testCriteriaParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final Root<Book> root = query.from( Book.class );
+			final ParameterExpression<List> ids = cb.parameter( List.class );
+			query.select( root.get( "id" ) ).where( root.get( "id" ).in( ids ) ).orderBy( cb.asc( root.get( "id" ) ) );
+			assertThat( session.createQuery( query ).setParameter( ids, List.of( 9, 10 ) ).getResultList() )
+					.containsExactly( 9, 10 );
+			assertThat( session.createQuery( query ).setParameter( ids, List.of( 1, 5, 9 ) ).getResultList() )
+					.containsExactly( 1, 5, 9 );
+		} );
+		assertSameSql( scope, statementInspector );
+	}
+
+	private static List<Integer> idsIn(Session session, List<Integer> ids) {
+		return session.createSelectionQuery( "select id from Book where id in :ids order by id", Integer.class )
+				.setParameterList( "ids", ids )
+				.getResultList();
+	}
+
+	private static void assertSameSql(SessionFactoryScope scope, SQLStatementInspector statementInspector) {
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			final List<String> sqlQueries = statementInspector.getSqlQueries();
+			assertThat( sqlQueries.get( 1 ) ).isEqualTo( sqlQueries.get( 0 ) );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
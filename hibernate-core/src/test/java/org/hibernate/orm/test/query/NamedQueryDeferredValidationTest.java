@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+
+import org.hibernate.testing.logger.LogInspectionHelper;
+import org.hibernate.testing.logger.TriggerOnPrefixLogListener;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_STARTUP_CHECKING_DEFERRED}.
+ */
+@BaseUnitTest
+public class NamedQueryDeferredValidationTest {
+
+	@Test
+	public void testStrictValidation() {
+		assertThatThrownBy( () -> withSessionFactory( false, factory -> {} ) )
+				.isInstanceOf( NamedQueryValidationException.class )
+				.hasMessageContaining( "Book.broken" );
+	}
+
+	@Test
+	public void testDeferredValidation() {
+		withSessionFactory( true, factory -> {
+			assertThat( factory.getQueryEngine().getNamedObjectRepository().checkNamedQueries( factory.getQueryEngine() ) )
+					.containsOnlyKeys( "Book.broken" );
+			factory.inSession( session -> {
+				assertThat( session.createNamedQuery( "Book.byTitle", Book.class ).getParameters() ).hasSize( 1 );
+				assertThatThrownBy( () -> session.createNamedQuery( "Book.broken", Book.class ) )
+						.isInstanceOf( IllegalArgumentException.class );
+			} );
+		} );
+	}
+
+	@Test
+	public void testBackgroundValidationLogsErrors() {
+		final TriggerOnPrefixLogListener trigger =
+				new TriggerOnPrefixLogListener( "HHH90003001: Error in named query: Book.broken" );
+		LogInspectionHelper.registerListener( trigger, QUERY_MESSAGE_LOGGER );
+		try {
+			withSessionFactory( true, factory -> {
+				final long deadline = System.currentTimeMillis() + 10_000;
+				while ( !trigger.wasTriggered() && System.currentTimeMillis() < deadline ) {
+					Thread.onSpinWait();
+				}
+				assertThat( trigger.triggerMessages() ).hasSize( 1 );
+			} );
+		}
+		finally {
+			LogInspectionHelper.clearAllListeners( QUERY_MESSAGE_LOGGER );
+		}
+	}
+
+	private static void withSessionFactory(boolean deferred, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_STARTUP_CHECKING_DEFERRED, deferred )
+				.build();
+		try {
+			try ( SessionFactoryImplementor factory = (SessionFactoryImplementor)
+					new MetadataSources( registry ).addAnnotatedClass( Book.class )
+							.buildMetadata().buildSessionFactory() ) {
+				action.accept( factory );
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.broken", query = "from Book where subtitle = :subtitle")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryWarmUpCoverage;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_INTERPRETATION_WORKLOAD}.
+ */
+@BaseUnitTest
+public class QueryInterpretationWarmUpTest {
+
+	@Test
+	public void testRecordAndWarmUp(@TempDir Path directory) throws Exception {
+		final Path workload = directory.resolve( "workload.txt" );
+
+		withSessionFactory( workload, factory -> factory.inSession( session -> {
+			session.createSelectionQuery( "from Book where title = :title", Book.class );
+			session.createSelectionQuery( "select count(*)\n\tfrom Book", Long.class );
+			session.createNativeQuery( "select id from Book where title = :title", Long.class );
+		} ) );
+		assertThat( Files.readAllLines( workload ) ).hasSize( 3 );
+
+		withSessionFactory( workload, factory -> {
+			final QueryInterpretationCache interpretationCache =
+					factory.getQueryEngine().getInterpretationCache();
+			awaitWarmUp( interpretationCache, 3 );
+			factory.inSession( session -> {
+				session.createSelectionQuery( "from Book where title = :title", Book.class );
+				session.createSelectionQuery( "select count(*)\n\tfrom Book", Long.class );
+				session.createSelectionQuery( "from Book order by id", Book.class );
+			} );
+			final QueryWarmUpCoverage coverage = interpretationCache.getWarmUpCoverage();
+			assertThat( coverage.warmedUpQueries() ).isEqualTo( 3 );
+			assertThat( coverage.warmedUpQueriesUsed() ).isEqualTo( 2 );
+			assertThat( coverage.queriesInterpretedOnDemand() ).isEqualTo( 1 );
+			final Statistics statistics = factory.getStatistics();
+			assertThat( statistics.getQueryWarmUpCount() ).isEqualTo( 3 );
+			assertThat( statistics.getWarmedUpQueryUseCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryInterpretedOnDemandCount() ).isEqualTo( 1 );
+		} );
+		// only the queries used while the session factory was open are recorded
+		assertThat( Files.readAllLines( workload ) ).hasSize( 3 )
+				.noneMatch( line -> line.startsWith( "native" ) )
+				.anyMatch( line -> line.endsWith( "from Book order by id" ) );
+	}
+
+	@Test
+	public void testInvalidQueryIgnored(@TempDir Path directory) throws Exception {
+		final Path workload = directory.resolve( "workload.txt" );
+		Files.writeString( workload, "hql\t\tfrom Magazine\nhql\t" + Book.class.getName() + "\tfrom Book\n" );
+
+		withSessionFactory( workload, factory -> {
+			final QueryInterpretationCache interpretationCache =
+					factory.getQueryEngine().getInterpretationCache();
+			awaitWarmUp( interpretationCache, 1 );
+			factory.inSession( session -> session.createSelectionQuery( "from Book", Book.class ) );
+			assertThat( interpretationCache.getWarmUpCoverage().coverage() ).isEqualTo( 1.0 );
+		} );
+	}
+
+	private static void withSessionFactory(Path workload, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_INTERPRETATION_WORKLOAD, workload.toString() )
+				.applySetting( StatisticsSettings.GENERATE_STATISTICS, true )
+				.build();
+		try {
+			try ( SessionFactoryImplementor factory = (SessionFactoryImplementor)
+					new MetadataSources( registry ).addAnnotatedClass( Book.class )
+							.buildMetadata().buildSessionFactory() ) {
+				action.accept( factory );
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	private static void awaitWarmUp(QueryInterpretationCache interpretationCache, int queries) {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( interpretationCache.getWarmUpCoverage().warmedUpQueries() < queries
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.onSpinWait();
+		}
+		assertThat( interpretationCache.getWarmUpCoverage().warmedUpQueries() ).isEqualTo( queries );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlanFootprint;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that equal SQL rendered for different cached query plans is
+ * shared, as reported by {@link QueryInterpretationCache#getQueryPlanFootprints()}.
+ */
+@DomainModel(annotatedClasses = QueryPlanFootprintTest.Item.class)
+@SessionFactory
+public class QueryPlanFootprintTest {
+	private static final String FIRST_QUERY = "from Item where id = :id";
+	private static final String SECOND_QUERY = "select i from Item i where i.id = :id";
+
+	@Test
+	public void testSqlShared(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.createSelectionQuery( FIRST_QUERY, Item.class ).setParameter( "id", 1 ).getResultList();
+			session.createSelectionQuery( SECOND_QUERY, Item.class ).setParameter( "id", 1 ).getResultList();
+		} );
+
+		assertThat( scope.getSessionFactory().getSqlTranslationEngine().getNumberOfInternedSqlStrings() )
+				.isPositive();
+
+		final List<QueryPlanFootprint> footprints = scope.getSessionFactory().getQueryEngine()
+				.getInterpretationCache().getQueryPlanFootprints();
+		final QueryPlanFootprint first = footprint( footprints, FIRST_QUERY );
+		final QueryPlanFootprint second = footprint( footprints, SECOND_QUERY );
+		assertThat( first.sqlCount() ).isEqualTo( 1 );
+		assertThat( first.sqlLength() ).isPositive();
+		assertThat( first.sharedSqlLength() ).isEqualTo( first.sqlLength() );
+		assertThat( second.sqlLength() ).isEqualTo( first.sqlLength() );
+		assertThat( second.sharedSqlLength() ).isEqualTo( second.sqlLength() );
+	}
+
+	private static QueryPlanFootprint footprint(List<QueryPlanFootprint> footprints, String queryString) {
+		return footprints.stream()
+				.filter( footprint -> footprint.queryString().equals( queryString ) )
+				.findFirst()
+				.orElseThrow();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
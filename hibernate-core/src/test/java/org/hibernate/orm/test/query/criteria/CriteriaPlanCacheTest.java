@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that structurally equal criteria queries share a query plan when
+ * {@value QuerySettings#CRITERIA_PLAN_CACHE_ENABLED} is enabled.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"),
+		@Setting(name = QuerySettings.CRITERIA_COPY_TREE, value = "false"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@DomainModel(annotatedClasses = CriteriaPlanCacheTest.Book.class)
+@SessionFactory
+public class CriteriaPlanCacheTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", 2004 ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", 2006 ) );
+			session.persist( new Book( 3L, "Java Persistence with Hibernate", 2015 ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testValuesSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			assertThat( session.createQuery( titlesPublishedAfter( session.getCriteriaBuilder(), 2000 ) )
+					.getResultList() ).containsExactly( "Hibernate in Action", "Java Persistence with Hibernate",
+							"Java Persistence with Hibernate" );
+			assertThat( session.createQuery( titlesPublishedAfter( session.getCriteriaBuilder(), 2005 ) )
+					.getResultList() ).containsExactly( "Java Persistence with Hibernate",
+							"Java Persistence with Hibernate" );
+			assertThat( session.createQuery( titlesPublishedAfter( session.getCriteriaBuilder(), 2010 ) )
+					.getResultList() ).containsExactly( "Java Persistence with Hibernate" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testParametersSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			assertThat( idsWithTitle( session, "Hibernate in Action" ) ).containsExactly( 1L );
+			assertThat( idsWithTitle( session, "Java Persistence with Hibernate" ) ).containsExactly( 2L, 3L );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testDifferentStructureDoesNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			final CriteriaBuilder builder = session.getCriteriaBuilder();
+			final CriteriaQuery<String> lessThan = builder.createQuery( String.class );
+			final Root<Book> book = lessThan.from( Book.class );
+			lessThan.select( book.get( "title" ) ).where( builder.lt( book.get( "published" ), 2005 ) );
+			assertThat( session.createQuery( lessThan ).getResultList() ).containsExactly( "Hibernate in Action" );
+			final CriteriaQuery<String> lessThanOrEqual = builder.createQuery( String.class );
+			final Root<Book> otherBook = lessThanOrEqual.from( Book.class );
+			lessThanOrEqual.select( otherBook.get( "title" ) ).where( builder.le( otherBook.get( "published" ), 2004 ) );
+			assertThat( session.createQuery( lessThanOrEqual ).getResultList() ).containsExactly( "Hibernate in Action" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static CriteriaQuery<String> titlesPublishedAfter(CriteriaBuilder builder, int year) {
+		final CriteriaQuery<String> criteria = builder.createQuery( String.class );
+		final Root<Book> book = criteria.from( Book.class );
+		return criteria.select( book.get( "title" ) )
+				.where( builder.gt( book.get( "published" ), year ) )
+				.orderBy( builder.asc( book.get( "id" ) ) );
+	}
+
+	private static List<Long> idsWithTitle(Session session, String title) {
+		final CriteriaBuilder builder = session.getCriteriaBuilder();
+		final CriteriaQuery<Long> criteria = builder.createQuery( Long.class );
+		final Root<Book> book = criteria.from( Book.class );
+		final ParameterExpression<String> parameter = builder.parameter( String.class );
+		criteria.select( book.get( "id" ) )
+				.where( builder.equal( book.get( "title" ), parameter ) )
+				.orderBy( builder.asc( book.get( "id" ) ) );
+		return session.createQuery( criteria ).setParameter( parameter, title ).getResultList();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private int published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cache.internal.QueryCacheInvalidationKeys;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = QueryCacheEntityInvalidationTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_ENTITY_INVALIDATION, value = "true" )
+} )
+public class QueryCacheEntityInvalidationTest {
+	private static final String QUERY = "select b from Book b where b.id = :id";
+	private static final String SCALAR_QUERY = "select b.title from Book b where b.id = :id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdateOnlyInvalidatesResultsContainingEntity(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		findBook( scope, 1L );
+		findBook( scope, 2L );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Java Persistence" );
+		statistics.clear();
+
+		assertThat( findBook( scope, 1L ).title ).isEqualTo( "Hibernate in Action" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( findBook( scope, 2L ).title ).isEqualTo( "Java Persistence" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testDeleteInvalidatesResultsContainingEntity(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		findBook( scope, 1L );
+		findBook( scope, 2L );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 2L ) ) );
+		statistics.clear();
+
+		assertThat( findBook( scope, 1L ) ).isNotNull();
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( findBook( scope, 2L ) ).isNull();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInsertInvalidatesAllResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		findBook( scope, 1L );
+
+		scope.inTransaction( session -> session.persist( new Book( 3L, "Hibernate Search in Action" ) ) );
+		statistics.clear();
+
+		findBook( scope, 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesScalarResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		findTitle( scope, 1L );
+
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Java Persistence" );
+		statistics.clear();
+
+		findTitle( scope, 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUnchangedSpacesDoNotCheckEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		findBook( scope, 1L );
+		statistics.clear();
+
+		findBook( scope, 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		// only the timestamp of the query space is checked
+		assertThat( statistics.getUpdateTimestampsCacheHitCount()
+				+ statistics.getUpdateTimestampsCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInvalidationKeysAreBounded(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final EntityPersister persister =
+					scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+			final Set<Object> keys = new HashSet<>();
+			for ( long id = 1; id <= 10_000; id++ ) {
+				keys.add( QueryCacheInvalidationKeys.entityKey( persister, id, session ) );
+			}
+			assertThat( keys ).hasSizeLessThanOrEqualTo( 1024 );
+		} );
+	}
+
+	private static Book findBook(SessionFactoryScope scope, Long id) {
+		return scope.fromSession( session -> {
+			final List<Book> books = session.createSelectionQuery( QUERY, Book.class )
+					.setParameter( "id", id )
+					.setCacheable( true )
+					.getResultList();
+			return books.isEmpty() ? null : books.get( 0 );
+		} );
+	}
+
+	private static String findTitle(SessionFactoryScope scope, Long id) {
+		return scope.fromSession( session -> session.createSelectionQuery( SCALAR_QUERY, String.class )
+				.setParameter( "id", id )
+				.setCacheable( true )
+				.getSingleResult() );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
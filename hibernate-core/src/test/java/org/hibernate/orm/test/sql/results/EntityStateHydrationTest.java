@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the state of entities mixing basic attributes which are read
+ * directly from the JDBC values with converted, enumerated, embedded, and
+ * associated attributes is hydrated correctly, including for subtypes.
+ */
+@DomainModel(annotatedClasses = {
+		EntityStateHydrationTest.Account.class,
+		EntityStateHydrationTest.PremiumAccount.class,
+		EntityStateHydrationTest.Branch.class
+})
+@SessionFactory
+public class EntityStateHydrationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testHydration(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Branch branch = new Branch( 1, "main" );
+			session.persist( branch );
+			session.persist( new Account( 1, "first", 10L, 1.5, Status.OPEN, true, new Address( "street", "city" ), branch ) );
+			session.persist( new PremiumAccount( 2, "second", null, 2.5, Status.CLOSED, false, null, null, 100 ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).getResultList();
+			assertThat( accounts ).hasSize( 2 );
+
+			final Account first = accounts.get( 0 );
+			assertThat( first.name ).isEqualTo( "first" );
+			assertThat( first.balance ).isEqualTo( 10L );
+			assertThat( first.rate ).isEqualTo( 1.5 );
+			assertThat( first.status ).isEqualTo( Status.OPEN );
+			assertThat( first.verified ).isTrue();
+			assertThat( first.address.street ).isEqualTo( "street" );
+			assertThat( first.address.city ).isEqualTo( "city" );
+			assertThat( first.branch.name ).isEqualTo( "main" );
+
+			assertThat( accounts.get( 1 ) ).isInstanceOf( PremiumAccount.class );
+			final PremiumAccount second = (PremiumAccount) accounts.get( 1 );
+			assertThat( second.name ).isEqualTo( "second" );
+			assertThat( second.balance ).isNull();
+			assertThat( second.rate ).isEqualTo( 2.5 );
+			assertThat( second.status ).isEqualTo( Status.CLOSED );
+			assertThat( second.verified ).isFalse();
+			assertThat( second.address ).isNull();
+			assertThat( second.branch ).isNull();
+			assertThat( second.creditLimit ).isEqualTo( 100 );
+
+			// the loaded state is the same as the state which is flushed
+			second.creditLimit = 200;
+		} );
+
+		scope.inTransaction( session ->
+				assertThat( session.find( PremiumAccount.class, 2 ).creditLimit ).isEqualTo( 200 )
+		);
+	}
+
+	public enum Status {
+		OPEN,
+		CLOSED
+	}
+
+	public static class YesNoConverter implements AttributeConverter<Boolean, String> {
+		@Override
+		public String convertToDatabaseColumn(Boolean attribute) {
+			return attribute == null ? null : attribute ? "Y" : "N";
+		}
+
+		@Override
+		public Boolean convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : dbData.equals( "Y" );
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Branch")
+	public static class Branch {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Branch() {
+		}
+
+		public Branch(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private Long balance;
+
+		private double rate;
+
+		@Enumerated(EnumType.STRING)
+		private Status status;
+
+		@Convert(converter = YesNoConverter.class)
+		private Boolean verified;
+
+		private Address address;
+
+		@ManyToOne
+		private Branch branch;
+
+		public Account() {
+		}
+
+		public Account(
+				Integer id,
+				String name,
+				Long balance,
+				double rate,
+				Status status,
+				Boolean verified,
+				Address address,
+				Branch branch) {
+			this.id = id;
+			this.name = name;
+			this.balance = balance;
+			this.rate = rate;
+			this.status = status;
+			this.verified = verified;
+			this.address = address;
+			this.branch = branch;
+		}
+	}
+
+	@Entity(name = "PremiumAccount")
+	public static class PremiumAccount extends Account {
+		private Integer creditLimit;
+
+		public PremiumAccount() {
+		}
+
+		public PremiumAccount(
+				Integer id,
+				String name,
+				Long balance,
+				double rate,
+				Status status,
+				Boolean verified,
+				Address address,
+				Branch branch,
+				Integer creditLimit) {
+			super( id, name, balance, rate, status, verified, address, branch );
+			this.creditLimit = creditLimit;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.results;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.StateValuesExtractor;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link EntityStateHydrationTest} with the state of the entities extracted
+ * by generated {@link StateValuesExtractor}s.
+ */
+@ServiceRegistry(settings = @Setting(name = BytecodeSettings.GENERATE_STATE_VALUES_EXTRACTORS, value = "true"))
+public class GeneratedStateValuesExtractorTest extends EntityStateHydrationTest {
+
+	@Test
+	public void testExtractorPerEntityAndShape(SessionFactoryScope scope) {
+		final BytecodeProvider bytecodeProvider =
+				scope.getSessionFactory().getServiceRegistry().requireService( BytecodeProvider.class );
+		final DomainResultAssembler<?>[] assemblers = new DomainResultAssembler<?>[2];
+		final StateValuesExtractor extractor =
+				bytecodeProvider.getStateValuesExtractor( "Account", assemblers, new int[] { 0, 1 }, 2 );
+		assertThat( extractor ).isNotNull();
+		assertThat( bytecodeProvider.getStateValuesExtractor( "Account", assemblers, new int[] { 3, 4 }, 2 ) )
+				.isSameAs( extractor );
+		assertThat( bytecodeProvider.getStateValuesExtractor( "Account", assemblers, new int[] { 0, -1 }, 2 ) )
+				.isNotSameAs( extractor );
+		assertThat( bytecodeProvider.getStateValuesExtractor( "Branch", assemblers, new int[] { 0, 1 }, 2 ) )
+				.isNotSameAs( extractor );
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -147,6 +148,96 @@ <T> T find(
 			Number revision, boolean includeDeletions) throws IllegalArgumentException,
 			NotAuditedException, IllegalStateException;
 
+	/**
+	 * Find the entities with the given primary keys at the given revision. The entities are read
+	 * with as few queries as possible, each of which restricts a chunk of the primary keys, and
+	 * the audited to-one associations of the found entities are resolved in batch as well.
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The found entity instances at the given revision, keyed by their primary key. Primary
+	 *         keys of entities which didn't exist at the given revision are not contained in the map.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or any primary key is null or revision is
+	 * less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 7.0
+	 */
+	<T> Map<Object, T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Find the entities with the given primary keys at the given revision, by entityName.
+	 *
+	 * @param cls Class of the entities.
+	 * @param entityName Name of the entity (if it can't be guessed basing on the {@code cls}).
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The found entity instances at the given revision, keyed by their primary key. Primary
+	 *         keys of entities which didn't exist at the given revision are not contained in the map.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or any primary key is null or revision is
+	 * less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @see #findAll(Class, Collection, Number)
+	 * @since 7.0
+	 */
+	<T> Map<Object, T> findAll(Class<T> cls, String entityName, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Get the history of the entities with the given primary keys, that is the versions of each entity
+	 * at the revisions at which it was added or modified. The audit rows are read with as few queries as
+	 * possible, each of which restricts a chunk of the primary keys.
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The versions of the entities keyed by their primary key, each sorted in ascending order of
+	 *         revision (so older versions come first). Primary keys of entities which were never audited
+	 *         are not contained in the map.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or any primary key is null.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 7.0
+	 */
+	<T> Map<Object, List<T>> findHistory(Class<T> cls, Collection<?> primaryKeys)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Get the history of the entities with the given primary keys, by entityName.
+	 *
+	 * @param cls Class of the entities.
+	 * @param entityName Name of the entity (if it can't be guessed basing on the {@code cls}).
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The versions of the entities keyed by their primary key, each sorted in ascending order of
+	 *         revision (so older versions come first). Primary keys of entities which were never audited
+	 *         are not contained in the map.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or any primary key is null.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @see #findHistory(Class, Collection)
+	 * @since 7.0
+	 */
+	<T> Map<Object, List<T>> findHistory(Class<T> cls, String entityName, Collection<?> primaryKeys)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get a list of revision numbers, at which an entity was modified.
 	 *
@@ -69,6 +69,8 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean statelessAuditWrites;
+	private final boolean windowFunctionRevisionRestriction;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -128,6 +130,11 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
+		statelessAuditWrites = configProps.getBoolean( EnversSettings.USE_STATELESS_AUDIT_WRITES, false );
+		windowFunctionRevisionRestriction = configProps.getBoolean(
+				EnversSettings.USE_WINDOW_FUNCTION_REVISION_RESTRICTION,
+				false
+		);
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
@@ -231,6 +238,14 @@ public boolean isGlobalLegacyRelationTargetNotFound() {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isStatelessAuditWrites() {
+		return statelessAuditWrites;
+	}
+
+	public boolean isWindowFunctionRevisionRestriction() {
+		return windowFunctionRevisionRestriction;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
@@ -184,6 +184,42 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether audit rows should be inserted through a {@link org.hibernate.StatelessSession} sharing the
+	 * connection of the audited session, in JDBC batches per audit table, rather than being persisted in the
+	 * audited session. This avoids the overhead of the persistence context, the event listeners and dirty
+	 * checking for each audit row, and is useful for applications writing many audited entities per transaction.
+	 * <p>
+	 * Rows of audited collections are still persisted in the audited session when using the validity audit
+	 * strategy, since the previous rows of the collection are queried and updated.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String USE_STATELESS_AUDIT_WRITES = "org.hibernate.envers.use_stateless_audit_writes";
+
+	/**
+	 * Whether queries of the default audit strategy should select the latest audit row of each entity up to a
+	 * given revision by numbering the audit rows of each entity with the {@code row_number()} window function,
+	 * rather than by comparing the revision of each audit row with a correlated {@code max()} subquery. The
+	 * audit rows up to the revision are numbered in a single pass, which performs better than the correlated
+	 * subquery when querying many entities of large audit tables, but worse when querying few entities.
+	 * <p>
+	 * Only queries of the entities of a type at a revision use the window function. Queries of entities with
+	 * given identifiers, such as {@link org.hibernate.envers.AuditReader#find}, and the queries of relations,
+	 * which are correlated with an entity, keep using the correlated subquery, which looks up the audit rows
+	 * of each entity by its identifier, rather than numbering the audit rows of every entity.
+	 * <p>
+	 * The setting is ignored if the dialect does not support window functions, and by the validity audit
+	 * strategy, which does not use subqueries to select the audit rows.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String USE_WINDOW_FUNCTION_REVISION_RESTRICTION = "org.hibernate.envers.use_window_function_revision_restriction";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
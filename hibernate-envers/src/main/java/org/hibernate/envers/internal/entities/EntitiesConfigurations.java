@@ -109,7 +109,7 @@ else if ( entCfg.getParentEntityName() != null ) {
 		}
 	}
 
-	private Collection<RelationDescription> getRelationDescriptions(String entityName) {
+	public Collection<RelationDescription> getRelationDescriptions(String entityName) {
 		final EntityConfiguration entCfg = entitiesConfigurations.get( entityName );
 		Collection<RelationDescription> descriptions = new ArrayList<>();
 		if ( entCfg.getParentEntityName() != null ) {
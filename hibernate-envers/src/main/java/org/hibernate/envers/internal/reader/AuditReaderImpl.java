@@ -6,9 +6,13 @@
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,11 +28,20 @@
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.entities.RelationDescription;
+import org.hibernate.envers.internal.entities.RelationType;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
+import org.hibernate.envers.query.internal.impl.EntitiesAtRevisionQuery;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.tools.ArgumentsTools.checkNotNull;
@@ -42,6 +55,12 @@
  * @author Chris Cranford
  */
 public class AuditReaderImpl implements AuditReaderImplementor {
+	/**
+	 * The maximum number of primary keys restricted by a single query of the bulk read
+	 * operations, unless the dialect limits the number of elements of an in list further.
+	 */
+	private static final int DEFAULT_ID_CHUNK_SIZE = 500;
+
 	private final EnversService enversService;
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
@@ -130,6 +149,190 @@ public <T> T find(
 		return (T) result;
 	}
 
+	@Override
+	public <T> Map<Object, T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		return this.findAll( cls, cls.getName(), primaryKeys, revision );
+	}
+
+	@Override
+	public <T> Map<Object, T> findAll(Class<T> cls, String entityName, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( entityName, "Entity name" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkNotNull( revision, "Entity revision" );
+		checkPositive( revision, "Entity revision" );
+		checkAudited( entityName );
+		checkSession();
+
+		final Map<Object, T> result = loadAll( cls, entityName, primaryKeys, revision );
+		resolveToOneRelations( entityName, result.values(), revision );
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Map<Object, T> loadAll(Class<T> cls, String entityName, Iterable<?> primaryKeys, Number revision) {
+		final Map<Object, T> result = new LinkedHashMap<>();
+		final Set<Object> uncachedPrimaryKeys = new LinkedHashSet<>();
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			final Object cached = firstLevelCache.get( entityName, revision, primaryKey );
+			if ( cached != null ) {
+				result.put( primaryKey, (T) cached );
+			}
+			else {
+				uncachedPrimaryKeys.add( primaryKey );
+			}
+		}
+
+		final EntityPersister persister = getEntityPersister( entityName );
+		for ( List<Object> chunk : chunk( entityName, uncachedPrimaryKeys ) ) {
+			// The results are put into the cache by the entity instantiator called from the query
+			final EntitiesAtRevisionQuery query =
+					(EntitiesAtRevisionQuery) createQuery().forEntitiesAtRevision( cls, entityName, revision );
+			final List<?> entities = query.lookUpByIdentifiers()
+					.add( idIn( entityName, chunk ) )
+					.getResultList();
+			for ( Object entity : entities ) {
+				result.put( persister.getIdentifier( entity, sessionImplementor ), (T) entity );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public <T> Map<Object, List<T>> findHistory(Class<T> cls, Collection<?> primaryKeys)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		return this.findHistory( cls, cls.getName(), primaryKeys );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Map<Object, List<T>> findHistory(Class<T> cls, String entityName, Collection<?> primaryKeys)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( entityName, "Entity name" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkAudited( entityName );
+		checkSession();
+
+		final Set<Object> distinctPrimaryKeys = new LinkedHashSet<>();
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			distinctPrimaryKeys.add( primaryKey );
+		}
+
+		final Map<Object, List<T>> result = new LinkedHashMap<>();
+		final EntityPersister persister = getEntityPersister( entityName );
+		for ( List<Object> chunk : chunk( entityName, distinctPrimaryKeys ) ) {
+			final List<?> entities = createQuery().forRevisionsOfEntity( cls, entityName, true, false )
+					.add( idIn( entityName, chunk ) )
+					.addOrder( AuditEntity.revisionNumber().asc() )
+					.getResultList();
+			for ( Object entity : entities ) {
+				result.computeIfAbsent( persister.getIdentifier( entity, sessionImplementor ), id -> new ArrayList<>() )
+						.add( (T) entity );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Initializes the audited to-one associations of the given entities, read at the given revision,
+	 * by reading the associated entities of each association with bulk queries. The proxies of the
+	 * associations then resolve the associated entities from the first level cache.
+	 */
+	private void resolveToOneRelations(String entityName, Collection<?> entities, Number revision) {
+		if ( entities.isEmpty() ) {
+			return;
+		}
+
+		final EntitiesConfigurations entitiesConfigurations = enversService.getEntitiesConfigurations();
+		final EntityPersister persister = getEntityPersister( entityName );
+		for ( RelationDescription relation : entitiesConfigurations.getRelationDescriptions( entityName ) ) {
+			if ( relation.getRelationType() != RelationType.TO_ONE
+					|| !entitiesConfigurations.isVersioned( relation.getToEntityName() ) ) {
+				continue;
+			}
+
+			final Set<Object> primaryKeys = new LinkedHashSet<>();
+			for ( Object entity : entities ) {
+				final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(
+						persister.getPropertyValue( entity, relation.getFromPropertyName() )
+				);
+				if ( lazyInitializer != null && lazyInitializer.isUninitialized() ) {
+					primaryKeys.add( lazyInitializer.getInternalIdentifier() );
+				}
+			}
+
+			if ( !primaryKeys.isEmpty() ) {
+				final EntityPersister relatedPersister = getEntityPersister( relation.getToEntityName() );
+				loadAll( relatedPersister.getMappedClass(), relation.getToEntityName(), primaryKeys, revision );
+			}
+		}
+	}
+
+	/**
+	 * Splits the given primary keys into chunks small enough to be restricted by a single query.
+	 */
+	private List<List<Object>> chunk(String entityName, Collection<Object> primaryKeys) {
+		final List<List<Object>> chunks = new ArrayList<>();
+		if ( primaryKeys.isEmpty() ) {
+			return chunks;
+		}
+
+		final int inExpressionCountLimit = sessionImplementor.getJdbcServices().getDialect().getInExpressionCountLimit();
+		int chunkSize = inExpressionCountLimit > 0
+				? Math.min( inExpressionCountLimit, DEFAULT_ID_CHUNK_SIZE )
+				: DEFAULT_ID_CHUNK_SIZE;
+		if ( !isSingleColumnId( entityName ) ) {
+			// composite identifiers are restricted by a disjunction of equalities instead
+			chunkSize = Math.max( 1, chunkSize / getEntityPersister( entityName ).getIdentifierMapping().getJdbcTypeCount() );
+		}
+
+		List<Object> chunk = new ArrayList<>( Math.min( chunkSize, primaryKeys.size() ) );
+		for ( Object primaryKey : primaryKeys ) {
+			if ( chunk.size() == chunkSize ) {
+				chunks.add( chunk );
+				chunk = new ArrayList<>( chunkSize );
+			}
+			chunk.add( primaryKey );
+		}
+		chunks.add( chunk );
+		return chunks;
+	}
+
+	private AuditCriterion idIn(String entityName, List<Object> primaryKeys) {
+		if ( isSingleColumnId( entityName ) ) {
+			return AuditEntity.id().in( primaryKeys );
+		}
+		final AuditDisjunction disjunction = AuditEntity.disjunction();
+		for ( Object primaryKey : primaryKeys ) {
+			disjunction.add( AuditEntity.id().eq( primaryKey ) );
+		}
+		return disjunction;
+	}
+
+	private boolean isSingleColumnId(String entityName) {
+		return enversService.getEntitiesConfigurations().get( entityName ).getIdMapper() instanceof SingleIdMapper
+				&& getEntityPersister( entityName ).getIdentifierMapping().getJdbcTypeCount() == 1;
+	}
+
+	private EntityPersister getEntityPersister(String entityName) {
+		return sessionImplementor.getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
+	}
+
+	private void checkAudited(String entityName) {
+		if ( !enversService.getEntitiesConfigurations().isVersioned( entityName ) ) {
+			throw new NotAuditedException( entityName, "Entity [" + entityName + "] is not versioned" );
+		}
+	}
+
 	@Override
 	public List<Number> getRevisions(Class<?> cls, Object primaryKey)
 			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -30,9 +30,10 @@ public class FirstLevelCache {
 	);
 
 	/**
-	 * cache for resolve an object for a given id, revision and entityName.
+	 * cache for resolve an object for a given id, revision and entityName. The entities are
+	 * indexed by entityName, then revision and then id, so that lookups do not allocate keys.
 	 */
-	private final Map<Triple<String, Number, Object>, Object> cache;
+	private final Map<String, Map<Number, Map<Object, Object>>> cache;
 
 	/**
 	 * used to resolve the entityName for a given id, revision and entity.
@@ -51,7 +52,8 @@ public Object get(String entityName, Number revision, Object id) {
 				id,
 				revision
 		);
-		return cache.get( make( entityName, revision, id ) );
+		final Map<Object, Object> entities = getEntities( entityName, revision );
+		return entities == null ? null : entities.get( id );
 	}
 
 	public void put(String entityName, Number revision, Object id, Object entity) {
@@ -61,11 +63,19 @@ public void put(String entityName, Number revision, Object id, Object entity) {
 				revision,
 				entityName
 		);
-		cache.put( make( entityName, revision, id ), entity );
+		cache.computeIfAbsent( entityName, name -> newHashMap() )
+				.computeIfAbsent( revision, rev -> newHashMap() )
+				.put( id, entity );
 	}
 
 	public boolean contains(String entityName, Number revision, Object id) {
-		return cache.containsKey( make( entityName, revision, id ) );
+		final Map<Object, Object> entities = getEntities( entityName, revision );
+		return entities != null && entities.containsKey( id );
+	}
+
+	private Map<Object, Object> getEntities(String entityName, Number revision) {
+		final Map<Number, Map<Object, Object>> revisions = cache.get( entityName );
+		return revisions == null ? null : revisions.get( revision );
 	}
 
 	/**
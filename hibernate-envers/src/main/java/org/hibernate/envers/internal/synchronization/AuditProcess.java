@@ -4,10 +4,14 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
@@ -35,19 +39,40 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final StatelessAuditWriter statelessAuditWriter;
+	private final Map<Class<?>, BeforeTransactionCompletionProcess> afterFlushProcesses;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, false );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			boolean statelessAuditWrites) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.statelessAuditWriter = statelessAuditWrites ? new StatelessAuditWriter() : null;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
+		afterFlushProcesses = new LinkedHashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
 	}
 
+	/**
+	 * Returns the writer of the audit rows of this process, or {@code null} if the audit rows
+	 * are persisted in the session.
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#USE_STATELESS_AUDIT_WRITES
+	 */
+	public StatelessAuditWriter getStatelessAuditWriter() {
+		return statelessAuditWriter;
+	}
+
 	public void cacheEntityState(Object id, String entityName, Object[] snapshot) {
 		final Pair<String, Object> key = new Pair<>( entityName, id );
 		if ( entityStateCache.containsKey( key ) ) {
@@ -65,6 +90,20 @@ public Object[] getCachedEntityState(Object id, String entityName) {
 		return entityState;
 	}
 
+	/**
+	 * Obtains the process of the given type which is executed once the audit rows of this
+	 * transaction have been flushed, registering the process created by the given supplier
+	 * on first access. The process is discarded along with this audit process, so it never
+	 * outlives the transaction.
+	 *
+	 * @param type the type of the process
+	 * @param creator creates the process, if none of the given type is registered yet
+	 * @return the process of the given type, never {@code null}
+	 */
+	public <T extends BeforeTransactionCompletionProcess> T getAfterFlushProcess(Class<T> type, Supplier<T> creator) {
+		return type.cast( afterFlushProcesses.computeIfAbsent( type, t -> creator.get() ) );
+	}
+
 	private void removeWorkUnit(AuditWorkUnit vwu) {
 		workUnits.remove( vwu );
 		if ( vwu.isPerformed() ) {
@@ -109,6 +148,29 @@ public void addWorkUnit(AuditWorkUnit vwu) {
 	}
 
 	private void executeInSession(Session session) {
+		performWorkUnits( session );
+
+		// Explicitly flushing the session, as the auto-flush may have already happened.
+		// The revision data must also be written before the audit rows referencing it.
+		session.flush();
+		if ( statelessAuditWriter != null ) {
+			statelessAuditWriter.flush( (SessionImplementor) session );
+		}
+
+		executeAfterFlushProcesses( (SessionImplementor) session );
+	}
+
+	private void executeAfterFlushProcesses(SessionImplementor session) {
+		if ( !afterFlushProcesses.isEmpty() ) {
+			final List<BeforeTransactionCompletionProcess> processes = new ArrayList<>( afterFlushProcesses.values() );
+			afterFlushProcesses.clear();
+			for ( BeforeTransactionCompletionProcess process : processes ) {
+				process.doBeforeTransactionCompletion( session );
+			}
+		}
+	}
+
+	private void performWorkUnits(Session session) {
 		// Making sure the revision data is persisted.
 		final Object currentRevisionData = getCurrentRevisionData( session, true );
 
@@ -161,7 +223,6 @@ public void doBeforeTransactionCompletion(SessionImplementor session) {
 						.noInterceptor()
 						.openSession();
 				executeInSession( temporarySession );
-				temporarySession.flush();
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -171,9 +232,6 @@ public void doBeforeTransactionCompletion(SessionImplementor session) {
 		}
 		else {
 			executeInSession( session );
-
-			// Explicitly flushing the session, as the auto-flush may have already happened.
-			session.flush();
 		}
 	}
 }
@@ -21,11 +21,17 @@
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final boolean statelessAuditWrites;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, false );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, boolean statelessAuditWrites) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.statelessAuditWrites = statelessAuditWrites;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -34,7 +40,7 @@ public AuditProcess get(EventSource session) {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, statelessAuditWrites );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.event.spi.EventSource;
+
+/**
+ * Writes audit rows through a {@link StatelessSession} sharing the JDBC connection of the
+ * audited session, bypassing the persistence context and the event listeners of the audited
+ * session. The rows are collected while the audit work units are performed, and inserted
+ * per audit table in JDBC batches when {@link #flush(SessionImplementor) flushed}.
+ * <p>
+ * A writer is owned by the {@link AuditProcess} of a transaction. The built-in audit
+ * strategies and work units look it up through {@link #get(Session, Configuration)}, so
+ * that it never appears on the {@link org.hibernate.envers.strategy.spi.AuditStrategy} SPI.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#USE_STATELESS_AUDIT_WRITES
+ * @since 7.0
+ */
+public class StatelessAuditWriter {
+	/**
+	 * The number of audit rows inserted in a single JDBC batch,
+	 * if JDBC batching is not enabled for the session.
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
+	private final Map<String, List<Object>> pendingInserts = new LinkedHashMap<>();
+	private final Map<Object, String> writtenRows = new IdentityHashMap<>();
+
+	/**
+	 * Returns the writer of the audit process of the transaction of the given session.
+	 *
+	 * @param session the session in which the audit work units are performed
+	 * @param configuration the audit configuration
+	 * @return the writer, or {@code null} if the audit rows are persisted in the session
+	 */
+	public static StatelessAuditWriter get(Session session, Configuration configuration) {
+		if ( !configuration.isStatelessAuditWrites() ) {
+			return null;
+		}
+		return configuration.getEnversService().getAuditProcessManager()
+				.get( (EventSource) session )
+				.getStatelessAuditWriter();
+	}
+
+	/**
+	 * Schedules the insertion of an audit row.
+	 *
+	 * @param auditEntityName the name of the audit entity
+	 * @param data the audit data
+	 */
+	public void insert(String auditEntityName, Object data) {
+		pendingInserts.computeIfAbsent( auditEntityName, name -> new ArrayList<>() ).add( data );
+		writtenRows.put( data, auditEntityName );
+	}
+
+	/**
+	 * Removes an audit row, if it was written by this writer. A row which is not yet flushed
+	 * is simply discarded, otherwise it is deleted from the database.
+	 *
+	 * @param session the session in which the audit work units are performed
+	 * @param data the audit data
+	 * @return {@code true} if the audit row was written by this writer, {@code false} if it
+	 *         was persisted in the session itself
+	 */
+	public boolean remove(SessionImplementor session, Object data) {
+		final String auditEntityName = writtenRows.remove( data );
+		if ( auditEntityName == null ) {
+			return false;
+		}
+
+		final List<Object> pending = pendingInserts.get( auditEntityName );
+		if ( pending == null || !pending.removeIf( row -> row == data ) ) {
+			try ( StatelessSession statelessSession = openStatelessSession( session ) ) {
+				statelessSession.delete( auditEntityName, data );
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Inserts the scheduled audit rows. The revision entity referenced by the audit rows must
+	 * already have been written to the database.
+	 *
+	 * @param session the session in which the audit work units are performed
+	 */
+	public void flush(SessionImplementor session) {
+		if ( pendingInserts.isEmpty() ) {
+			return;
+		}
+
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize != null && configuredBatchSize > 1
+				? configuredBatchSize
+				: DEFAULT_BATCH_SIZE;
+
+		try ( StatelessSession statelessSession = openStatelessSession( session ) ) {
+			statelessSession.setJdbcBatchSize( batchSize );
+			for ( Map.Entry<String, List<Object>> entry : pendingInserts.entrySet() ) {
+				final String auditEntityName = entry.getKey();
+				for ( Object data : entry.getValue() ) {
+					statelessSession.insert( auditEntityName, data );
+				}
+			}
+			( (SharedSessionContractImplementor) statelessSession ).getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			pendingInserts.clear();
+		}
+	}
+
+	private static StatelessSession openStatelessSession(SessionImplementor session) {
+		final StatelessSessionBuilder builder = session.getFactory().withStatelessOptions()
+				.connection( session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection() );
+		final Object tenantIdentifier = session.getTenantIdentifierValue();
+		if ( tenantIdentifier != null ) {
+			builder.tenantIdentifier( tenantIdentifier );
+		}
+		return builder.openStatelessSession();
+	}
+}
@@ -13,6 +13,7 @@
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.StatelessAuditWriter;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -64,7 +65,7 @@ protected void fillDataWithId(Map<String, Object> data, Object revision) {
 	public void perform(Session session, Object revisionData) {
 		final Map<String, Object> data = generateData( revisionData );
 
-		auditStrategy.perform( session, getEntityName(), enversService, id, data, revisionData );
+		auditStrategy.perform( session, getEntityName(), enversService.getConfig(), id, data, revisionData );
 
 		setPerformed( data );
 	}
@@ -90,8 +91,11 @@ protected void setPerformed(Object performedData) {
 
 	public void undo(Session session) {
 		if ( isPerformed() ) {
-			session.remove(	performedData );
-			session.flush();
+			final StatelessAuditWriter writer = StatelessAuditWriter.get( session, enversService.getConfig() );
+			if ( writer == null || !writer.remove( (SessionImplementor) session, performedData ) ) {
+				session.remove( performedData );
+				session.flush();
+			}
 		}
 	}
 
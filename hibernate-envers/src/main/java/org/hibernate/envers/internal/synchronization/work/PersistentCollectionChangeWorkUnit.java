@@ -87,7 +87,7 @@ public void perform(Session session, Object revisionData) {
 					session,
 					getEntityName(),
 					referencingPropertyName,
-					enversService,
+					configuration,
 					persistentCollectionChangeData,
 					revisionData
 			);
@@ -82,6 +82,13 @@ private Parameters(Parameters other) {
 		localQueryParamValues = new HashMap<>( other.localQueryParamValues );
 	}
 
+	/**
+	 * @return the main alias of the entity
+	 */
+	public String getAlias() {
+		return alias;
+	}
+
 	public Parameters deepCopy() {
 		return new Parameters( this );
 	}
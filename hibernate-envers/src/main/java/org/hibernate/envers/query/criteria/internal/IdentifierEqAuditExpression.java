@@ -25,6 +25,13 @@ public IdentifierEqAuditExpression(String alias, Object id, boolean equals) {
 		this.equals = equals;
 	}
 
+	/**
+	 * Is this an equality, rather than an inequality, restriction?
+	 */
+	public boolean isEquality() {
+		return equals;
+	}
+
 	@Override
 	protected void addToQuery(
 			EnversService enversService,
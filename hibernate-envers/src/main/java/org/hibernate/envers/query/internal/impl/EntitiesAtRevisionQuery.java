@@ -18,6 +18,7 @@
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.internal.IdentifierEqAuditExpression;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -32,6 +33,7 @@
 public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 	private final Number revision;
 	private final boolean includeDeletions;
+	private boolean identifierLookup;
 
 	public EntitiesAtRevisionQuery(
 			EnversService enversService,
@@ -53,6 +55,31 @@ public EntitiesAtRevisionQuery(
 		this.includeDeletions = includeDeletions;
 	}
 
+	/**
+	 * Specify that the query is restricted to the entities with given
+	 * identifiers, so that only their audit rows need to be read.
+	 */
+	public EntitiesAtRevisionQuery lookUpByIdentifiers() {
+		identifierLookup = true;
+		return this;
+	}
+
+	/**
+	 * Is the query restricted to the entities with given identifiers,
+	 * either explicitly, or by an identifier equality criterion?
+	 */
+	private boolean isIdentifierLookup() {
+		if ( identifierLookup ) {
+			return true;
+		}
+		for ( AuditCriterion criterion : criterions ) {
+			if ( criterion instanceof IdentifierEqAuditExpression identifierEq && identifierEq.isEquality() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public List list() {
 		/*
 		 * The query that we need to create:
@@ -85,20 +112,38 @@ public List list() {
 
 		// (selecting e entities at revision :revision)
 		// --> based on auditStrategy (see above)
-		enversService.getAuditStrategy().addEntityAtRevisionRestriction(
-				configuration,
-				qb,
-				qb.getRootParameters(),
-				revisionPropertyPath,
-				configuration.getRevisionEndFieldName(),
-				true,
-				referencedIdData,
-				revisionPropertyPath,
-				originalIdPropertyName,
-				REFERENCED_ENTITY_ALIAS,
-				REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
-				true
-		);
+		if ( isIdentifierLookup() ) {
+			enversService.getAuditStrategy().addEntityAtRevisionRestriction(
+					configuration,
+					qb,
+					qb.getRootParameters(),
+					revisionPropertyPath,
+					configuration.getRevisionEndFieldName(),
+					true,
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
+		else {
+			enversService.getAuditStrategy().addEntitiesAtRevisionRestriction(
+					configuration,
+					qb,
+					qb.getRootParameters(),
+					revisionPropertyPath,
+					configuration.getRevisionEndFieldName(),
+					true,
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
 
 		if ( configuration.isFindByRevisionExactMatch() ) {
 			// When EnversSettings#FIND_BY_REVISION_EXACT_MATCH is true, this forces this condition
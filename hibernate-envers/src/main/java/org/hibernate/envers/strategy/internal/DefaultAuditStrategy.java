@@ -4,12 +4,17 @@
  */
 package org.hibernate.envers.strategy.internal;
 
+import java.util.List;
+
 import org.hibernate.Session;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.internal.synchronization.StatelessAuditWriter;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -41,8 +46,14 @@ public void perform(
 			Object id,
 			Object data,
 			Object revision) {
-		session.persist( configuration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		final StatelessAuditWriter writer = StatelessAuditWriter.get( session, configuration );
+		if ( writer != null ) {
+			writer.insert( configuration.getAuditEntityName( entityName ), data );
+		}
+		else {
+			session.persist( configuration.getAuditEntityName( entityName ), data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 	}
 
 	@Override
@@ -53,8 +64,70 @@ public void performCollectionChange(
 			Configuration configuration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.persist( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		final StatelessAuditWriter writer = StatelessAuditWriter.get( session, configuration );
+		if ( writer != null ) {
+			writer.insert( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+		}
+		else {
+			session.persist( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * For this implementation, a subquery is used
+	 * <p>
+	 * {@code e.revision = (SELECT max(...)  ...}
+	 * <p>
+	 * unless {@link Configuration#isWindowFunctionRevisionRestriction() window functions} are enabled and
+	 * supported by the dialect. The rows of the whole audit table up to the revision are then numbered
+	 * in a single pass, and so window functions are never used for queries of the entities with given
+	 * identifiers, which can instead look up the few audit rows of each entity by its identifier.
+	 */
+	@Override
+	public void addEntitiesAtRevisionRestriction(
+			Configuration configuration,
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			String revisionEndProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		if ( configuration.isWindowFunctionRevisionRestriction() && supportsWindowFunctions( configuration ) ) {
+			addEntityAtRevisionRestrictionWithWindowFunction(
+					parameters,
+					addAlias ? parameters.getAlias() + "." + revisionProperty : revisionProperty,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+		}
+		else {
+			addEntityAtRevisionRestriction(
+					configuration,
+					rootQueryBuilder,
+					parameters,
+					revisionProperty,
+					revisionEndProperty,
+					addAlias,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+		}
 	}
 
 	/**
@@ -97,6 +170,65 @@ public void addEntityAtRevisionRestriction(
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	/**
+	 * Restricts the audit rows to the latest audit row of each entity up to the revision, numbering the audit rows
+	 * of each entity in a derived table with a window function, rather than using a correlated subquery
+	 * <p>
+	 * {@code (e.id, e.revision) in (SELECT w.id0, w.rev FROM (SELECT e2.id AS id0, e2.revision AS rev,
+	 * row_number() OVER (PARTITION BY e2.id ORDER BY e2.revision DESC) AS rn FROM versionsReferencedEntity e2
+	 * WHERE e2.revision <= :revision) w WHERE w.rn = 1)}
+	 *
+	 * @see Configuration#isWindowFunctionRevisionRestriction()
+	 */
+	private static void addEntityAtRevisionRestrictionWithWindowFunction(
+			Parameters parameters,
+			String revisionProperty,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		final String derivedAlias = alias2 + "w";
+		final StringBuilder tuple = new StringBuilder( "(" );
+		final StringBuilder selection = new StringBuilder();
+		final StringBuilder derivedSelection = new StringBuilder();
+		final StringBuilder partition = new StringBuilder();
+		final List<QueryParameterData> idParameters = idData.getOriginalMapper().mapToQueryParametersFromId( null );
+		for ( int i = 0; i < idParameters.size(); i++ ) {
+			final QueryParameterData idParameter = idParameters.get( i );
+			final String idProperty = idParameter.getProperty( alias2 + "." + originalIdPropertyName );
+			if ( i > 0 ) {
+				partition.append( ", " );
+			}
+			tuple.append( idParameter.getProperty( alias1 + "." + originalIdPropertyName ) ).append( ", " );
+			selection.append( derivedAlias ).append( ".id" ).append( i ).append( ", " );
+			derivedSelection.append( idProperty ).append( " as id" ).append( i ).append( ", " );
+			partition.append( idProperty );
+		}
+		tuple.append( revisionProperty ).append( ')' );
+
+		final String revision = alias2 + "." + revisionPropertyPath;
+		// select w.id0, w.rev from (select e2.id as id0, e2.revision as rev,
+		//   row_number() over (partition by e2.id order by e2.revision desc) as rn
+		//   from versionsReferencedEntity e2 where e2.revision <= :revision) w where w.rn = 1
+		final String subquery = "(select " + selection + derivedAlias + ".rev"
+				+ " from (select " + derivedSelection + revision + " as rev,"
+				+ " row_number() over (partition by " + partition + " order by " + revision + " desc) as rn"
+				+ " from " + idData.getAuditEntityName() + " " + alias2
+				+ " where " + revision + ( inclusive ? " <= :" : " < :" ) + REVISION_PARAMETER + ") " + derivedAlias
+				+ " where " + derivedAlias + ".rn = 1)";
+
+		parameters.addWhere( tuple.toString(), false, "in", subquery, false );
+	}
+
+	private static boolean supportsWindowFunctions(Configuration configuration) {
+		return configuration.getEnversService().getServiceRegistry()
+				.requireService( JdbcServices.class )
+				.getDialect()
+				.supportsWindowFunctions();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -9,6 +9,7 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -16,6 +17,15 @@
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.StaleStateException;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -31,13 +41,16 @@
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.internal.synchronization.StatelessAuditWriter;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
@@ -46,6 +59,8 @@
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.sql.ComparisonRestriction;
 import org.hibernate.sql.Update;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcUpdateMutation;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
@@ -53,6 +68,7 @@
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
+import static java.util.Collections.emptyList;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
@@ -79,6 +95,12 @@
  * @author Chris Cranford
  */
 public class ValidityAuditStrategy implements AuditStrategy {
+	/**
+	 * The number of end-revision updates executed in a single JDBC batch,
+	 * if JDBC batching is not enabled for the session.
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
 	/**
 	 * getter for the revision entity field annotated with @RevisionTimestamp
 	 */
@@ -161,7 +183,14 @@ public void perform(
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.persist( auditedEntityName, data );
+		final StatelessAuditWriter writer = StatelessAuditWriter.get( session, configuration );
+		if ( writer != null ) {
+			writer.insert( auditedEntityName, data );
+		}
+		else {
+			session.persist( auditedEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 
 		// Update the end date of the previous row.
 		//
@@ -171,50 +200,22 @@ public void perform(
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Queue the UPDATE statement, which is executed in a JDBC batch along with the
+			// UPDATE statements for the other audit rows of the same table once the audit
+			// process has flushed the audit rows, to guarantee execution of UPDATE statement
+			// after INSERT.
+			getEndRevisionUpdates( (EventSource) session, configuration ).add(
+					new EndRevisionUpdate(
+							entityName,
+							auditedEntityName,
+							id,
+							revision,
+							reuseEntityIdentifier && revisionType == RevisionType.ADD
+					)
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -268,7 +269,8 @@ public void performCollectionChange(
 			);
 		}
 
-		// Save the audit data
+		// Save the audit data, always in the session, as the rows of the middle entity are
+		// queried and updated in the session when the collection changes again
 		session.persist( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
 	}
@@ -458,33 +460,65 @@ private boolean isMaterializedClob(Type collectionElementType) {
 	}
 
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Obtains the end-revision updates pending for the transaction of the specified session,
+	 * which are held by the {@link AuditProcess} of the transaction and executed by it once
+	 * the audit rows have been flushed.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param configuration the configuration
+	 * @return the pending end-revision updates, never {@code null}
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
-		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+	private EndRevisionUpdates getEndRevisionUpdates(EventSource session, Configuration configuration) {
+		final AuditProcess auditProcess = configuration.getEnversService().getAuditProcessManager().get( session );
+		return auditProcess.getAfterFlushProcess(
+				EndRevisionUpdates.class,
+				() -> new EndRevisionUpdates( configuration )
+		);
+	}
 
-		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
-					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
-						return result;
-					}
-					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
-					}
-				}
+	/**
+	 * Executes the {@link UpdateContext update contexts}, which all share the same SQL statement,
+	 * as a JDBC batch of the {@link JdbcCoordinator} of the specified session.
+	 *
+	 * @param session the session
+	 * @param key the audit table and SQL statement of the update contexts
+	 * @param statements the update contexts to be executed, along with their end-revision updates
+	 * @param batchSize the maximum number of update contexts executed in a single JDBC batch
+	 */
+	private void executeBatch(
+			SessionImplementor session,
+			StatementKey key,
+			List<PendingStatement> statements,
+			int batchSize) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		// Updates of entities which may have no previous audit row must not check the row count
+		final Expectation expectation = key.allowNoPreviousRow()
+				? Expectation.None.INSTANCE
+				: new Expectation.RowCount();
+		final Batch batch = jdbcCoordinator.getBatch(
+				new BasicBatchKey( key.tableName() + "#REVEND" ),
+				batchSize,
+				() -> new PreparedStatementGroupSingleTable(
+						new JdbcUpdateMutation(
+								new AuditTableMapping( key.tableName() ),
+								null,
+								key.sql(),
+								false,
+								expectation,
+								emptyList()
+						),
+						session
+				)
 		);
+		for ( PendingStatement statement : statements ) {
+			final EndRevisionUpdate update = statement.update();
+			batch.addToBatch(
+					new UpdateContextValueBindings( statement.context(), session ),
+					null,
+					key.allowNoPreviousRow() ? null : update::staleState
+			);
+		}
+		jdbcCoordinator.executeBatch();
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -657,6 +691,110 @@ private String getUpdateTableName(EntityPersister rootEntity, EntityPersister ro
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * The update of the end revision of the previous audit row of an entity.
+	 *
+	 * @param entityName the entity name
+	 * @param auditedEntityName the audited entity name
+	 * @param id the entity identifier
+	 * @param revision the revision entity
+	 * @param allowNoPreviousRow whether the entity may have no previous audit row
+	 */
+	private record EndRevisionUpdate(
+			String entityName,
+			String auditedEntityName,
+			Object id,
+			Object revision,
+			boolean allowNoPreviousRow) {
+
+		AuditException staleState(StaleStateException e) {
+			return new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s and id %s.",
+							auditedEntityName,
+							id
+					),
+					e
+			);
+		}
+	}
+
+	/**
+	 * The audit table and SQL statement shared by the {@link UpdateContext update contexts}
+	 * executed in the same JDBC batch.
+	 */
+	private record StatementKey(String tableName, String sql, boolean allowNoPreviousRow) {
+	}
+
+	/**
+	 * An {@link UpdateContext} waiting to be executed as part of a JDBC batch.
+	 */
+	private record PendingStatement(UpdateContext context, EndRevisionUpdate update) {
+	}
+
+	/**
+	 * The end-revision updates pending for a transaction, which are executed once the audit
+	 * rows have been flushed, grouping the statements for each audit table into JDBC batches.
+	 */
+	private class EndRevisionUpdates implements BeforeTransactionCompletionProcess {
+		private final Configuration configuration;
+		private final List<EndRevisionUpdate> updates = new ArrayList<>();
+
+		private EndRevisionUpdates(Configuration configuration) {
+			this.configuration = configuration;
+		}
+
+		void add(EndRevisionUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			final Map<StatementKey, List<PendingStatement>> statementsByKey = new LinkedHashMap<>();
+			for ( EndRevisionUpdate update : updates ) {
+				// Construct the update contexts
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName(),
+						update.auditedEntityName(),
+						session,
+						configuration,
+						update.id(),
+						update.revision()
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName(),
+									update.id()
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					final StatementKey key = new StatementKey(
+							context.getTableName(),
+							context.toStatementString(),
+							update.allowNoPreviousRow()
+					);
+					statementsByKey.computeIfAbsent( key, k -> new ArrayList<>() )
+							.add( new PendingStatement( context, update ) );
+				}
+			}
+
+			final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+			final int batchSize = configuredBatchSize != null && configuredBatchSize > 1
+					? configuredBatchSize
+					: DEFAULT_BATCH_SIZE;
+			for ( Map.Entry<StatementKey, List<PendingStatement>> entry : statementsByKey.entrySet() ) {
+				executeBatch( session, entry.getKey(), entry.getValue(), batchSize );
+			}
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -680,6 +818,107 @@ public void bind(Object value, ModelPart part) {
 		}
 	}
 
+	/**
+	 * Binds the parameters of an {@link UpdateContext} to the statement of a JDBC batch.
+	 */
+	private static class UpdateContextValueBindings implements JdbcValueBindings {
+		private final UpdateContext context;
+		private final SessionImplementor session;
+
+		private UpdateContextValueBindings(UpdateContext context, SessionImplementor session) {
+			this.context = context;
+			this.session = session;
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			throw new UnsupportedOperationException( "Values are bound by the update context" );
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			try {
+				int index = 1;
+				for ( QueryParameterBinding binding : context.getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Could not bind end revision update parameters",
+						statementDetails.getSqlString()
+				);
+			}
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
+	/**
+	 * The audit table updated by a JDBC batch of end-revision updates, whose row counts
+	 * are verified like those of an identifier table.
+	 */
+	private record AuditTableMapping(String tableName) implements TableMapping {
+		@Override
+		public String getTableName() {
+			return tableName;
+		}
+
+		@Override
+		public int getRelativePosition() {
+			return 0;
+		}
+
+		@Override
+		public KeyDetails getKeyDetails() {
+			return null;
+		}
+
+		@Override
+		public boolean isOptional() {
+			return false;
+		}
+
+		@Override
+		public boolean isInverse() {
+			return false;
+		}
+
+		@Override
+		public boolean isIdentifierTable() {
+			return true;
+		}
+
+		@Override
+		public MutationDetails getInsertDetails() {
+			return null;
+		}
+
+		@Override
+		public MutationDetails getUpdateDetails() {
+			return null;
+		}
+
+		@Override
+		public boolean isCascadeDeleteEnabled() {
+			return false;
+		}
+
+		@Override
+		public MutationDetails getDeleteDetails() {
+			return null;
+		}
+	}
+
 	private interface QueryParameterBinding {
 		int bind(int index, PreparedStatement statement, SessionImplementor session) throws SQLException;
 	}
@@ -116,6 +116,47 @@ void addEntityAtRevisionRestriction(
 			String alias2,
 			boolean inclusive);
 
+	/**
+	 * Update the rootQueryBuilder with an extra WHERE clause to restrict the revision for a query of the
+	 * entities of a type at a revision, which is not restricted to given identifiers, and so might select
+	 * the audit rows of many entities. This WHERE clause depends on the AuditStrategy.
+	 * <p>
+	 * By default, this is the same restriction as {@link #addEntityAtRevisionRestriction}.
+	 *
+	 * @see #addEntityAtRevisionRestriction
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void addEntitiesAtRevisionRestriction(
+			Configuration configuration,
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			String revisionEndProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		addEntityAtRevisionRestriction(
+				configuration,
+				rootQueryBuilder,
+				parameters,
+				revisionProperty,
+				revisionEndProperty,
+				addAlias,
+				idData,
+				revisionPropertyPath,
+				originalIdPropertyName,
+				alias1,
+				alias2,
+				inclusive
+		);
+	}
+
 	/**
 	 * Update the rootQueryBuilder with an extra WHERE clause to restrict the revision for a middle-entity
 	 * association. This WHERE clause depends on the AuditStrategy.
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.auditReader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the bulk read operations {@link AuditReader#findAll} and {@link AuditReader#findHistory}.
+ */
+public class BulkFindTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final SetRefEdEntity ed1 = new SetRefEdEntity( 1, "ed1" );
+			final SetRefEdEntity ed2 = new SetRefEdEntity( 2, "ed2" );
+			entityManager.persist( ed1 );
+			entityManager.persist( ed2 );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.persist( new SetRefIngEntity( i, "x" + i, i % 2 == 0 ? ed2 : ed1 ) );
+			}
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.find( SetRefIngEntity.class, i ).setData( "y" + i );
+			}
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( SetRefIngEntity.class, ENTITY_COUNT ) );
+		} );
+	}
+
+	@Test
+	public void testFindAll() {
+		final Map<Object, SetRefIngEntity> entities = getAuditReader().findAll(
+				SetRefIngEntity.class,
+				Arrays.asList( 1, 2, 3, 4, 5, 6 ),
+				3
+		);
+
+		assertThat( entities ).containsOnlyKeys( 1, 2, 3, 4 );
+		for ( int i = 1; i < ENTITY_COUNT; i++ ) {
+			assertThat( entities.get( i ).getData() ).isEqualTo( "y" + i );
+		}
+	}
+
+	@Test
+	public void testFindAllResolvesRelationsInBatch() {
+		final EntityManager entityManager = createIsolatedEntityManager();
+		try {
+			// a new reader, so that no entities are resolved from the first level cache of another test
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class )
+					.getStatistics();
+			statistics.clear();
+
+			final Map<Object, SetRefIngEntity> entities = auditReader.findAll(
+					SetRefIngEntity.class,
+					Arrays.asList( 1, 2, 3, 4, 5 ),
+					1
+			);
+			// one query for the entities and one for the referenced entities
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+			assertThat( entities ).hasSize( ENTITY_COUNT );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				final SetRefIngEntity entity = entities.get( i );
+				assertThat( entity.getData() ).isEqualTo( "x" + i );
+				assertThat( Hibernate.isInitialized( entity.getReference() ) ).isFalse();
+				assertThat( entity.getReference().getData() ).isEqualTo( i % 2 == 0 ? "ed2" : "ed1" );
+			}
+			// the referenced entities are resolved from the first level cache
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+			// the entities are resolved from the first level cache as well
+			assertThat( auditReader.find( SetRefIngEntity.class, 1, 1 ) ).isSameAs( entities.get( 1 ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+	@Test
+	public void testFindHistory() {
+		final Map<Object, List<SetRefIngEntity>> history = getAuditReader().findHistory(
+				SetRefIngEntity.class,
+				Arrays.asList( 1, 5, 6 )
+		);
+
+		assertThat( history ).containsOnlyKeys( 1, 5 );
+		assertThat( history.get( 1 ) ).extracting( SetRefIngEntity::getData ).containsExactly( "x1", "y1" );
+		assertThat( history.get( 5 ) ).extracting( SetRefIngEntity::getData ).containsExactly( "x5", "y5" );
+	}
+}
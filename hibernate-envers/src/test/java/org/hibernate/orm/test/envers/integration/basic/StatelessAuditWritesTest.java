@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that audit rows are written correctly when inserted through a stateless session.
+ */
+public class StatelessAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_STATELESS_AUDIT_WRITES, "true" );
+	}
+
+	@Test
+	public void testStatelessAuditWrites() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.persist( new StrTestEntity( "x" + i, i ) );
+			}
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.find( StrTestEntity.class, i ).setStr( "y" + i );
+			}
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( StrTestEntity.class, 1 ) );
+		} );
+
+		final List<Number> revisions = getAuditReader().getRevisions( StrTestEntity.class, 1 );
+		assertThat( revisions ).hasSize( 3 );
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			assertThat( getAuditReader().find( StrTestEntity.class, i, revisions.get( 0 ) ).getStr() ).isEqualTo( "x" + i );
+			assertThat( getAuditReader().find( StrTestEntity.class, i, revisions.get( 1 ) ).getStr() ).isEqualTo( "y" + i );
+		}
+		assertThat( getAuditReader().find( StrTestEntity.class, 1, revisions.get( 2 ) ) ).isNull();
+	}
+
+	@Test
+	public void testStatelessCollectionAuditWrites() {
+		final Integer id = TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StringSetEntity entity = new StringSetEntity();
+			entity.getStrings().add( "a" );
+			entity.getStrings().add( "b" );
+			entityManager.persist( entity );
+			return entity.getId();
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StringSetEntity entity = entityManager.find( StringSetEntity.class, id );
+			entity.getStrings().remove( "a" );
+			entity.getStrings().add( "c" );
+		} );
+
+		final List<Number> revisions = getAuditReader().getRevisions( StringSetEntity.class, id );
+		assertThat( revisions ).hasSize( 2 );
+		assertThat( getAuditReader().find( StringSetEntity.class, id, revisions.get( 0 ) ).getStrings() )
+				.isEqualTo( Set.of( "a", "b" ) );
+		assertThat( getAuditReader().find( StringSetEntity.class, id, revisions.get( 1 ) ).getStrings() )
+				.isEqualTo( Set.of( "b", "c" ) );
+	}
+}
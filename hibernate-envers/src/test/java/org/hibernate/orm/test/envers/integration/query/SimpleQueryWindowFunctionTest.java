@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Runs the {@link SimpleQuery} tests selecting the audit rows at a revision with a window function.
+ */
+public class SimpleQueryWindowFunctionTest extends SimpleQuery {
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_WINDOW_FUNCTION_REVISION_RESTRICTION, "true" );
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the {@link ValidityAuditStrategy} executes the updates of the end revision
+ * of the previous audit rows modified by a transaction as a JDBC batch.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 10;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	public void testEndRevisionUpdatesBatched() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.persist( new StrTestEntity( "x" + i, i ) );
+			}
+		} );
+
+		final AtomicInteger batchCount = new AtomicInteger();
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.unwrap( SessionImplementor.class ).getEventListenerManager().addListener(
+					new SessionEventListener() {
+						@Override
+						public void jdbcExecuteBatchStart() {
+							batchCount.incrementAndGet();
+						}
+					}
+			);
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.find( StrTestEntity.class, i ).setStr( "y" + i );
+			}
+		} );
+
+		// JDBC batching is not enabled, so the only batch is the one for the end revision updates
+		assertThat( batchCount.get() ).isEqualTo( 1 );
+
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			assertThat( getAuditReader().find( StrTestEntity.class, i, 1 ).getStr() ).isEqualTo( "x" + i );
+			assertThat( getAuditReader().find( StrTestEntity.class, i, 2 ).getStr() ).isEqualTo( "y" + i );
+		}
+	}
+}
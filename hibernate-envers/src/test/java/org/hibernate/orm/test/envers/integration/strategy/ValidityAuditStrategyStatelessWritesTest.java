@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the {@link ValidityAuditStrategy} sets the end revision of the previous audit
+ * rows, and writes the audit rows of collections, when audit rows are inserted through a
+ * stateless session.
+ */
+public class ValidityAuditStrategyStatelessWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.USE_STATELESS_AUDIT_WRITES, "true" );
+	}
+
+	@Test
+	public void testEndRevision() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			entityManager.persist( entity );
+			strId = entity.getId();
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, strId ).setStr( "y" );
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, strId ).setStr( "z" );
+		} );
+
+		final List<Number> revisions = getAuditReader().getRevisions( StrTestEntity.class, strId );
+		assertThat( revisions ).hasSize( 3 );
+		assertThat( getAuditReader().find( StrTestEntity.class, strId, revisions.get( 0 ) ).getStr() ).isEqualTo( "x" );
+		assertThat( getAuditReader().find( StrTestEntity.class, strId, revisions.get( 1 ) ).getStr() ).isEqualTo( "y" );
+		assertThat( getAuditReader().find( StrTestEntity.class, strId, revisions.get( 2 ) ).getStr() ).isEqualTo( "z" );
+
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			@SuppressWarnings("unchecked")
+			final List<Object[]> rows = entityManager.createNativeQuery(
+					"select REV, REVEND from StrTestEntity_AUD where id = :id order by REV"
+			).setParameter( "id", strId ).getResultList();
+			assertThat( rows ).hasSize( 3 );
+			assertThat( ( (Number) rows.get( 0 )[1] ).intValue() ).isEqualTo( revisions.get( 1 ).intValue() );
+			assertThat( ( (Number) rows.get( 1 )[1] ).intValue() ).isEqualTo( revisions.get( 2 ).intValue() );
+			assertThat( rows.get( 2 )[1] ).isNull();
+		} );
+	}
+
+	@Test
+	public void testCollection() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StringSetEntity entity = new StringSetEntity();
+			entity.getStrings().add( "a" );
+			entity.getStrings().add( "b" );
+			entityManager.persist( entity );
+			setId = entity.getId();
+		} );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final StringSetEntity entity = entityManager.find( StringSetEntity.class, setId );
+			entity.getStrings().remove( "a" );
+			entity.getStrings().add( "c" );
+		} );
+
+		final List<Number> revisions = getAuditReader().getRevisions( StringSetEntity.class, setId );
+		assertThat( revisions ).hasSize( 2 );
+		assertThat( getAuditReader().find( StringSetEntity.class, setId, revisions.get( 0 ) ).getStrings() )
+				.isEqualTo( Set.of( "a", "b" ) );
+		assertThat( getAuditReader().find( StringSetEntity.class, setId, revisions.get( 1 ) ).getStrings() )
+				.isEqualTo( Set.of( "b", "c" ) );
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.performance;
+
+import java.util.Properties;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Ignore;
+
+/**
+ * Compares the time needed to read all entities at a revision from a large, generated audit table in H2,
+ * selecting the audit rows with a correlated subquery and with a window function.
+ *
+ * @see EnversSettings#USE_WINDOW_FUNCTION_REVISION_RESTRICTION
+ */
+@Ignore
+public class EntitiesAtRevisionQueryPerformance extends AbstractEntityManagerTest {
+	private static final int NUMBER_ENTITIES = 10_000;
+	private static final int NUMBER_REVISIONS = 100;
+	private static final int NUMBER_QUERIES = 5;
+
+	private boolean windowFunction;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class};
+	}
+
+	@Override
+	public void addConfigurationProperties(Properties configuration) {
+		configuration.setProperty(
+				EnversSettings.USE_WINDOW_FUNCTION_REVISION_RESTRICTION,
+				Boolean.toString( windowFunction )
+		);
+	}
+
+	private void generateAuditRows() {
+		final EntityManager entityManager = getEntityManager();
+		entityManager.getTransaction().begin();
+		entityManager.createNativeQuery(
+				"insert into REVINFO (REV, REVTSTMP) select x, x from system_range(1, " + NUMBER_REVISIONS + ")"
+		).executeUpdate();
+		// every entity is added in the first revision and modified in all the following ones
+		entityManager.createNativeQuery(
+				"insert into STR_TEST_AUD (id, REV, REVTYPE, str)"
+						+ " select e.x, r.x, case when r.x = 1 then 0 else 1 end, concat('s', r.x)"
+						+ " from system_range(1, " + NUMBER_ENTITIES + ") e, system_range(1, " + NUMBER_REVISIONS + ") r"
+		).executeUpdate();
+		entityManager.getTransaction().commit();
+	}
+
+	private long run() {
+		generateAuditRows();
+
+		long total = 0;
+		for ( int i = 0; i < NUMBER_QUERIES; i++ ) {
+			newEntityManager();
+			final long startTime = System.currentTimeMillis();
+			final int count = getAuditReader().createQuery()
+					.forEntitiesAtRevision( StrTestEntity.class, NUMBER_REVISIONS / 2 )
+					.getResultList()
+					.size();
+			total += System.currentTimeMillis() - startTime;
+			if ( count != NUMBER_ENTITIES ) {
+				throw new IllegalStateException( "Expected " + NUMBER_ENTITIES + " entities, but read " + count );
+			}
+		}
+		return total;
+	}
+
+	public void test() {
+		windowFunction = false;
+		init( true, null );
+		final long subquery = run();
+		close();
+
+		windowFunction = true;
+		init( true, null );
+		final long window = run();
+		close();
+
+		System.out.println( "Audit rows: " + ( NUMBER_ENTITIES * NUMBER_REVISIONS ) + ", queries: " + NUMBER_QUERIES );
+		System.out.println( "       Subquery: " + subquery + " ms" );
+		System.out.println( "Window function: " + window + " ms" );
+		System.out.println( "         Factor: " + (double) subquery / window );
+	}
+
+	public static void main(String[] args) {
+		new EntitiesAtRevisionQueryPerformance().test();
+	}
+}
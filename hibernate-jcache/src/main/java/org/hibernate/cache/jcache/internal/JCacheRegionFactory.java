@@ -68,7 +68,7 @@ public DomainDataRegion buildDomainDataRegion(
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				buildDomainDataStorageAccess( regionConfig, buildingContext ),
 				cacheKeysFactory,
 				buildingContext
 		);
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap;
+
+/**
+ * Settings for the off-heap {@link org.hibernate.cache.spi.RegionFactory}.
+ */
+public interface ConfigSettings {
+	String SIMPLE_FACTORY_NAME = "offheap";
+
+	String PROP_PREFIX = "hibernate.cache.offheap.";
+
+	/**
+	 * The maximum amount of off-heap memory, in bytes, used by each cache region.
+	 * When a region is full, its least recently written entries are evicted.
+	 * <p>
+	 * Default value is 64 MB.
+	 */
+	String MAX_REGION_SIZE = PROP_PREFIX + "max_region_size";
+
+	/**
+	 * The size, in bytes, of the off-heap memory segments allocated by each cache region.
+	 * Memory is allocated and evicted one segment at a time, and entries larger than a
+	 * segment are never cached.
+	 * <p>
+	 * Default value is 1 MB.
+	 */
+	String SEGMENT_SIZE = PROP_PREFIX + "segment_size";
+}
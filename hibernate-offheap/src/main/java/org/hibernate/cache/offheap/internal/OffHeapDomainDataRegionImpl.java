@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+
+/**
+ * A domain data region storing entity, collection and natural id data off-heap.
+ */
+public class OffHeapDomainDataRegionImpl extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+	private final OffHeapStore store;
+
+	public OffHeapDomainDataRegionImpl(
+			DomainDataRegionConfig regionConfig,
+			RegionFactoryTemplate regionFactory,
+			OffHeapStorageAccess storageAccess,
+			CacheKeysFactory defaultKeysFactory,
+			DomainDataRegionBuildingContext buildingContext) {
+		super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		this.store = storageAccess.getStore();
+	}
+
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.getElementCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return store.getLiveBytes();
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+
+/**
+ * A query results region storing the cached results off-heap.
+ */
+public class OffHeapQueryResultsRegionImpl extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+	private final OffHeapStore store;
+
+	public OffHeapQueryResultsRegionImpl(
+			String name,
+			RegionFactory regionFactory,
+			OffHeapStorageAccess storageAccess) {
+		super( name, regionFactory, storageAccess );
+		this.store = storageAccess.getStore();
+	}
+
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.getElementCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return store.getLiveBytes();
+	}
+}
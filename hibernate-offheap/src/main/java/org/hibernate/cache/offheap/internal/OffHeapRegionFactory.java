@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.entry.BinaryCacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.RegionNameQualifier;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} storing the cached entity,
+ * collection, natural id and query data in off-heap memory, keeping the
+ * second-level cache out of reach of the garbage collector.
+ * <p>
+ * Each region is backed by its own {@link OffHeapStore}, bounded by
+ * {@value ConfigSettings#MAX_REGION_SIZE}.
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_MAX_REGION_SIZE = 64 * 1024 * 1024;
+	public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+	private final CacheKeysFactory cacheKeysFactory;
+	private final Map<String, OffHeapStore> stores = new ConcurrentHashMap<>();
+
+	private volatile long maxRegionSize;
+	private volatile int segmentSize;
+	private volatile ClassLoader classLoader;
+	private volatile CacheEntrySerializer entrySerializer;
+
+	@SuppressWarnings("unused")
+	public OffHeapRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public OffHeapRegionFactory(CacheKeysFactory cacheKeysFactory) {
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	@Override
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return cacheKeysFactory;
+	}
+
+	/**
+	 * The store backing the region with the given unqualified name,
+	 * or {@code null} if there is no such region.
+	 */
+	public OffHeapStore getStore(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
+		return stores.get( qualify( unqualifiedRegionName, sessionFactory ) );
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegionImpl(
+				regionConfig,
+				this,
+				createStorageAccess( regionConfig.getRegionName(), buildingContext.getSessionFactory() ),
+				cacheKeysFactory,
+				buildingContext
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName(), buildingContext.getSessionFactory() );
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegionImpl(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName, sessionFactory );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapTimestampsRegionImpl(
+				regionName,
+				this,
+				createTimestampsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName, sessionFactory );
+	}
+
+	protected OffHeapStorageAccess createStorageAccess(
+			String unqualifiedRegionName,
+			SessionFactoryImplementor sessionFactory) {
+		final String qualifiedRegionName = qualify( unqualifiedRegionName, sessionFactory );
+		final OffHeapStore store = stores.computeIfAbsent(
+				qualifiedRegionName,
+				name -> new OffHeapStore(
+						name,
+						maxRegionSize,
+						segmentSize,
+						new ValueSerializer( classLoader, entrySerializer, sessionFactory )
+				)
+		);
+		return new OffHeapStorageAccess( store );
+	}
+
+	private static String qualify(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
+		return RegionNameQualifier.INSTANCE.qualify(
+				unqualifiedRegionName,
+				sessionFactory.getSessionFactoryOptions()
+		);
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Lifecycle
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		maxRegionSize = getLong( ConfigSettings.MAX_REGION_SIZE, configValues, DEFAULT_MAX_REGION_SIZE );
+		segmentSize = getInt( ConfigSettings.SEGMENT_SIZE, configValues, DEFAULT_SEGMENT_SIZE );
+		classLoader = settings.getServiceRegistry()
+				.requireService( ClassLoaderService.class )
+				.workWithClassLoader( loader -> loader );
+		entrySerializer = settings.getServiceRegistry()
+				.requireService( StrategySelector.class )
+				.resolveDefaultableStrategy(
+						CacheEntrySerializer.class,
+						configValues.get( CacheSettings.CACHE_ENTRY_SERIALIZER ),
+						BinaryCacheEntrySerializer.INSTANCE
+				);
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		for ( OffHeapStore store : stores.values() ) {
+			store.release();
+		}
+		stores.clear();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation wrapping an {@link OffHeapStore}.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final OffHeapStore store;
+
+	public OffHeapStorageAccess(OffHeapStore store) {
+		this.store = store;
+	}
+
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return store.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		store.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		store.remove( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		store.clear();
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void release() {
+		store.release();
+	}
+}
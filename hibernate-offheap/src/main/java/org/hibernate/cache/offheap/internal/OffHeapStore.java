@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A size-bounded key/value store keeping the serialized values in direct
+ * (off-heap) memory, so that cached data does not add to the GC load.
+ * <p>
+ * Memory is allocated in fixed-size segments. Values are appended to the
+ * current segment, and only a small slot pointing to the value remains on
+ * the heap. When the configured maximum number of segments is reached, the
+ * oldest segment is evicted as a whole, along with every entry written to
+ * it, and its memory is reused.
+ */
+public class OffHeapStore {
+	private static final Logger log = Logger.getLogger( OffHeapStore.class );
+
+	private final String name;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final ValueSerializer serializer;
+
+	private final ConcurrentHashMap<Object, Slot> index = new ConcurrentHashMap<>();
+
+	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
+	private final Lock readLock = reentrantReadWriteLock.readLock();
+	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+
+	// guarded by the write lock
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+	private final ArrayDeque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+	private Segment currentSegment;
+	private int allocatedSegments;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder liveBytes = new LongAdder();
+
+	public OffHeapStore(String name, long maxSize, int segmentSize, ValueSerializer serializer) {
+		if ( segmentSize <= 0 ) {
+			throw new IllegalArgumentException( "Segment size must be positive: " + segmentSize );
+		}
+		this.name = name;
+		this.segmentSize = segmentSize;
+		this.maxSegments = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxSize / segmentSize ) );
+		this.serializer = serializer;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Object get(Object key) {
+		final byte[] bytes;
+		readLock.lock();
+		try {
+			final Slot slot = index.get( key );
+			if ( slot == null ) {
+				missCount.increment();
+				return null;
+			}
+			bytes = new byte[slot.length];
+			slot.segment.buffer.get( slot.offset, bytes, 0, slot.length );
+		}
+		finally {
+			readLock.unlock();
+		}
+		hitCount.increment();
+		return serializer.deserialize( bytes );
+	}
+
+	public boolean contains(Object key) {
+		return index.containsKey( key );
+	}
+
+	public void put(Object key, Object value) {
+		final byte[] bytes = serializer.serialize( value );
+		if ( bytes == null || bytes.length > segmentSize ) {
+			// we can't store this value, make sure we don't return a stale one
+			log.debugf( "Value for key [%s] cannot be stored in off-heap region [%s]", key, name );
+			remove( key );
+			return;
+		}
+
+		writeLock.lock();
+		try {
+			final Segment segment = segmentWithCapacity( bytes.length );
+			final int offset = segment.position;
+			segment.buffer.put( offset, bytes );
+			segment.position += bytes.length;
+			segment.keys.add( key );
+			final Slot previous = index.put( key, new Slot( segment, offset, bytes.length ) );
+			if ( previous != null ) {
+				liveBytes.add( -previous.length );
+			}
+			liveBytes.add( bytes.length );
+			putCount.increment();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	public void remove(Object key) {
+		writeLock.lock();
+		try {
+			final Slot previous = index.remove( key );
+			if ( previous != null ) {
+				liveBytes.add( -previous.length );
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	public void clear() {
+		writeLock.lock();
+		try {
+			index.clear();
+			liveBytes.reset();
+			for ( Segment segment : segments ) {
+				freeBuffers.add( segment.buffer );
+			}
+			segments.clear();
+			currentSegment = null;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Release all off-heap memory held by this store.
+	 */
+	public void release() {
+		writeLock.lock();
+		try {
+			clear();
+			// the direct buffers are freed once they are garbage collected
+			freeBuffers.clear();
+			allocatedSegments = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private Segment segmentWithCapacity(int length) {
+		if ( currentSegment == null || segmentSize - currentSegment.position < length ) {
+			final ByteBuffer buffer;
+			if ( !freeBuffers.isEmpty() ) {
+				buffer = freeBuffers.poll();
+			}
+			else if ( allocatedSegments < maxSegments ) {
+				buffer = ByteBuffer.allocateDirect( segmentSize );
+				allocatedSegments++;
+			}
+			else {
+				buffer = evictOldestSegment();
+			}
+			currentSegment = new Segment( buffer );
+			segments.add( currentSegment );
+		}
+		return currentSegment;
+	}
+
+	private ByteBuffer evictOldestSegment() {
+		final Segment oldest = segments.poll();
+		assert oldest != null;
+		log.tracef( "Evicting %s entries from off-heap region [%s]", oldest.keys.size(), name );
+		for ( Object key : oldest.keys ) {
+			final Slot slot = index.get( key );
+			if ( slot != null && slot.segment == oldest ) {
+				index.remove( key );
+				liveBytes.add( -slot.length );
+				evictionCount.increment();
+			}
+		}
+		return oldest.buffer;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Statistics
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getPutCount() {
+		return putCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long getElementCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes taken by the live entries of this store.
+	 */
+	public long getLiveBytes() {
+		return liveBytes.sum();
+	}
+
+	/**
+	 * The number of bytes of off-heap memory allocated by this store.
+	 */
+	public long getAllocatedBytes() {
+		readLock.lock();
+		try {
+			return (long) allocatedSegments * segmentSize;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private static final class Segment {
+		private final ByteBuffer buffer;
+		private final List<Object> keys = new ArrayList<>();
+		private int position;
+
+		private Segment(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+	}
+
+	private record Slot(Segment segment, int offset, int length) {
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * Converts cached values to and from the bytes stored off-heap.
+ * <p>
+ * The values stored in the timestamps region, and simple values in general,
+ * are written using a compact tagged encoding. Entity cache entries, including
+ * those wrapped by a read-write {@linkplain AbstractReadWriteAccess.Item item},
+ * are written by the configured {@link CacheEntrySerializer}. Other values,
+ * including the disassembled state of collections, fall back to Java
+ * serialization.
+ */
+public class ValueSerializer {
+	private static final byte NULL = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte STRING = 3;
+	private static final byte TRUE = 4;
+	private static final byte FALSE = 5;
+	private static final byte SERIALIZED = 6;
+	private static final byte CACHE_ENTRY = 7;
+	private static final byte ITEM = 8;
+
+	private final ClassLoader classLoader;
+	private final CacheEntrySerializer entrySerializer;
+	private final SessionFactoryImplementor sessionFactory;
+
+	public ValueSerializer(
+			ClassLoader classLoader,
+			CacheEntrySerializer entrySerializer,
+			SessionFactoryImplementor sessionFactory) {
+		this.classLoader = classLoader;
+		this.entrySerializer = entrySerializer;
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Serialize the given value.
+	 *
+	 * @return the bytes representing the value, or {@code null}
+	 *         if the value cannot be serialized
+	 */
+	public byte[] serialize(Object value) {
+		if ( value == null ) {
+			return new byte[] { NULL };
+		}
+		else if ( value instanceof Long longValue ) {
+			final byte[] bytes = new byte[9];
+			bytes[0] = LONG;
+			writeLong( bytes, longValue );
+			return bytes;
+		}
+		else if ( value instanceof Integer intValue ) {
+			final byte[] bytes = new byte[5];
+			bytes[0] = INTEGER;
+			writeInt( bytes, intValue );
+			return bytes;
+		}
+		else if ( value instanceof Boolean booleanValue ) {
+			return new byte[] { booleanValue ? TRUE : FALSE };
+		}
+		else if ( value instanceof String string ) {
+			final byte[] chars = string.getBytes( StandardCharsets.UTF_8 );
+			final byte[] bytes = new byte[chars.length + 1];
+			bytes[0] = STRING;
+			System.arraycopy( chars, 0, bytes, 1, chars.length );
+			return bytes;
+		}
+		else if ( value instanceof CacheEntry entry && !entry.isReferenceEntry() ) {
+			final byte[] entryBytes = entrySerializer.serialize( entry, sessionFactory );
+			if ( entryBytes != null ) {
+				final byte[] bytes = new byte[entryBytes.length + 1];
+				bytes[0] = CACHE_ENTRY;
+				System.arraycopy( entryBytes, 0, bytes, 1, entryBytes.length );
+				return bytes;
+			}
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			final byte[] versionBytes = serialize( item.getVersion() );
+			final byte[] valueBytes = serialize( item.getValue() );
+			if ( versionBytes != null && valueBytes != null ) {
+				return ByteBuffer.allocate( 13 + versionBytes.length + valueBytes.length )
+						.put( ITEM )
+						.putLong( item.getTimestamp() )
+						.putInt( versionBytes.length )
+						.put( versionBytes )
+						.put( valueBytes )
+						.array();
+			}
+		}
+		return serializeFully( value );
+	}
+
+	private static byte[] serializeFully(Object value) {
+		if ( value instanceof Serializable serializable ) {
+			final ByteArrayOutputStream outputStream = new ByteArrayOutputStream( 512 );
+			outputStream.write( SERIALIZED );
+			SerializationHelper.serialize( serializable, outputStream );
+			return outputStream.toByteArray();
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Deserialize a value previously serialized by {@link #serialize}.
+	 */
+	public Object deserialize(byte[] bytes) {
+		return deserialize( bytes, 0, bytes.length );
+	}
+
+	private Object deserialize(byte[] bytes, int offset, int length) {
+		return switch ( bytes[offset] ) {
+			case NULL -> null;
+			case LONG -> readLong( bytes, offset + 1 );
+			case INTEGER -> readInt( bytes, offset + 1 );
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case STRING -> new String( bytes, offset + 1, length - 1, StandardCharsets.UTF_8 );
+			case SERIALIZED -> SerializationHelper.deserialize(
+					new ByteArrayInputStream( bytes, offset + 1, length - 1 ),
+					classLoader
+			);
+			case CACHE_ENTRY -> entrySerializer.deserialize(
+					Arrays.copyOfRange( bytes, offset + 1, offset + length ),
+					sessionFactory
+			);
+			case ITEM -> deserializeItem( bytes, offset, length );
+			default -> throw new IllegalStateException( "Unknown value tag: " + bytes[offset] );
+		};
+	}
+
+	private AbstractReadWriteAccess.Item deserializeItem(byte[] bytes, int offset, int length) {
+		final long timestamp = readLong( bytes, offset + 1 );
+		final int versionLength = readInt( bytes, offset + 9 );
+		final int versionOffset = offset + 13;
+		final int valueOffset = versionOffset + versionLength;
+		final Object value = deserialize( bytes, valueOffset, offset + length - valueOffset );
+		if ( value == null ) {
+			// a stale cache entry
+			return null;
+		}
+		final Object version = deserialize( bytes, versionOffset, versionLength );
+		return new AbstractReadWriteAccess.Item( value, version, timestamp );
+	}
+
+	private static void writeLong(byte[] bytes, long value) {
+		for ( int i = 8; i > 0; i-- ) {
+			bytes[i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		long value = 0;
+		for ( int i = offset; i < offset + 8; i++ ) {
+			value = ( value << 8 ) | ( bytes[i] & 0xFF );
+		}
+		return value;
+	}
+
+	private static void writeInt(byte[] bytes, int value) {
+		for ( int i = 4; i > 0; i-- ) {
+			bytes[i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		int value = 0;
+		for ( int i = offset; i < offset + 4; i++ ) {
+			value = ( value << 8 ) | ( bytes[i] & 0xFF );
+		}
+		return value;
+	}
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Hibernate caching provider storing second-level cache data in off-heap memory.
+ */
+package org.hibernate.cache.offheap;
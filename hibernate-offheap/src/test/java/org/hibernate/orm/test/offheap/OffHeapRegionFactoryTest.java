@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "offheap" ),
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = OffHeapRegionFactoryTest.Book.class )
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book #" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityCaching(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAll();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Book #1" ) );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Book #1" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		final CacheRegionStatistics regionStatistics =
+				statistics.getDomainDataRegionStatistics( Book.class.getName() );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAll();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( books ).hasSize( 10 );
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity( name = "Book" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.offheap;
+
+import org.hibernate.cache.offheap.internal.OffHeapStore;
+import org.hibernate.cache.offheap.internal.ValueSerializer;
+import org.hibernate.cache.spi.entry.BinaryCacheEntrySerializer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapStoreTest {
+
+	private static OffHeapStore store(long maxSize, int segmentSize) {
+		return new OffHeapStore( "test", maxSize, segmentSize, new ValueSerializer(
+				OffHeapStoreTest.class.getClassLoader(),
+				BinaryCacheEntrySerializer.INSTANCE,
+				null
+		) );
+	}
+
+	@Test
+	public void testPutAndGet() {
+		final OffHeapStore store = store( 4096, 1024 );
+		store.put( 1, 42L );
+		store.put( 2, "value" );
+		store.put( 3, new Object[] { 1, "two", 3.0d } );
+		store.put( 4, null );
+
+		assertThat( store.get( 1 ) ).isEqualTo( 42L );
+		assertThat( store.get( 2 ) ).isEqualTo( "value" );
+		assertThat( (Object[]) store.get( 3 ) ).containsExactly( 1, "two", 3.0d );
+		assertThat( store.contains( 4 ) ).isTrue();
+		assertThat( store.get( 5 ) ).isNull();
+
+		assertThat( store.getElementCount() ).isEqualTo( 4 );
+		assertThat( store.getHitCount() ).isEqualTo( 3 );
+		assertThat( store.getMissCount() ).isEqualTo( 1 );
+		assertThat( store.getPutCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testOverwriteAndRemove() {
+		final OffHeapStore store = store( 4096, 1024 );
+		store.put( 1, "first" );
+		store.put( 1, "second" );
+		assertThat( store.get( 1 ) ).isEqualTo( "second" );
+		assertThat( store.getElementCount() ).isEqualTo( 1 );
+
+		store.remove( 1 );
+		assertThat( store.get( 1 ) ).isNull();
+		assertThat( store.getLiveBytes() ).isZero();
+	}
+
+	@Test
+	public void testEvictionIsBounded() {
+		final OffHeapStore store = store( 4 * 128, 128 );
+		for ( long i = 0; i < 1000; i++ ) {
+			store.put( i, i );
+		}
+		assertThat( store.getAllocatedBytes() ).isEqualTo( 4 * 128 );
+		assertThat( store.getEvictionCount() ).isPositive();
+		assertThat( store.getElementCount() ).isLessThan( 1000 );
+		// the most recently written entries are still present
+		assertThat( store.get( 999L ) ).isEqualTo( 999L );
+		// the oldest entries were evicted
+		assertThat( store.get( 0L ) ).isNull();
+	}
+
+	@Test
+	public void testValueLargerThanSegmentIsNotCached() {
+		final OffHeapStore store = store( 4096, 16 );
+		store.put( 1, "short" );
+		store.put( 1, "a value which does not fit in a segment" );
+		assertThat( store.contains( 1 ) ).isFalse();
+	}
+
+	@Test
+	public void testClear() {
+		final OffHeapStore store = store( 4096, 1024 );
+		for ( int i = 0; i < 10; i++ ) {
+			store.put( i, "value" + i );
+		}
+		store.clear();
+		assertThat( store.getElementCount() ).isZero();
+		assertThat( store.get( 1 ) ).isNull();
+
+		store.put( 1, "again" );
+		assertThat( store.get( 1 ) ).isEqualTo( "again" );
+	}
+}
@@ -13,6 +13,7 @@
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.cache.spi.support.DomainDataRegionImpl;
@@ -57,12 +58,19 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				new MapStorageAccessImpl(),
+				buildDomainDataStorageAccess( regionConfig, buildingContext ),
 				cacheKeysFactory,
 				buildingContext
 		);
 	}
 
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new MapStorageAccessImpl();
+	}
+
 	@Override
 	protected StorageAccess createQueryResultsRegionStorageAccess(
 			String regionName,